@@ -0,0 +1,7 @@
+#!/bin/bash
+# Creates the replication role on the primary and allows it to connect.
+set -e
+psql -v ON_ERROR_STOP=1 --username "$POSTGRES_USER" --dbname "$POSTGRES_DB" <<-SQL
+	CREATE ROLE replicator WITH REPLICATION LOGIN PASSWORD 'replicator';
+SQL
+echo "host replication replicator all scram-sha-256" >> "$PGDATA/pg_hba.conf"
@@ -0,0 +1,11 @@
+#!/bin/bash
+# Clones the primary on first start, then runs as a hot standby.
+set -e
+if [ ! -s "$PGDATA/PG_VERSION" ]; then
+  until pg_basebackup -h db-primary -U replicator -D "$PGDATA" -X stream -R; do
+    echo "Waiting for primary..."
+    sleep 2
+  done
+  chmod 700 "$PGDATA"
+fi
+exec postgres
@@ -9,19 +9,23 @@ import Experience from './components/Experience';
 import Education from './components/Education';
 import Footer from './components/Footer';
 import { portfolioAPI } from './api/api';
+import { readEmbeddedData, discardEmbeddedData } from './utils/initialData';
 
 /**
  * Main App Component
  * Fetches and manages all portfolio data, distributing it to child components
  */
 function App() {
+  // Data embedded in the server pre-rendered page lets the first render skip the API calls
+  const [embedded] = useState(readEmbeddedData);
+
   // State management for portfolio data
-  const [profile, setProfile] = useState(null);
-  const [skills, setSkills] = useState([]);
-  const [projects, setProjects] = useState([]);
-  const [experiences, setExperiences] = useState([]);
-  const [education, setEducation] = useState([]);
-  const [loading, setLoading] = useState(true);
+  const [profile, setProfile] = useState(embedded?.profile ?? null);
+  const [skills, setSkills] = useState(embedded?.skills ?? []);
+  const [projects, setProjects] = useState(embedded?.projects ?? []);
+  const [experiences, setExperiences] = useState(embedded?.experiences ?? []);
+  const [education, setEducation] = useState(embedded?.education ?? []);
+  const [loading, setLoading] = useState(!embedded);
   const [error, setError] = useState(null);
 
   /**
@@ -40,6 +44,9 @@ function App() {
    * Uses Promise.all for parallel API calls to improve performance
    */
   useEffect(() => {
+    discardEmbeddedData();
+    if (embedded) return;
+
     const fetchData = async () => {
       try {
         setLoading(true);
@@ -69,7 +76,7 @@ function App() {
     };
 
     fetchData();
-  }, []);
+  }, [embedded]);
 
   // Modern Loading Screen
   if (loading) {
@@ -3,6 +3,7 @@ import { AuthContext } from '../../context/AuthContext';
 import EducationForm from "../../components/forms/EducationForm";
 import { Edit2, Trash2, Plus } from 'lucide-react';
 import { API_CONFIG } from '../../constants';
+import { ifMatch } from '../../utils/concurrency';
 
 /**
  * EducationEditor - Admin page for managing education
@@ -82,7 +83,8 @@ function EducationEditor() {
           method: 'PUT',
           headers: {
             'Content-Type': 'application/json',
-            'Authorization': `Bearer ${authContext.token}`
+            'Authorization': `Bearer ${authContext.token}`,
+            ...ifMatch(editingEducation)
           },
           body: JSON.stringify(formData),
         }
@@ -114,7 +116,10 @@ function EducationEditor() {
         `${API_CONFIG.BASE_URL}/education/${id}`,
         {
           method: 'DELETE',
-          headers: { 'Authorization': `Bearer ${authContext.token}` }
+          headers: {
+            'Authorization': `Bearer ${authContext.token}`,
+            ...ifMatch(educations.find(e => e.id === id))
+          }
         }
       );
       if (response.ok) {
@@ -3,6 +3,7 @@ import { AuthContext } from '../../context/AuthContext';
 import ExperienceForm from '../../components/forms/ExperienceForm';
 import { Edit2, Trash2, Plus } from 'lucide-react';
 import { API_CONFIG } from '../../constants';
+import { ifMatch } from '../../utils/concurrency';
 
 /**
  * ExperienceEditor - Admin page for managing experiences
@@ -99,7 +100,8 @@ function ExperienceEditor() {
           method: 'PUT',
           headers: {
             'Content-Type': 'application/json',
-            'Authorization': `Bearer ${authContext.token}`
+            'Authorization': `Bearer ${authContext.token}`,
+            ...ifMatch(editingExperience)
           },
           body: JSON.stringify(formData),
         }
@@ -131,7 +133,10 @@ function ExperienceEditor() {
         `${API_CONFIG.BASE_URL}/experience/${id}`,
         {
           method: 'DELETE',
-          headers: { 'Authorization': `Bearer ${authContext.token}` }
+          headers: {
+            'Authorization': `Bearer ${authContext.token}`,
+            ...ifMatch(experiences.find(e => e.id === id))
+          }
         }
       );
       if (response.ok) {
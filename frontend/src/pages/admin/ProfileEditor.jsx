@@ -2,6 +2,7 @@ import { useState, useEffect, useContext } from 'react';
 import { AuthContext } from '../../context/AuthContext';
 import ProfileForm from '../../components/forms/ProfileForm';
 import { API_CONFIG } from '../../constants';
+import { ifMatch } from '../../utils/concurrency';
 
 /**
  * ProfileEditor - Admin page for editing profile
@@ -51,7 +52,8 @@ function ProfileEditor() {
           method: 'PUT',
           headers: {
             'Content-Type': 'application/json',
-            'Authorization': `Bearer ${authContext.token}`
+            'Authorization': `Bearer ${authContext.token}`,
+            ...ifMatch(profile)
           },
           body: JSON.stringify(formData),
         }
@@ -3,6 +3,7 @@ import { AuthContext } from '../../context/AuthContext';
 import ProjectForm from '../../components/forms/ProjectForm';
 import { Edit2, Trash2, Plus } from 'lucide-react';
 import { API_CONFIG } from '../../constants';
+import { ifMatch } from '../../utils/concurrency';
 
 /**
  * ProjectsEditor - Admin page for managing projects
@@ -82,7 +83,8 @@ function ProjectsEditor() {
           method: 'PUT',
           headers: {
             'Content-Type': 'application/json',
-            'Authorization': `Bearer ${authContext.token}`
+            'Authorization': `Bearer ${authContext.token}`,
+            ...ifMatch(editingProject)
           },
           body: JSON.stringify(formData),
         }
@@ -114,7 +116,10 @@ function ProjectsEditor() {
         `${API_CONFIG.BASE_URL}/projects/${id}`,
         {
           method: 'DELETE',
-          headers: { 'Authorization': `Bearer ${authContext.token}` }
+          headers: {
+            'Authorization': `Bearer ${authContext.token}`,
+            ...ifMatch(projects.find(p => p.id === id))
+          }
         }
       );
       if (response.ok) {
@@ -3,6 +3,7 @@ import { AuthContext } from '../../context/AuthContext';
 import SkillForm from '../../components/forms/SkillForm';
 import { Edit2, Trash2, Plus } from 'lucide-react';
 import { API_CONFIG } from '../../constants';
+import { ifMatch } from '../../utils/concurrency';
 
 /**
  * SkillsEditor - Admin page for managing skills
@@ -82,7 +83,8 @@ function SkillsEditor() {
           method: 'PUT',
           headers: {
             'Content-Type': 'application/json',
-            'Authorization': `Bearer ${authContext.token}`
+            'Authorization': `Bearer ${authContext.token}`,
+            ...ifMatch(editingSkill)
           },
           body: JSON.stringify(formData),
         }
@@ -114,7 +116,10 @@ function SkillsEditor() {
         `${API_CONFIG.BASE_URL}/skills/${id}`,
         {
           method: 'DELETE',
-          headers: { 'Authorization': `Bearer ${authContext.token}` }
+          headers: {
+            'Authorization': `Bearer ${authContext.token}`,
+            ...ifMatch(skills.find(s => s.id === id))
+          }
         }
       );
       if (response.ok) {
@@ -0,0 +1,11 @@
+/**
+ * Optimistic concurrency helpers for admin writes
+ */
+
+/**
+ * If-Match header naming the version of a record as it was loaded,
+ * so the server rejects the write (412) if someone changed the record since
+ * @param {Object} record - Record with a version, as returned by the API
+ * @returns {Object} Header entry to spread into fetch headers
+ */
+export const ifMatch = (record) => ({ 'If-Match': `"${record?.version}"` });
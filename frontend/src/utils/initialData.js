@@ -0,0 +1,28 @@
+/**
+ * Utilities for portfolio data embedded by the server's pre-rendered HTML
+ */
+
+const DATA_ELEMENT_ID = 'portfolio-data';
+
+/**
+ * Reads the embedded portfolio data
+ * @returns {Object|null} { profile, skills, projects, experiences, education } or null
+ */
+export const readEmbeddedData = () => {
+  const element = document.getElementById(DATA_ELEMENT_ID);
+  if (!element) return null;
+
+  try {
+    return JSON.parse(element.textContent);
+  } catch (err) {
+    console.error('Ignoring malformed embedded portfolio data:', err);
+    return null;
+  }
+};
+
+/**
+ * Removes the embedded data so later mounts (e.g. after admin edits) fetch fresh data
+ */
+export const discardEmbeddedData = () => {
+  document.getElementById(DATA_ELEMENT_ID)?.remove();
+};
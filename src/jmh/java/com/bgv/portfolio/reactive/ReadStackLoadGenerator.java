@@ -0,0 +1,100 @@
+package com.bgv.portfolio.reactive;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Side-by-side load test of the servlet API and the reactive read API.
+ * Each of {@code connections} clients keeps its own keep-alive connection, issues a GET,
+ * reads the body slowly (a pause per received chunk) and thinks before the next request,
+ * which is how many slow mobile clients look to the server. Both applications must be
+ * running against the same data; targets are measured one after the other.
+ * <p>
+ * gradle benchReadStacks -Pbench.connections=2000 -Pbench.path=/api/experience
+ */
+public final class ReadStackLoadGenerator {
+
+    private ReadStackLoadGenerator() {
+    }
+
+    public static void main(String[] args) {
+        String[] targets = System.getProperty("bench.targets", "http://localhost:8080,http://localhost:8081").split(",");
+        String path = System.getProperty("bench.path", "/api/experience");
+        int connections = Integer.getInteger("bench.connections", 1000);
+        Duration duration = Duration.ofSeconds(Long.getLong("bench.seconds", 30L));
+        Duration think = Duration.ofMillis(Long.getLong("bench.think-ms", 200L));
+        Duration chunkDelay = Duration.ofMillis(Long.getLong("bench.chunk-delay-ms", 20L));
+
+        System.out.printf("%d clients, GET %s, %ds per target, think %dms, %dms per received chunk%n",
+                connections, path, duration.toSeconds(), think.toMillis(), chunkDelay.toMillis());
+        System.out.printf("%-28s %10s %8s %10s %9s %9s %9s%n", "target", "requests", "errors", "req/s", "p50 ms", "p99 ms", "max ms");
+        for (String target : targets) {
+            Result result = run(target.trim() + path, connections, duration, think, chunkDelay);
+            System.out.printf("%-28s %10d %8d %10.1f %9.1f %9.1f %9.1f%n", target.trim(), result.requests, result.errors,
+                    result.requests / (double) duration.toSeconds(), result.percentile(0.50), result.percentile(0.99),
+                    result.percentile(1.0));
+        }
+    }
+
+    private static Result run(String url, int connections, Duration duration, Duration think, Duration chunkDelay) {
+        ConnectionProvider pool = ConnectionProvider.builder("read-stack-bench")
+                .maxConnections(connections)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        LoopResources loops = LoopResources.create("read-stack-bench");
+        HttpClient client = HttpClient.create(pool).runOn(loops).responseTimeout(Duration.ofSeconds(30));
+        long deadline = System.nanoTime() + duration.toNanos();
+        AtomicLong errors = new AtomicLong();
+        ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+
+        Flux.range(0, connections)
+                .flatMap(clientIndex -> Flux.defer(() -> request(client, url, chunkDelay))
+                        .doOnNext(latencies::add)
+                        .onErrorResume(e -> {
+                            errors.incrementAndGet();
+                            return Mono.empty();
+                        })
+                        .then(Mono.delay(think))
+                        .repeat(() -> System.nanoTime() < deadline), connections)
+                .blockLast();
+
+        pool.dispose();
+        loops.dispose();
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        return new Result(sorted.length, errors.get(), sorted);
+    }
+
+    private static Mono<Long> request(HttpClient client, String url, Duration chunkDelay) {
+        long start = System.nanoTime();
+        return client.get().uri(url)
+                .responseConnection((response, connection) -> {
+                    if (!HttpResponseStatus.OK.equals(response.status())) {
+                        return Mono.error(new IllegalStateException("HTTP " + response.status().code()));
+                    }
+                    return connection.inbound().receive().retain()
+                            .limitRate(1)
+                            .concatMap(chunk -> Mono.delay(chunkDelay).doFinally(signal -> chunk.release()))
+                            .then(Mono.fromSupplier(() -> System.nanoTime() - start));
+                })
+                .single();
+    }
+
+    private record Result(long requests, long errors, long[] latenciesNanos) {
+
+        double percentile(double p) {
+            if (latenciesNanos.length == 0) {
+                return Double.NaN;
+            }
+            int index = (int) Math.min(latenciesNanos.length - 1, Math.ceil(p * latenciesNanos.length) - 1);
+            return latenciesNanos[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.bgv.portfolio.serialization;
+
+import com.bgv.portfolio.dto.ApiResponse;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.exc.InvalidDefinitionException;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageConversionException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JSON converter that writes {@link ApiResponse} bodies with one prebuilt
+ * {@link ObjectWriter} per declared response type, straight into the response
+ * stream. The stock converter builds a new writer and resolves the root
+ * serializer on every call. Everything else is delegated to it unchanged.
+ * <p>
+ * Kept here as the candidate {@link ApiResponseSerializationBenchmark} measures, not used by the
+ * application: it matched the stock converter's throughput and saved only a few hundred bytes
+ * of garbage per response.
+ */
+public class ApiResponseHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final Map<Type, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    public ApiResponseHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(@NonNull Object object, @Nullable Type type, @NonNull HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        if (!(object instanceof ApiResponse<?>)) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+
+        ObjectWriter writer = writers.computeIfAbsent(type != null ? type : ApiResponse.class, this::createWriter);
+        JsonEncoding encoding = getJsonEncoding(outputMessage.getHeaders().getContentType());
+        OutputStream body = StreamUtils.nonClosing(outputMessage.getBody());
+        try (JsonGenerator generator = getObjectMapper().getFactory().createGenerator(body, encoding)) {
+            writer.writeValue(generator, object);
+            generator.flush();
+        } catch (InvalidDefinitionException e) {
+            throw new HttpMessageConversionException("Type definition error: " + e.getType(), e);
+        } catch (JsonProcessingException e) {
+            throw new HttpMessageNotWritableException("Could not write JSON: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    private ObjectWriter createWriter(Type type) {
+        JavaType javaType = getJavaType(type, null);
+        return getObjectMapper().writerFor(javaType);
+    }
+}
@@ -0,0 +1,127 @@
+package com.bgv.portfolio.serialization;
+
+import com.bgv.portfolio.dto.ApiResponse;
+import com.bgv.portfolio.dto.ExperienceDTO;
+import com.bgv.portfolio.dto.ProjectDTO;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes the experience list response (8 experiences, 4 projects each) through Boot's stock
+ * Jackson converter and through {@link ApiResponseHttpMessageConverter}, the same way Spring MVC
+ * calls them for a controller returning {@code ResponseEntity<ApiResponse<List<ExperienceDTO>>>}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ApiResponseSerializationBenchmark {
+
+    private static final Type RESPONSE_TYPE = new TypeReference<ApiResponse<List<ExperienceDTO>>>() { }.getType();
+
+    private MappingJackson2HttpMessageConverter stock;
+    private MappingJackson2HttpMessageConverter cached;
+    private ApiResponse<List<ExperienceDTO>> response;
+    private final Body body = new Body();
+
+    @Setup
+    public void setUp() {
+        // Boot's ObjectMapper: the builder registers the java.time module and disables date timestamps
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+        stock = new MappingJackson2HttpMessageConverter(mapper);
+        cached = new ApiResponseHttpMessageConverter(mapper);
+        response = ApiResponse.success(experiences(8, 4));
+    }
+
+    @Benchmark
+    public int stockConverter() throws IOException {
+        body.reset();
+        stock.write(response, RESPONSE_TYPE, MediaType.APPLICATION_JSON, body);
+        return body.size();
+    }
+
+    @Benchmark
+    public int cachedWriterConverter() throws IOException {
+        body.reset();
+        cached.write(response, RESPONSE_TYPE, MediaType.APPLICATION_JSON, body);
+        return body.size();
+    }
+
+    private static List<ExperienceDTO> experiences(int count, int projectsEach) {
+        List<ExperienceDTO> experiences = new ArrayList<>(count);
+        long projectId = 1;
+        for (int i = 1; i <= count; i++) {
+            Set<ProjectDTO> projects = new LinkedHashSet<>();
+            for (int p = 0; p < projectsEach; p++, projectId++) {
+                projects.add(ProjectDTO.builder()
+                        .id(projectId)
+                        .version(2L)
+                        .name("Project " + projectId)
+                        .description("Built a distributed ingestion pipeline handling 40k events/s with exactly-once "
+                                + "delivery, replacing a nightly batch job and cutting data latency from hours to seconds.")
+                        .githubUrl("https://github.com/example/project-" + projectId)
+                        .techStack("Java, Spring Boot, Kafka, PostgreSQL")
+                        .highlight(List.of("Reduced p99 latency by 60%", "Zero-downtime migration", "On-call runbooks"))
+                        .build());
+            }
+            experiences.add(ExperienceDTO.builder()
+                    .id((long) i)
+                    .version(1L)
+                    .company("Company " + i)
+                    .role("Senior Software Engineer")
+                    .duration("Jan 2020 - Present")
+                    .description("Led the platform team; owned the public API, the data model and the release process.")
+                    .projects(projects)
+                    .build());
+        }
+        return experiences;
+    }
+
+    /**
+     * A response body kept in memory and reused across invocations.
+     */
+    private static final class Body implements HttpOutputMessage {
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+        private final HttpHeaders headers = new HttpHeaders();
+
+        void reset() {
+            out.reset();
+            headers.clear();
+        }
+
+        int size() {
+            return out.size();
+        }
+
+        @Override
+        public OutputStream getBody() {
+            return out;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
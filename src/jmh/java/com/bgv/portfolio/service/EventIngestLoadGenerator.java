@@ -0,0 +1,133 @@
+package com.bgv.portfolio.service;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.ByteBufFlux;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+import java.time.Duration;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Load test of POST /api/events and its effect on public reads.
+ * Read latency is measured twice: alone, then while {@code beacons} clients post batches of
+ * {@code batch} events back to back. The application must be running with a database, and with
+ * {@code --events.client-rate-per-second} raised, since every beacon comes from one address.
+ * <p>
+ * gradle benchEvents -Pbench.target=http://localhost:8080 -Pbench.beacons=16 -Pbench.batch=100
+ */
+public final class EventIngestLoadGenerator {
+
+    private static final Pattern DROPPED = Pattern.compile("\"dropped\":(\\d+)");
+
+    private EventIngestLoadGenerator() {
+    }
+
+    public static void main(String[] args) {
+        String target = System.getProperty("bench.target", "http://localhost:8080");
+        String readPath = System.getProperty("bench.path", "/api/profile");
+        int beacons = Integer.getInteger("bench.beacons", 16);
+        int batch = Integer.getInteger("bench.batch", 100);
+        int readers = Integer.getInteger("bench.readers", 4);
+        Duration duration = Duration.ofSeconds(Long.getLong("bench.seconds", 30L));
+        Duration think = Duration.ofMillis(Long.getLong("bench.think-ms", 10L));
+
+        ConnectionProvider pool = ConnectionProvider.builder("event-bench")
+                .maxConnections(beacons + readers)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        LoopResources loops = LoopResources.create("event-bench");
+        HttpClient client = HttpClient.create(pool).runOn(loops).baseUrl(target).responseTimeout(Duration.ofSeconds(30));
+        String body = batchBody(batch);
+
+        System.out.printf("%d readers GET %s (think %dms), %d beacons POST /api/events x%d, %ds per phase%n",
+                readers, readPath, think.toMillis(), beacons, batch, duration.toSeconds());
+        System.out.printf("%-12s %12s %10s %10s %9s %9s %9s%n", "phase", "events/s", "dropped", "reads", "p50 ms", "p99 ms", "max ms");
+        print("reads only", 0, 0, duration, reads(client, readPath, readers, think, deadline(duration)).block());
+
+        long deadline = deadline(duration);
+        AtomicLong sent = new AtomicLong();
+        AtomicLong dropped = new AtomicLong();
+        Mono<Void> ingest = Flux.range(0, beacons)
+                .flatMap(beacon -> Flux.defer(() -> post(client, body))
+                        .doOnNext(response -> {
+                            sent.addAndGet(batch);
+                            Matcher matcher = DROPPED.matcher(response);
+                            if (matcher.find()) {
+                                dropped.addAndGet(Long.parseLong(matcher.group(1)));
+                            }
+                        })
+                        .onErrorResume(e -> Mono.empty())
+                        .repeat(() -> System.nanoTime() < deadline), beacons)
+                .then();
+        Mono<Reads> withEvents = reads(client, readPath, readers, think, deadline);
+        Reads underLoad = Mono.zip(ingest.thenReturn(true), withEvents).map(result -> result.getT2()).block();
+        print("with events", sent.get(), dropped.get(), duration, underLoad);
+
+        pool.dispose();
+        loops.dispose();
+    }
+
+    private static long deadline(Duration duration) {
+        return System.nanoTime() + duration.toNanos();
+    }
+
+    private static String batchBody(int batch) {
+        StringJoiner events = new StringJoiner(",", "{\"events\":[", "]}");
+        for (int i = 0; i < batch; i++) {
+            events.add("{\"type\":\"view\",\"entityType\":\"project\",\"entityId\":" + (i % 10 + 1)
+                    + ",\"path\":\"/projects/" + (i % 10 + 1) + "\"}");
+        }
+        return events.toString();
+    }
+
+    private static Mono<String> post(HttpClient client, String body) {
+        return client.headers(headers -> headers.set(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON))
+                .post().uri("/api/events")
+                .send(ByteBufFlux.fromString(Mono.just(body)))
+                .responseSingle((response, content) -> HttpResponseStatus.ACCEPTED.equals(response.status())
+                        ? content.asString()
+                        : Mono.error(new IllegalStateException("HTTP " + response.status().code())));
+    }
+
+    private static Mono<Reads> reads(HttpClient client, String path, int readers, Duration think, long deadline) {
+        ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        return Flux.range(0, readers)
+                .flatMap(reader -> Flux.defer(() -> {
+                            long start = System.nanoTime();
+                            return client.get().uri(path)
+                                    .responseSingle((response, content) -> content.asByteArray())
+                                    .map(bytes -> System.nanoTime() - start);
+                        })
+                        .doOnNext(latencies::add)
+                        .onErrorResume(e -> Mono.empty())
+                        .then(Mono.delay(think))
+                        .repeat(() -> System.nanoTime() < deadline), readers)
+                .then(Mono.fromSupplier(() -> new Reads(latencies.stream().mapToLong(Long::longValue).sorted().toArray())));
+    }
+
+    private static void print(String phase, long events, long dropped, Duration duration, Reads reads) {
+        System.out.printf("%-12s %12.1f %10d %10d %9.2f %9.2f %9.2f%n", phase, events / (double) duration.toSeconds(),
+                dropped, reads.latenciesNanos.length, reads.percentile(0.50), reads.percentile(0.99), reads.percentile(1.0));
+    }
+
+    private record Reads(long[] latenciesNanos) {
+
+        double percentile(double p) {
+            if (latenciesNanos.length == 0) {
+                return Double.NaN;
+            }
+            int index = (int) Math.min(latenciesNanos.length - 1, Math.ceil(p * latenciesNanos.length) - 1);
+            return latenciesNanos[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+}
@@ -1,13 +1,33 @@
 package com.bgv.portfolio;
 
 import org.springframework.boot.SpringApplication;
-import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationExcludeFilter;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.context.TypeExcludeFilter;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
 
-@SpringBootApplication
+// The reactive read-only API (com.bgv.portfolio.reactive) is a separate application with its own R2DBC setup
+@SpringBootConfiguration
+@EnableAutoConfiguration(exclude = R2dbcAutoConfiguration.class)
+@ComponentScan(excludeFilters = {
+		@ComponentScan.Filter(type = FilterType.CUSTOM, classes = TypeExcludeFilter.class),
+		@ComponentScan.Filter(type = FilterType.CUSTOM, classes = AutoConfigurationExcludeFilter.class),
+		@ComponentScan.Filter(type = FilterType.REGEX, pattern = "com\\.bgv\\.portfolio\\.reactive\\..*") })
 public class PortfolioApplication {
 
+	private static final int STARTUP_STEP_CAPACITY = 4096;
+
 	public static void main(String[] args) {
-		SpringApplication.run(PortfolioApplication.class, args);
+		SpringApplication application = new SpringApplication(PortfolioApplication.class);
+		// Record the startup-step timeline (bean instantiation, JPA, security...) when profiling is on
+		if (Boolean.parseBoolean(System.getProperty("startup.profiling", System.getenv("STARTUP_PROFILING")))) {
+			application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+		}
+		application.run(args);
 	}
 
 }
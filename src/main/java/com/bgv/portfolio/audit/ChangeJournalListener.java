@@ -0,0 +1,193 @@
+package com.bgv.portfolio.audit;
+
+import com.bgv.portfolio.enums.ChangeOperation;
+import com.bgv.portfolio.enums.EntityType;
+import com.bgv.portfolio.model.*;
+import com.bgv.portfolio.security.SecurityUtils;
+import com.bgv.portfolio.service.ChangeJournalService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.hibernate.type.Type;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Feeds the change journal from Hibernate post-commit events for every
+ * {@link AuditFields} entity. Computes a field-level diff on the request thread
+ * (cheap, in-memory) and hands it to {@link ChangeJournalService} without blocking.
+ * <p>
+ * Registered as a Hibernate {@link Integrator} while the session factory is built (see
+ * {@code JpaConfig}), so nothing waits for the EntityManagerFactory when JPA bootstraps in
+ * the background. The journal service is looked up on first use because it needs the
+ * EntityManagerFactory itself.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChangeJournalListener implements Integrator, PostCommitInsertEventListener,
+        PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private static final Set<String> AUDIT_PROPERTIES = Set.of("createdAt", "updatedAt", "createdBy", "updatedBy", "version");
+    private static final String ROW_JOURNAL_SUSPENDED = ChangeJournalListener.class.getName() + ".suspended";
+
+    private final ObjectProvider<ChangeJournalService> changeJournalService;
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+        log.debug("Change journal listener registered");
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        // Listeners go away with the session factory
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof AuditFields entity) {
+            Map<String, Object> changes = diff(event.getPersister(), null, event.getState(), null);
+            record(entity, event.getId(), ChangeOperation.CREATED, changes);
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof AuditFields entity) {
+            Map<String, Object> changes = diff(event.getPersister(), event.getOldState(), event.getState(), event.getDirtyProperties());
+            record(entity, event.getId(), ChangeOperation.UPDATED, changes);
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof AuditFields entity) {
+            Map<String, Object> changes = diff(event.getPersister(), event.getDeletedState(), null, null);
+            record(entity, event.getId(), ChangeOperation.DELETED, changes);
+        }
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // Rolled back - nothing to journal
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // Rolled back - nothing to journal
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // Rolled back - nothing to journal
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        // Asked for each statement as it executes; a "no" also stops Hibernate from keeping the row until commit
+        return AuditFields.class.isAssignableFrom(persister.getMappedClass())
+                && !TransactionSynchronizationManager.hasResource(ROW_JOURNAL_SUSPENDED);
+    }
+
+    /**
+     * Stops journaling rows written by the current transaction from here on; statements already
+     * flushed are still journaled. For bulk writes (resume import), where holding every row until
+     * commit would make memory grow with the data, and the caller journals a summary instead.
+     */
+    public static void suspendForCurrentTransaction() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(ROW_JOURNAL_SUSPENDED)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(ROW_JOURNAL_SUSPENDED, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ROW_JOURNAL_SUSPENDED);
+            }
+        });
+    }
+
+    private void record(AuditFields entity, Object id, ChangeOperation operation, Map<String, Object> changes) {
+        EntityType type = entityType(entity);
+        if (type == null) {
+            return;
+        }
+        Long entityId = id instanceof Number number ? number.longValue() : null;
+        changeJournalService.getObject().record(type, entityId, operation, entity.getVersion(), SecurityUtils.currentUsername(), changes);
+    }
+
+    /**
+     * Builds {field: {from, to}} for changed scalar properties.
+     * Associations and audit bookkeeping columns are skipped.
+     */
+    private Map<String, Object> diff(EntityPersister persister, Object[] oldState, Object[] newState, int[] dirtyProperties) {
+        String[] names = persister.getPropertyNames();
+        Type[] types = persister.getPropertyTypes();
+        Map<String, Object> changes = new LinkedHashMap<>();
+        if (dirtyProperties != null) {
+            for (int i : dirtyProperties) {
+                addChange(changes, names[i], types[i], oldState != null ? oldState[i] : null, newState[i]);
+            }
+            return changes;
+        }
+        for (int i = 0; i < names.length; i++) {
+            Object from = oldState != null ? oldState[i] : null;
+            Object to = newState != null ? newState[i] : null;
+            if (from != null || to != null) {
+                addChange(changes, names[i], types[i], from, to);
+            }
+        }
+        return changes;
+    }
+
+    private void addChange(Map<String, Object> changes, String name, Type type, Object from, Object to) {
+        if (AUDIT_PROPERTIES.contains(name) || type.isAssociationType() || Objects.equals(from, to)) {
+            return;
+        }
+        Map<String, Object> change = new LinkedHashMap<>(2);
+        change.put("from", snapshot(from));
+        change.put("to", snapshot(to));
+        changes.put(name, change);
+    }
+
+    private Object snapshot(Object value) {
+        // Copy collections so later mutation of the entity cannot alter the queued diff
+        return value instanceof Collection<?> collection ? new ArrayList<>(collection) : value;
+    }
+
+    private EntityType entityType(AuditFields entity) {
+        if (entity instanceof Profile) return EntityType.PROFILE;
+        if (entity instanceof Skill) return EntityType.SKILL;
+        if (entity instanceof Project) return EntityType.PROJECT;
+        if (entity instanceof Experience) return EntityType.EXPERIENCE;
+        if (entity instanceof Education) return EntityType.EDUCATION;
+        return null;
+    }
+}
@@ -0,0 +1,91 @@
+package com.bgv.portfolio.bootstrap;
+
+import com.bgv.portfolio.dto.ImportStatusDTO;
+import com.bgv.portfolio.enums.EntityType;
+import com.bgv.portfolio.enums.ImportState;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Live progress of one resume import. Written by the importing thread, read by status requests.
+ */
+public class ImportProgress {
+
+    private final Instant startedAt = Instant.now();
+    private final Long totalBytes;
+    private final AtomicLong bytesRead = new AtomicLong();
+    private final AtomicLongArray records = new AtomicLongArray(EntityType.values().length);
+    private volatile ImportState state = ImportState.RUNNING;
+    private volatile Instant finishedAt;
+    private volatile String error;
+
+    /**
+     * @param totalBytes size of the document, or null if unknown (e.g. chunked uploads)
+     */
+    public ImportProgress(Long totalBytes) {
+        this.totalBytes = totalBytes;
+    }
+
+    public boolean isRunning() {
+        return state == ImportState.RUNNING;
+    }
+
+    public long getRecordCount() {
+        long total = 0;
+        for (int i = 0; i < records.length(); i++) {
+            total += records.get(i);
+        }
+        return total;
+    }
+
+    public long getBytesRead() {
+        return bytesRead.get();
+    }
+
+    public Long getTotalBytes() {
+        return totalBytes;
+    }
+
+    void recordImported(EntityType type) {
+        records.incrementAndGet(type.ordinal());
+    }
+
+    void bytesRead(long bytes) {
+        bytesRead.set(bytes);
+    }
+
+    void completed() {
+        if (isRunning()) {
+            finishedAt = Instant.now();
+            state = ImportState.COMPLETED;
+        }
+    }
+
+    void failed(String reason) {
+        if (isRunning()) {
+            error = reason;
+            finishedAt = Instant.now();
+            state = ImportState.FAILED;
+        }
+    }
+
+    public ImportStatusDTO toDto() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (EntityType type : EntityType.values()) {
+            counts.put(type.getValue(), records.get(type.ordinal()));
+        }
+        return ImportStatusDTO.builder()
+                .state(state)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .bytesRead(bytesRead.get())
+                .totalBytes(totalBytes)
+                .records(counts)
+                .error(error)
+                .build();
+    }
+}
@@ -1,22 +1,29 @@
 package com.bgv.portfolio.bootstrap;
 
-import com.bgv.portfolio.model.*;
+import com.bgv.portfolio.audit.ChangeJournalListener;
+import com.bgv.portfolio.dto.ImportStatusDTO;
+import com.bgv.portfolio.dto.ReloadSummaryDTO;
+import com.bgv.portfolio.enums.ChangeOperation;
+import com.bgv.portfolio.enums.EntityType;
+import com.bgv.portfolio.event.PortfolioChangeEvent;
 import com.bgv.portfolio.repository.*;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.bgv.portfolio.security.SecurityUtils;
+import com.bgv.portfolio.service.ChangeJournalService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.io.IOException;
 import java.io.InputStream;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.List;
+import java.util.EnumMap;
 import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Service
 @Slf4j
@@ -28,7 +35,12 @@ public class ResumeDataService {
     private final ProjectRepository projectRepository;
     private final ExperienceRepository experienceRepository;
     private final EducationRepository educationRepository;
-    private final ObjectMapper objectMapper;
+    private final ResumeImporter resumeImporter;
+    private final ResumeReconciler resumeReconciler;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChangeJournalService changeJournalService;
+
+    private final AtomicReference<ImportProgress> lastUpload = new AtomicReference<>();
 
     public void importIfEmpty() throws Exception {
         if (profileRepository.count() == 0) {
@@ -36,155 +48,107 @@ public class ResumeDataService {
         }
     }
 
+    /**
+     * Brings the data in line with the bundled resume.json, writing only the rows that differ from it.
+     *
+     * @return what the reload wrote
+     */
     @Transactional
-    public void forceImportFromClasspath() throws Exception {
-        clearAll();
-        importFromClasspath();
+    public ReloadSummaryDTO reloadFromClasspath() throws IOException {
+        try (InputStream in = new ClassPathResource("resume.json").getInputStream()) {
+            return resumeReconciler.reconcile(resumeImporter.readDocument(in));
+        }
     }
 
-    @Transactional
-    protected void clearAll() {
-        experienceRepository.deleteAll();
-        projectRepository.deleteAll();
-        educationRepository.deleteAll();
-        skillRepository.deleteAll();
-        profileRepository.deleteAll();
+    /**
+     * Empties every portfolio table with one bulk statement each. Row-level journaling must already be
+     * suspended: each type is announced as one deletion without an id (a set-level tombstone for delta
+     * sync) and one journal entry with the row count, since per-row notifications would be held until commit.
+     */
+    private void clearAll() {
+        // Children first; the experience delete also clears the experience_project links it owns
+        Map<EntityType, Long> counts = new EnumMap<>(EntityType.class);
+        clear(experienceRepository, EntityType.EXPERIENCE, counts);
+        clear(projectRepository, EntityType.PROJECT, counts);
+        clear(educationRepository, EntityType.EDUCATION, counts);
+        clear(skillRepository, EntityType.SKILL, counts);
+        clear(profileRepository, EntityType.PROFILE, counts);
+
+        counts.forEach((type, count) ->
+                eventPublisher.publishEvent(PortfolioChangeEvent.of(type, null, ChangeOperation.DELETED, null)));
+        String principal = SecurityUtils.currentUsername();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                counts.forEach((type, count) -> changeJournalService.record(
+                        type, null, ChangeOperation.DELETED, null, principal, Map.of("deleted", count)));
+            }
+        });
     }
 
-    private void importFromClasspath() throws Exception {
-        InputStream is = new ClassPathResource("resume.json").getInputStream();
-        JsonNode root = objectMapper.readTree(is);
-
-        // ---- Skills ----
-        JsonNode skillsNode = root.get("skills");
-        if (skillsNode != null && skillsNode.isObject()) {
-            skillsNode.fieldNames().forEachRemaining(category -> {
-                JsonNode categoryNode = skillsNode.get(category);
-                if (categoryNode != null && categoryNode.isArray()) {
-                    categoryNode.forEach(skillNode -> {
-                        Skill skill = new Skill();
-                        skill.setCategory(category);
-                        skill.setName(skillNode.asText());
-                        skillRepository.save(skill);
-                    });
-                }
-            });
+    private void clear(JpaRepository<?, Long> repository, EntityType type, Map<EntityType, Long> counts) {
+        long count = repository.count();
+        if (count > 0) {
+            repository.deleteAllInBatch();
+            counts.put(type, count);
         }
+    }
 
-        // ---- Projects ----
-        List<Project> allProjects = new ArrayList<>();
-        Map<Integer, List<Project>> projectsByCompanyId = new HashMap<>();
-        JsonNode projectsNode = root.get("projects");
-        if (projectsNode != null) {
-            for (JsonNode pNode : projectsNode) {
-                Project project = new Project();
-                project.setName(getTextOrNull(pNode, "name"));
-                project.setDescription(getTextOrNull(pNode, "description"));
-                project.setGithubUrl(getTextOrNull(pNode, "githubUrl"));
-                project.setTechStack(getTextOrNull(pNode, "techStack"));
-                JsonNode highlights = pNode.get("highlights");
-                project.setHighlight(highlights != null ? toList(highlights) : null);
-                project.setLiveDemoUrl(getTextOrNull(pNode, "liveDemoUrl"));
-
-                // Prefer explicit companyId from JSON when present
-                if (pNode.has("companyId") && !pNode.get("companyId").isNull()) {
-                    project.setCompanyId(pNode.get("companyId").asInt());
-                }
-
-                projectRepository.save(project);
-                if (project.getCompanyId() != null) {
-                    projectsByCompanyId.computeIfAbsent(project.getCompanyId(), k -> new ArrayList<>()).add(project);
-                }
-                allProjects.add(project);
-            }
+    private void importFromClasspath() throws IOException {
+        try (InputStream in = new ClassPathResource("resume.json").getInputStream()) {
+            resumeImporter.importFrom(in, new ImportProgress(null));
         }
+    }
 
-        // ---- Experiences ----
-        List<Experience> allExperiences = new ArrayList<>();
-        JsonNode experiencesNode = root.get("experiences");
-        if (experiencesNode != null) {
-            for (JsonNode eNode : experiencesNode) {
-                Experience exp = Experience.builder()
-                        .company(getTextOrNull(eNode, "company"))
-                        .role(getTextOrNull(eNode, "role"))
-                        .duration(getTextOrNull(eNode, "duration"))
-                        .description(getTextOrNull(eNode, "description"))
-                        .build();
-
-                Set<Project> expProjects = new HashSet<>();
-                Integer experienceCompanyId = null;
-                JsonNode expIdNode = eNode.get("id");
-                if (expIdNode != null && !expIdNode.isNull()) {
-                    experienceCompanyId = expIdNode.asInt();
-                }
+    /**
+     * Reserves the importer for an upload.
+     *
+     * @param totalBytes upload size, or null if unknown
+     * @return progress of the new import, or null while another upload is still running
+     */
+    public ImportProgress startUpload(Long totalBytes) {
+        ImportProgress previous = lastUpload.get();
+        if (previous != null && previous.isRunning()) {
+            return null;
+        }
+        ImportProgress progress = new ImportProgress(totalBytes);
+        return lastUpload.compareAndSet(previous, progress) ? progress : null;
+    }
 
-                if (experienceCompanyId != null) {
-                    List<Project> matching = projectsByCompanyId.get(experienceCompanyId);
-                    if (matching != null) {
-                        expProjects.addAll(matching);
-                        log.debug("Assigned {} projects to experience id {}", matching.size(), experienceCompanyId);
-                    } else {
-                        log.debug("No projects found for experience id {}", experienceCompanyId);
-                    }
+    /**
+     * Replaces all portfolio data with the uploaded document, streaming it record by record.
+     * Runs in one transaction: an invalid record rolls everything back and the previous data stays.
+     *
+     * @param in       the document
+     * @param progress from {@link #startUpload(Long)}; completed or failed when the transaction ends
+     */
+    @Transactional
+    public void importUpload(InputStream in, ImportProgress progress) throws IOException {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    progress.completed();
                 } else {
-                    log.debug("Experience has no id field; no projects assigned for company {}", exp.getCompany());
+                    progress.failed("Import rolled back");
                 }
-
-                exp.setProjects(expProjects);
-                experienceRepository.save(exp);
-                allExperiences.add(exp);
-            }
-        }
-
-        // ---- Education ----
-        List<Education> allEducations = new ArrayList<>();
-        JsonNode educationNode = root.get("education");
-        if (educationNode != null) {
-            for (JsonNode eduNode : educationNode) {
-                Education edu = new Education();
-                edu.setInstitute(getTextOrNull(eduNode, "institute"));
-                edu.setDuration(getTextOrNull(eduNode, "duration"));
-                edu.setDegree(getTextOrNull(eduNode, "degree"));
-                edu.setCgpa(getDoubleOrNull(eduNode, "cgpa"));
-                edu.setPercentage(getTextOrNull(eduNode, "percentage"));
-                edu.setBoard(getTextOrNull(eduNode, "board"));
-                educationRepository.save(edu);
-                allEducations.add(edu);
             }
+        });
+        try {
+            ChangeJournalListener.suspendForCurrentTransaction();
+            clearAll();
+            resumeImporter.importFrom(in, progress);
+        } catch (IOException | RuntimeException e) {
+            progress.failed(e.getMessage());
+            throw e;
         }
-
-        // ---- Profile ----
-        JsonNode profileNode = root.get("profile");
-        if (profileNode != null) {
-            Profile profile = new Profile();
-            profile.setName(profileNode.get("name").asText());
-            profile.setTitle(profileNode.get("title").asText());
-            profile.setLocation(profileNode.get("location").asText());
-            profile.setEmail(profileNode.get("email").asText());
-            profile.setPhone(profileNode.get("phone").asText());
-            profile.setGithub(profileNode.get("github").asText());
-            profile.setLinkedin(profileNode.get("linkedin").asText());
-            profile.setSummary(profileNode.get("summary").asText());
-            profile.setExperiences(allExperiences);
-            profile.setEducationList(allEducations);
-            profileRepository.save(profile);
-        }
-    }
-
-    private List<String> toList(JsonNode arrayNode) {
-        List<String> list = new ArrayList<>();
-        arrayNode.forEach(node -> list.add(node.asText()));
-        return list;
     }
 
-    private String getTextOrNull(JsonNode node, String fieldName) {
-        return node.has(fieldName) && !node.get(fieldName).isNull() ? node.get(fieldName).asText() : null;
-    }
-
-    private Double getDoubleOrNull(JsonNode node, String fieldName) {
-        if (node.has(fieldName) && !node.get(fieldName).isNull() && !node.get(fieldName).asText().isEmpty()) {
-            return node.get(fieldName).asDouble();
-        }
-        return null;
+    /**
+     * @return status of the running or most recent upload, or null if there was none
+     */
+    public ImportStatusDTO getUploadStatus() {
+        ImportProgress progress = lastUpload.get();
+        return progress != null ? progress.toDto() : null;
     }
 }
@@ -0,0 +1,60 @@
+package com.bgv.portfolio.bootstrap;
+
+import com.bgv.portfolio.model.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A resume document read fully into memory, as new (unsaved) entities.
+ */
+@Getter
+public class ResumeDocument implements ResumeImporter.RecordSink {
+
+    private Profile profile;
+    private final List<Skill> skills = new ArrayList<>();
+    private final List<Project> projects = new ArrayList<>();
+    private final List<Experience> experiences = new ArrayList<>();
+    private final List<Education> education = new ArrayList<>();
+    @Getter(AccessLevel.NONE)
+    private final Map<Experience, Integer> companyIds = new IdentityHashMap<>();
+
+    /**
+     * @return the {@code companyId} projects use to refer to the experience, or null if it has none
+     */
+    public Integer companyIdOf(Experience experience) {
+        return companyIds.get(experience);
+    }
+
+    @Override
+    public void profile(Profile profile) {
+        this.profile = profile;
+    }
+
+    @Override
+    public void skill(Skill skill) {
+        skills.add(skill);
+    }
+
+    @Override
+    public void project(Project project) {
+        projects.add(project);
+    }
+
+    @Override
+    public void experience(Experience experience, Integer companyId) {
+        experiences.add(experience);
+        if (companyId != null) {
+            companyIds.put(experience, companyId);
+        }
+    }
+
+    @Override
+    public void education(Education education) {
+        this.education.add(education);
+    }
+}
@@ -0,0 +1,541 @@
+package com.bgv.portfolio.bootstrap;
+
+import com.bgv.portfolio.audit.ChangeJournalListener;
+import com.bgv.portfolio.enums.ChangeOperation;
+import com.bgv.portfolio.enums.EntityType;
+import com.bgv.portfolio.event.PortfolioChangeEvent;
+import com.bgv.portfolio.exception.InvalidImportException;
+import com.bgv.portfolio.model.*;
+import com.bgv.portfolio.repository.*;
+import com.bgv.portfolio.security.SecurityUtils;
+import com.bgv.portfolio.service.ChangeJournalService;
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Imports a resume document ({@code resume.json} format) from a stream.
+ * <p>
+ * The document is read token by token with a Jackson {@link JsonParser}; only one record
+ * (a project, an experience, ...) is materialized at a time. Each record is validated as it
+ * arrives and rejected with its JSON Pointer, and records are saved in batches of
+ * {@code resume.import.batch-size}, after which the persistence context is flushed and cleared.
+ * Experiences and education are attached to the profile, and projects to experiences by
+ * {@code companyId}, with set-based statements once the document has been read, so top-level
+ * sections may come in any order. The only per-document state kept is the experience id to
+ * {@code companyId} mapping.
+ * <p>
+ * An import is announced as one bulk change per entity type (a {@link PortfolioChangeEvent} without
+ * an id, and one change journal entry with the record count) rather than per record, since
+ * per-record notifications would all be held until commit.
+ * <p>
+ * Callers run the import inside a transaction, so a rejected document leaves no partial data.
+ */
+@Component
+@Slf4j
+public class ResumeImporter {
+
+    private static final int MAX_TEXT = 255;
+    private static final int MAX_LONG_TEXT = 2000;
+    private static final long PROGRESS_LOG_INTERVAL_MS = 10_000;
+
+    private final ProfileRepository profileRepository;
+    private final SkillRepository skillRepository;
+    private final ProjectRepository projectRepository;
+    private final ExperienceRepository experienceRepository;
+    private final EducationRepository educationRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChangeJournalService changeJournalService;
+    private final int batchSize;
+
+    public ResumeImporter(ProfileRepository profileRepository,
+                          SkillRepository skillRepository,
+                          ProjectRepository projectRepository,
+                          ExperienceRepository experienceRepository,
+                          EducationRepository educationRepository,
+                          EntityManager entityManager,
+                          ObjectMapper objectMapper,
+                          ApplicationEventPublisher eventPublisher,
+                          ChangeJournalService changeJournalService,
+                          @Value("${resume.import.batch-size:500}") int batchSize) {
+        this.profileRepository = profileRepository;
+        this.skillRepository = skillRepository;
+        this.projectRepository = projectRepository;
+        this.experienceRepository = experienceRepository;
+        this.educationRepository = educationRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.changeJournalService = changeJournalService;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * Reads the document and inserts its records. Must be called inside a transaction.
+     *
+     * @param in       the document; not closed
+     * @param progress updated as records are saved
+     * @throws InvalidImportException if the document is malformed or a record is invalid
+     * @throws IOException            if reading the stream fails
+     */
+    public void importFrom(InputStream in, ImportProgress progress) throws IOException {
+        long start = System.nanoTime();
+        // Earlier statements of the transaction keep their row-level journal unless the caller suspended it first
+        entityManager.flush();
+        ChangeJournalListener.suspendForCurrentTransaction();
+        Run run = new Run(progress);
+        read(in, run);
+        run.finish();
+        log.info("Imported {} resume records ({} bytes) in {} ms",
+                progress.getRecordCount(), progress.getBytesRead(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Reads and validates the whole document into memory, without writing anything.
+     * Meant for small documents such as the bundled {@code resume.json}.
+     *
+     * @param in the document; not closed
+     * @return the records of the document, as new (unsaved) entities
+     * @throws InvalidImportException if the document is malformed or a record is invalid
+     * @throws IOException            if reading the stream fails
+     */
+    public ResumeDocument readDocument(InputStream in) throws IOException {
+        ResumeDocument document = new ResumeDocument();
+        read(in, document);
+        return document;
+    }
+
+    // ---------------- Parsing ----------------
+
+    private void read(InputStream in, RecordSink sink) throws IOException {
+        try (JsonParser parser = objectMapper.createParser(in)) {
+            sink.opened(parser);
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new InvalidImportException("/", "document must be a JSON object");
+            }
+            boolean profileSeen = false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String section = parser.currentName();
+                parser.nextToken();
+                switch (section) {
+                    case "profile" -> {
+                        if (profileSeen) {
+                            throw new InvalidImportException("/profile", "profile appears more than once");
+                        }
+                        profileSeen = true;
+                        sink.profile(toProfile(readRecord(parser, "/profile"), "/profile"));
+                    }
+                    case "skills" -> readSkills(parser, sink);
+                    case "projects" -> forEachRecord(parser, "/projects",
+                            (record, pointer) -> sink.project(toProject(record, pointer)));
+                    case "experiences" -> forEachRecord(parser, "/experiences",
+                            // "id" is the companyId its projects refer to
+                            (record, pointer) -> sink.experience(toExperience(record, pointer), integer(record, "id", pointer)));
+                    case "education" -> forEachRecord(parser, "/education",
+                            (record, pointer) -> sink.education(toEducation(record, pointer)));
+                    default -> parser.skipChildren();
+                }
+            }
+            if (parser.nextToken() != null) {
+                throw new InvalidImportException(location(parser), "unexpected content after the document");
+            }
+        } catch (JsonProcessingException e) {
+            throw new InvalidImportException(location(e.getLocation()), e.getOriginalMessage());
+        }
+    }
+
+    private void readSkills(JsonParser parser, RecordSink sink) throws IOException {
+        expect(parser, JsonToken.START_OBJECT, "/skills", "must be an object of category -> skill names");
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String category = parser.currentName();
+            String pointer = "/skills/" + escape(category);
+            checkText(category, pointer, MAX_TEXT, true);
+            parser.nextToken();
+            expect(parser, JsonToken.START_ARRAY, pointer, "must be an array of skill names");
+            int index = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                String itemPointer = pointer + "/" + index++;
+                if (parser.currentToken() != JsonToken.VALUE_STRING) {
+                    throw new InvalidImportException(itemPointer, "must be a string");
+                }
+                Skill skill = new Skill();
+                skill.setCategory(category);
+                skill.setName(checkText(parser.getText(), itemPointer, MAX_TEXT, true));
+                sink.skill(skill);
+            }
+        }
+    }
+
+    private void forEachRecord(JsonParser parser, String pointer, RecordHandler handler) throws IOException {
+        expect(parser, JsonToken.START_ARRAY, pointer, "must be an array");
+        int index = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            String recordPointer = pointer + "/" + index++;
+            handler.accept(readRecord(parser, recordPointer), recordPointer);
+        }
+    }
+
+    private JsonNode readRecord(JsonParser parser, String pointer) throws IOException {
+        expect(parser, JsonToken.START_OBJECT, pointer, "must be an object");
+        return objectMapper.readTree(parser);
+    }
+
+    private static void expect(JsonParser parser, JsonToken token, String pointer, String message) {
+        if (parser.currentToken() != token) {
+            throw new InvalidImportException(pointer, message);
+        }
+    }
+
+    private static Profile toProfile(JsonNode record, String pointer) {
+        Profile profile = new Profile();
+        profile.setName(text(record, "name", pointer, MAX_TEXT, true));
+        profile.setTitle(text(record, "title", pointer, MAX_TEXT, false));
+        profile.setLocation(text(record, "location", pointer, MAX_TEXT, false));
+        profile.setEmail(text(record, "email", pointer, MAX_TEXT, false));
+        profile.setPhone(text(record, "phone", pointer, MAX_TEXT, false));
+        profile.setGithub(text(record, "github", pointer, MAX_TEXT, false));
+        profile.setLinkedin(text(record, "linkedin", pointer, MAX_TEXT, false));
+        profile.setSummary(text(record, "summary", pointer, MAX_LONG_TEXT, false));
+        return profile;
+    }
+
+    private static Project toProject(JsonNode record, String pointer) {
+        Project project = new Project();
+        project.setName(text(record, "name", pointer, MAX_TEXT, true));
+        project.setDescription(text(record, "description", pointer, MAX_LONG_TEXT, false));
+        project.setGithubUrl(text(record, "githubUrl", pointer, MAX_TEXT, false));
+        project.setTechStack(text(record, "techStack", pointer, MAX_TEXT, false));
+        project.setHighlight(strings(record, "highlights", pointer));
+        project.setLiveDemoUrl(text(record, "liveDemoUrl", pointer, MAX_TEXT, false));
+        project.setCompanyId(integer(record, "companyId", pointer));
+        return project;
+    }
+
+    private static Experience toExperience(JsonNode record, String pointer) {
+        return Experience.builder()
+                .company(text(record, "company", pointer, MAX_TEXT, true))
+                .role(text(record, "role", pointer, MAX_TEXT, false))
+                .duration(text(record, "duration", pointer, MAX_TEXT, false))
+                .description(text(record, "description", pointer, MAX_LONG_TEXT, false))
+                .build();
+    }
+
+    private static Education toEducation(JsonNode record, String pointer) {
+        Education education = new Education();
+        education.setInstitute(text(record, "institute", pointer, MAX_TEXT, true));
+        education.setDuration(text(record, "duration", pointer, MAX_TEXT, false));
+        education.setDegree(text(record, "degree", pointer, MAX_TEXT, false));
+        education.setCgpa(decimal(record, "cgpa", pointer));
+        education.setPercentage(text(record, "percentage", pointer, MAX_TEXT, false));
+        education.setBoard(text(record, "board", pointer, MAX_TEXT, false));
+        return education;
+    }
+
+    // ---------------- Validation ----------------
+
+    private static String text(JsonNode record, String field, String pointer, int maxLength, boolean required) {
+        JsonNode value = record.get(field);
+        if (value == null || value.isNull()) {
+            return checkText(null, pointer + "/" + field, maxLength, required);
+        }
+        if (!value.isValueNode()) {
+            throw new InvalidImportException(pointer + "/" + field, "must be a string");
+        }
+        return checkText(value.asText(), pointer + "/" + field, maxLength, required);
+    }
+
+    private static String checkText(String value, String pointer, int maxLength, boolean required) {
+        if (value == null || value.isBlank()) {
+            if (required) {
+                throw new InvalidImportException(pointer, "is required");
+            }
+            return value;
+        }
+        if (value.length() > maxLength) {
+            throw new InvalidImportException(pointer, "must be at most " + maxLength + " characters");
+        }
+        return value;
+    }
+
+    private static Integer integer(JsonNode record, String field, String pointer) {
+        JsonNode value = record.get(field);
+        if (value == null || value.isNull()) {
+            return null;
+        }
+        if (value.canConvertToInt() && value.isIntegralNumber()) {
+            return value.intValue();
+        }
+        if (value.isTextual() && value.asText().matches("-?\\d{1,9}")) {
+            return Integer.valueOf(value.asText());
+        }
+        throw new InvalidImportException(pointer + "/" + field, "must be an integer");
+    }
+
+    private static Double decimal(JsonNode record, String field, String pointer) {
+        JsonNode value = record.get(field);
+        if (value == null || value.isNull() || (value.isTextual() && value.asText().isBlank())) {
+            return null;
+        }
+        if (value.isNumber()) {
+            return value.doubleValue();
+        }
+        try {
+            if (value.isTextual()) {
+                return Double.valueOf(value.asText().trim());
+            }
+        } catch (NumberFormatException ignored) {
+            // reported below
+        }
+        throw new InvalidImportException(pointer + "/" + field, "must be a number");
+    }
+
+    private static List<String> strings(JsonNode record, String field, String pointer) {
+        JsonNode value = record.get(field);
+        if (value == null || value.isNull()) {
+            return null;
+        }
+        if (!value.isArray()) {
+            throw new InvalidImportException(pointer + "/" + field, "must be an array of strings");
+        }
+        List<String> list = new ArrayList<>(value.size());
+        for (int i = 0; i < value.size(); i++) {
+            JsonNode item = value.get(i);
+            if (!item.isValueNode() || item.isNull()) {
+                throw new InvalidImportException(pointer + "/" + field + "/" + i, "must be a string");
+            }
+            list.add(checkText(item.asText(), pointer + "/" + field + "/" + i, MAX_TEXT, false));
+        }
+        return list;
+    }
+
+    private static String escape(String token) {
+        return token.replace("~", "~0").replace("/", "~1");
+    }
+
+    private static String location(JsonParser parser) {
+        return location(parser.currentLocation());
+    }
+
+    private static String location(JsonLocation location) {
+        return location == null ? "/" : "line " + location.getLineNr() + ", column " + location.getColumnNr();
+    }
+
+    @FunctionalInterface
+    private interface RecordHandler {
+        void accept(JsonNode record, String pointer);
+    }
+
+    /**
+     * Receives the validated records of a document, in document order.
+     */
+    interface RecordSink {
+
+        default void opened(JsonParser parser) {
+        }
+
+        void profile(Profile profile);
+
+        void skill(Skill skill);
+
+        void project(Project project);
+
+        /**
+         * @param companyId the experience's {@code id} in the document, which projects name as their {@code companyId}
+         */
+        void experience(Experience experience, Integer companyId);
+
+        void education(Education education);
+    }
+
+    // ---------------- Writing ----------------
+
+    /**
+     * State of one import: the open batches and the links resolved once the document is read.
+     */
+    private final class Run implements RecordSink {
+
+        private final ImportProgress progress;
+        private final RecordBatch<Skill> skills;
+        private final RecordBatch<Project> projects;
+        private final RecordBatch<Experience> experiences;
+        private final RecordBatch<Education> educations;
+        private final List<Integer> pendingCompanyIds = new ArrayList<>();
+        private final Map<Long, Integer> companyIdByExperienceId = new HashMap<>();
+        private final Map<EntityType, Long> counts = new EnumMap<>(EntityType.class);
+        private JsonParser parser;
+        private Long profileId;
+        private long lastProgressLog = System.currentTimeMillis();
+
+        private Run(ImportProgress progress) {
+            this.progress = progress;
+            this.skills = new RecordBatch<>(skillRepository, EntityType.SKILL, Skill::getId, saved -> { });
+            this.projects = new RecordBatch<>(projectRepository, EntityType.PROJECT, Project::getId, saved -> { });
+            this.experiences = new RecordBatch<>(experienceRepository, EntityType.EXPERIENCE, Experience::getId, saved -> {
+                for (int i = 0; i < saved.size(); i++) {
+                    Integer companyId = pendingCompanyIds.get(i);
+                    if (companyId != null) {
+                        companyIdByExperienceId.put(saved.get(i).getId(), companyId);
+                    }
+                }
+                pendingCompanyIds.clear();
+            });
+            this.educations = new RecordBatch<>(educationRepository, EntityType.EDUCATION, Education::getId, saved -> { });
+        }
+
+        @Override
+        public void opened(JsonParser parser) {
+            this.parser = parser;
+        }
+
+        @Override
+        public void profile(Profile profile) {
+            profileRepository.save(profile);
+            profileId = profile.getId();
+            saved(EntityType.PROFILE);
+        }
+
+        @Override
+        public void skill(Skill skill) {
+            skills.add(skill);
+        }
+
+        @Override
+        public void project(Project project) {
+            projects.add(project);
+        }
+
+        @Override
+        public void experience(Experience experience, Integer companyId) {
+            pendingCompanyIds.add(companyId);
+            experiences.add(experience);
+        }
+
+        @Override
+        public void education(Education education) {
+            educations.add(education);
+        }
+
+        void finish() {
+            progress.bytesRead(parser.currentLocation().getByteOffset());
+            skills.flush();
+            projects.flush();
+            experiences.flush();
+            educations.flush();
+            if (projects.firstId != null) {
+                companyIdByExperienceId.forEach((experienceId, companyId) ->
+                        experienceRepository.linkProjectsByCompanyId(experienceId, companyId, projects.firstId));
+            }
+            if (profileId != null) {
+                if (experiences.firstId != null) {
+                    experienceRepository.attachToProfile(profileId, experiences.firstId);
+                }
+                if (educations.firstId != null) {
+                    educationRepository.attachToProfile(profileId, educations.firstId);
+                }
+            }
+            announce();
+        }
+
+        void saved(EntityType type) {
+            counts.merge(type, 1L, Long::sum);
+            progress.recordImported(type);
+        }
+
+        void announce() {
+            String principal = SecurityUtils.currentUsername();
+            counts.forEach((type, count) ->
+                    eventPublisher.publishEvent(PortfolioChangeEvent.of(type, null, ChangeOperation.CREATED, null)));
+            Runnable journal = () -> counts.forEach((type, count) -> changeJournalService.record(
+                    type, null, ChangeOperation.CREATED, null, principal, Map.of("imported", count)));
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                journal.run();
+                return;
+            }
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    journal.run();
+                }
+            });
+        }
+
+        void batchSaved() {
+            progress.bytesRead(parser.currentLocation().getByteOffset());
+            long now = System.currentTimeMillis();
+            if (now - lastProgressLog >= PROGRESS_LOG_INTERVAL_MS) {
+                lastProgressLog = now;
+                log.info("Resume import: {} records, {} of {} bytes read",
+                        progress.getRecordCount(), progress.getBytesRead(),
+                        progress.getTotalBytes() != null ? progress.getTotalBytes() : "?");
+            }
+        }
+
+        /**
+         * Records of one type waiting to be saved together.
+         */
+        private final class RecordBatch<E extends AuditFields> {
+
+            private final JpaRepository<E, Long> repository;
+            private final EntityType type;
+            private final Function<E, Long> idOf;
+            private final Consumer<List<E>> afterSave;
+            private final List<E> pending = new ArrayList<>();
+            private Long firstId;
+
+            private RecordBatch(JpaRepository<E, Long> repository, EntityType type,
+                                Function<E, Long> idOf, Consumer<List<E>> afterSave) {
+                this.repository = repository;
+                this.type = type;
+                this.idOf = idOf;
+                this.afterSave = afterSave;
+            }
+
+            void add(E entity) {
+                pending.add(entity);
+                if (pending.size() >= batchSize) {
+                    flush();
+                }
+            }
+
+            void flush() {
+                if (pending.isEmpty()) {
+                    return;
+                }
+                List<E> saved = repository.saveAll(pending);
+                entityManager.flush();
+                if (firstId == null) {
+                    firstId = idOf.apply(saved.get(0));
+                }
+                saved.forEach(entity -> saved(type));
+                afterSave.accept(saved);
+                pending.clear();
+                // Saved records are no longer needed; keep the persistence context at one batch
+                entityManager.clear();
+                batchSaved();
+            }
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.bgv.portfolio.bootstrap;
+
+import com.bgv.portfolio.dto.ReloadSummaryDTO;
+import com.bgv.portfolio.enums.ChangeOperation;
+import com.bgv.portfolio.enums.EntityType;
+import com.bgv.portfolio.event.PortfolioChangeEvent;
+import com.bgv.portfolio.model.*;
+import com.bgv.portfolio.repository.*;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Brings the stored portfolio in line with a resume document, writing only what differs.
+ * <p>
+ * Rows are matched to records by natural key: the single profile, skills by name and category,
+ * projects by name, experiences by company and role, education by institute and degree. Repeated
+ * keys pair up in id order. A matched row is updated only when one of the fields the document
+ * carries differs; unmatched records are inserted and unmatched rows deleted. A document that
+ * matches the database therefore causes no writes, no change events and no journal entries, and
+ * caches and ETags stay valid. Updates and deletes are sent as JDBC batches ({@code jpa.jdbc.batch-size}).
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ResumeReconciler {
+
+    private final ProfileRepository profileRepository;
+    private final SkillRepository skillRepository;
+    private final ProjectRepository projectRepository;
+    private final ExperienceRepository experienceRepository;
+    private final EducationRepository educationRepository;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Applies the document. Must be called inside a transaction.
+     *
+     * @param document the desired state
+     * @return what was written
+     */
+    public ReloadSummaryDTO reconcile(ResumeDocument document) {
+        Changes changes = new Changes();
+
+        List<Profile> profiles = new ArrayList<>(profileRepository.findAll());
+        profiles.sort(Comparator.comparing(Profile::getId));
+        // Deleting a profile cascades to its experiences and education; release them to the kept profile first
+        profiles.stream().skip(document.getProfile() != null ? 1 : 0).forEach(profile -> {
+            profile.getExperiences().clear();
+            profile.getEducationList().clear();
+        });
+        List<Profile> storedProfile = apply(EntityType.PROFILE, profileRepository, profiles,
+                document.getProfile() != null ? List.of(document.getProfile()) : List.of(),
+                Profile::getId, profile -> List.of(), ResumeReconciler::copyProfile, changes);
+
+        apply(EntityType.SKILL, skillRepository, skillRepository.findAll(), document.getSkills(),
+                Skill::getId, skill -> Arrays.asList(skill.getName(), skill.getCategory()),
+                (stored, record) -> false, changes);
+
+        List<Project> projects = apply(EntityType.PROJECT, projectRepository, projectRepository.findAll(),
+                document.getProjects(), Project::getId, project -> List.of(project.getName()),
+                ResumeReconciler::copyProject, changes);
+
+        Map<Integer, Set<Project>> projectsByCompanyId = projects.stream()
+                .filter(project -> project.getCompanyId() != null)
+                .collect(Collectors.groupingBy(Project::getCompanyId, Collectors.toSet()));
+        for (Experience record : document.getExperiences()) {
+            Integer companyId = document.companyIdOf(record);
+            record.setProjects(new HashSet<>(companyId != null ? projectsByCompanyId.getOrDefault(companyId, Set.of()) : Set.of()));
+        }
+        apply(EntityType.EXPERIENCE, experienceRepository, experienceRepository.findAllWithEagerProjects(),
+                document.getExperiences(), Experience::getId,
+                experience -> Arrays.asList(experience.getCompany(), experience.getRole()),
+                ResumeReconciler::copyExperience, changes);
+
+        apply(EntityType.EDUCATION, educationRepository, educationRepository.findAll(), document.getEducation(),
+                Education::getId, education -> Arrays.asList(education.getInstitute(), education.getDegree()),
+                ResumeReconciler::copyEducation, changes);
+
+        entityManager.flush();
+        if (!storedProfile.isEmpty()) {
+            Long profileId = storedProfile.get(0).getId();
+            experienceRepository.attachAllToProfile(profileId);
+            educationRepository.attachAllToProfile(profileId);
+        }
+        changes.publish();
+        ReloadSummaryDTO summary = changes.toDto();
+        log.info("Resume reload: inserted {}, updated {}, deleted {}, {} unchanged",
+                summary.getInserted(), summary.getUpdated(), summary.getDeleted(), summary.getUnchanged());
+        return summary;
+    }
+
+    /**
+     * Matches records to stored rows by key, updates, inserts and deletes accordingly.
+     *
+     * @param copy copies a record's fields onto its stored row, returning whether anything changed
+     * @return the stored row for each record, in record order
+     */
+    private <E extends AuditFields> List<E> apply(EntityType type, JpaRepository<E, Long> repository,
+                                                 List<E> current, List<E> records, Function<E, Long> idOf,
+                                                 Function<E, List<?>> keyOf, BiPredicate<E, E> copy, Changes changes) {
+        Map<List<?>, Deque<E>> byKey = new HashMap<>();
+        current.stream()
+                .sorted(Comparator.comparing(idOf))
+                .forEach(row -> byKey.computeIfAbsent(keyOf.apply(row), key -> new ArrayDeque<>()).add(row));
+
+        List<E> stored = new ArrayList<>(records.size());
+        List<E> inserts = new ArrayList<>();
+        for (E record : records) {
+            Deque<E> candidates = byKey.get(keyOf.apply(record));
+            E row = candidates != null ? candidates.pollFirst() : null;
+            if (row == null) {
+                inserts.add(record);
+                stored.add(record);
+            } else {
+                if (copy.test(row, record)) {
+                    changes.add(type, ChangeOperation.UPDATED, row, idOf);
+                } else {
+                    changes.unchanged++;
+                }
+                stored.add(row);
+            }
+        }
+        for (Deque<E> leftover : byKey.values()) {
+            for (E row : leftover) {
+                repository.delete(row);
+                changes.add(type, ChangeOperation.DELETED, row, idOf);
+            }
+        }
+        repository.saveAll(inserts).forEach(row -> changes.add(type, ChangeOperation.CREATED, row, idOf));
+        return stored;
+    }
+
+    private static boolean copyProfile(Profile stored, Profile record) {
+        return assign(stored::getName, stored::setName, record.getName())
+                | assign(stored::getTitle, stored::setTitle, record.getTitle())
+                | assign(stored::getLocation, stored::setLocation, record.getLocation())
+                | assign(stored::getEmail, stored::setEmail, record.getEmail())
+                | assign(stored::getPhone, stored::setPhone, record.getPhone())
+                | assign(stored::getGithub, stored::setGithub, record.getGithub())
+                | assign(stored::getLinkedin, stored::setLinkedin, record.getLinkedin())
+                | assign(stored::getSummary, stored::setSummary, record.getSummary());
+    }
+
+    private static boolean copyProject(Project stored, Project record) {
+        return assign(stored::getDescription, stored::setDescription, record.getDescription())
+                | assign(stored::getGithubUrl, stored::setGithubUrl, record.getGithubUrl())
+                | assign(stored::getTechStack, stored::setTechStack, record.getTechStack())
+                | assign(stored::getHighlight, stored::setHighlight, record.getHighlight())
+                | assign(stored::getLiveDemoUrl, stored::setLiveDemoUrl, record.getLiveDemoUrl())
+                | assign(stored::getCompanyId, stored::setCompanyId, record.getCompanyId());
+    }
+
+    private static boolean copyExperience(Experience stored, Experience record) {
+        boolean changed = assign(stored::getDuration, stored::setDuration, record.getDuration())
+                | assign(stored::getDescription, stored::setDescription, record.getDescription());
+        // Edit the managed collection in place, so only the links that differ are written
+        Set<Project> links = stored.getProjects();
+        if (!links.equals(record.getProjects())) {
+            links.retainAll(record.getProjects());
+            links.addAll(record.getProjects());
+            changed = true;
+        }
+        return changed;
+    }
+
+    private static boolean copyEducation(Education stored, Education record) {
+        return assign(stored::getDuration, stored::setDuration, record.getDuration())
+                | assign(stored::getCgpa, stored::setCgpa, record.getCgpa())
+                | assign(stored::getPercentage, stored::setPercentage, record.getPercentage())
+                | assign(stored::getBoard, stored::setBoard, record.getBoard());
+    }
+
+    /**
+     * Sets the value only if it differs, so Hibernate's dirty check sees untouched rows as clean.
+     */
+    private static <T> boolean assign(Supplier<T> current, Consumer<T> setter, T value) {
+        if (Objects.equals(current.get(), value)) {
+            return false;
+        }
+        setter.accept(value);
+        return true;
+    }
+
+    /**
+     * Rows written by one reload, announced once flushed so events carry final ids and versions.
+     */
+    private final class Changes {
+
+        private final List<Runnable> events = new ArrayList<>();
+        private final Map<ChangeOperation, Map<String, Integer>> counts = new EnumMap<>(ChangeOperation.class);
+        private int unchanged;
+
+        <E extends AuditFields> void add(EntityType type, ChangeOperation operation, E row, Function<E, Long> idOf) {
+            Long id = idOf.apply(row);
+            events.add(() -> eventPublisher.publishEvent(PortfolioChangeEvent.of(type, id, operation, row.getVersion())));
+            counts.computeIfAbsent(operation, op -> new LinkedHashMap<>()).merge(type.getValue(), 1, Integer::sum);
+        }
+
+        void publish() {
+            events.forEach(Runnable::run);
+        }
+
+        ReloadSummaryDTO toDto() {
+            return ReloadSummaryDTO.builder()
+                    .inserted(counts.getOrDefault(ChangeOperation.CREATED, Map.of()))
+                    .updated(counts.getOrDefault(ChangeOperation.UPDATED, Map.of()))
+                    .deleted(counts.getOrDefault(ChangeOperation.DELETED, Map.of()))
+                    .unchanged(unchanged)
+                    .build();
+        }
+    }
+}
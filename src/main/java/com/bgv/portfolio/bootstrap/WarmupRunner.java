@@ -0,0 +1,265 @@
+package com.bgv.portfolio.bootstrap;
+
+import com.bgv.portfolio.constants.AppConstants;
+import com.bgv.portfolio.dto.StartupReportDTO.EndpointLatency;
+import com.bgv.portfolio.dto.StartupReportDTO.WarmupReport;
+import com.bgv.portfolio.enums.Role;
+import com.bgv.portfolio.security.JwtUtil;
+import com.bgv.portfolio.service.StartupReportService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drives synthetic requests through the running server (Tomcat, security and JWT filters,
+ * controllers, services, queries, mapping, Jackson) until JIT compilation settles, so the first
+ * real requests after a deploy run compiled code. Requests carry a read-only ({@link Role#VIEW})
+ * token, which bypasses {@link com.bgv.portfolio.cache.PublicReadCache}; anonymous requests
+ * would be served from the cache after the first one and leave the read path behind it cold.
+ * Runs after {@link DataBootstrap}; Spring Boot reports readiness (ACCEPTING_TRAFFIC) only after
+ * every runner has returned, so load balancers polling /api/health/ready keep traffic away
+ * until warm-up is done.
+ * <p>
+ * Compilation counts as settled once the JIT spends less than {@code warmup.settle-ratio}
+ * of wall time compiling for two consecutive check intervals. Afterwards each path is timed
+ * {@code warmup.measure-rounds} times and the latencies go into the startup report; they are
+ * uncached latencies, the cost of a cache miss.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+@Slf4j
+public class WarmupRunner implements CommandLineRunner {
+
+    private static final String WARMUP_PRINCIPAL = "warmup";
+    private static final long CHECK_INTERVAL_MS = 500;
+    private static final int SETTLED_INTERVALS = 2;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final ApplicationContext context;
+    private final JwtUtil jwtUtil;
+    private final StartupReportService startupReportService;
+    private final boolean enabled;
+    private final String[] paths;
+    private final int threads;
+    private final long minDurationMs;
+    private final long maxDurationMs;
+    private final double settleRatio;
+    private final int measureRounds;
+
+    public WarmupRunner(ApplicationContext context,
+                        JwtUtil jwtUtil,
+                        StartupReportService startupReportService,
+                        @Value("${warmup.enabled:true}") boolean enabled,
+                        @Value("${warmup.paths:/api/profile,/api/skills,/api/projects,/api/experience,/api/education,/api/sync,/api/resume.md,/openapi.json}") String[] paths,
+                        @Value("${warmup.threads:2}") int threads,
+                        @Value("${warmup.min-duration-ms:2000}") long minDurationMs,
+                        @Value("${warmup.max-duration-ms:60000}") long maxDurationMs,
+                        @Value("${warmup.settle-ratio:0.05}") double settleRatio,
+                        @Value("${warmup.measure-rounds:50}") int measureRounds) {
+        this.context = context;
+        this.jwtUtil = jwtUtil;
+        this.startupReportService = startupReportService;
+        this.enabled = enabled;
+        this.paths = paths;
+        this.threads = Math.max(1, threads);
+        this.minDurationMs = minDurationMs;
+        this.maxDurationMs = maxDurationMs;
+        this.settleRatio = settleRatio;
+        this.measureRounds = measureRounds;
+    }
+
+    @Override
+    public void run(String... args) {
+        int port = serverPort();
+        if (!enabled || port <= 0) {
+            return;
+        }
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build();
+        List<HttpRequest> requests = requests("http://localhost:" + port);
+        CompilationMXBean compiler = ManagementFactory.getCompilationMXBean();
+        boolean compileTimeSupported = compiler != null && compiler.isCompilationTimeMonitoringSupported();
+
+        startupReportService.warmupStarted();
+        WarmupReport.WarmupReportBuilder report = WarmupReport.builder();
+        long start = System.nanoTime();
+        long compileStart = compileTimeSupported ? compiler.getTotalCompilationTime() : 0;
+        AtomicBoolean stop = new AtomicBoolean();
+        AtomicLong requestCount = new AtomicLong();
+        AtomicLong errorCount = new AtomicLong();
+        ExecutorService pool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            for (int i = 0; i < threads; i++) {
+                pool.execute(() -> {
+                    while (!stop.get()) {
+                        for (HttpRequest request : requests) {
+                            if (send(client, request) < 0) {
+                                errorCount.incrementAndGet();
+                            }
+                            requestCount.incrementAndGet();
+                        }
+                    }
+                });
+            }
+            Boolean settled = awaitSettled(compileTimeSupported ? compiler : null, requestCount, errorCount);
+            stop.set(true);
+            pool.shutdown();
+            pool.awaitTermination(REQUEST_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+
+            report.durationMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))
+                    .requests(requestCount.get())
+                    .errors(errorCount.get())
+                    .compilationMs(compileTimeSupported ? compiler.getTotalCompilationTime() - compileStart : null)
+                    .settled(settled);
+            if (measureRounds > 0 && errorCount.get() < requestCount.get()) {
+                report.postWarmupLatency(measure(client, requests));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            stop.set(true);
+            pool.shutdownNow();
+            WarmupReport result = report.build();
+            startupReportService.warmupFinished(result);
+            log.info("Warm-up: {} requests ({} failed) in {} ms, {} ms compiling, settled: {}",
+                    result.getRequests(), result.getErrors(), result.getDurationMs(), result.getCompilationMs(), result.getSettled());
+            if (result.getPostWarmupLatency() != null) {
+                result.getPostWarmupLatency().forEach(latency -> log.info("Warm-up: {} p50 {} ms, p99 {} ms",
+                        latency.getPath(), latency.getP50Ms(), latency.getP99Ms()));
+            }
+        }
+    }
+
+    /**
+     * Waits until compilation settles or the time budget runs out.
+     *
+     * @return whether compilation settled, or null when compile time cannot be monitored
+     */
+    private Boolean awaitSettled(CompilationMXBean compiler, AtomicLong requestCount, AtomicLong errorCount)
+            throws InterruptedException {
+        long start = System.nanoTime();
+        long lastCheck = start;
+        long lastCompileMs = compiler != null ? compiler.getTotalCompilationTime() : 0;
+        int quietIntervals = 0;
+        while (true) {
+            Thread.sleep(CHECK_INTERVAL_MS);
+            long now = System.nanoTime();
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(now - start);
+            long requests = requestCount.get();
+            if (requests > 0 && errorCount.get() == requests) {
+                log.warn("Warm-up: every request failed, giving up");
+                return false;
+            }
+            if (compiler == null) {
+                if (elapsedMs >= minDurationMs) {
+                    return null;
+                }
+                continue;
+            }
+            long compileMs = compiler.getTotalCompilationTime();
+            double ratio = (compileMs - lastCompileMs) / (double) Math.max(1, TimeUnit.NANOSECONDS.toMillis(now - lastCheck));
+            lastCompileMs = compileMs;
+            lastCheck = now;
+            quietIntervals = ratio < settleRatio ? quietIntervals + 1 : 0;
+            if (elapsedMs >= minDurationMs && quietIntervals >= SETTLED_INTERVALS) {
+                return true;
+            }
+            if (elapsedMs >= maxDurationMs) {
+                return false;
+            }
+        }
+    }
+
+    private List<EndpointLatency> measure(HttpClient client, List<HttpRequest> requests) {
+        List<EndpointLatency> latencies = new ArrayList<>(requests.size());
+        for (HttpRequest request : requests) {
+            long[] nanos = new long[measureRounds];
+            for (int i = 0; i < measureRounds; i++) {
+                long start = System.nanoTime();
+                send(client, request);
+                nanos[i] = System.nanoTime() - start;
+            }
+            Arrays.sort(nanos);
+            latencies.add(EndpointLatency.builder()
+                    .path(request.uri().getRawPath())
+                    .p50Ms(percentileMs(nanos, 0.50))
+                    .p99Ms(percentileMs(nanos, 0.99))
+                    .maxMs(percentileMs(nanos, 1.0))
+                    .build());
+        }
+        return latencies;
+    }
+
+    private List<HttpRequest> requests(String baseUrl) {
+        // Minted in-process for loopback requests only. A token without a role claim is treated as
+        // ADMIN by JwtAuthenticationFilter, so the role is always set
+        String authorization = AppConstants.BEARER_PREFIX + jwtUtil.generateToken(WARMUP_PRINCIPAL, Role.VIEW);
+        List<HttpRequest> requests = new ArrayList<>(paths.length);
+        for (String path : paths) {
+            requests.add(request(baseUrl, path).header(AppConstants.AUTH_HEADER, authorization).build());
+        }
+        return requests;
+    }
+
+    private HttpRequest.Builder request(String baseUrl, String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path.trim()))
+                .timeout(REQUEST_TIMEOUT)
+                .GET();
+    }
+
+    /**
+     * @return the HTTP status, or -1 for server errors and failed requests
+     */
+    private int send(HttpClient client, HttpRequest request) {
+        try {
+            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            return status >= 500 ? -1 : status;
+        } catch (IOException e) {
+            return -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        }
+    }
+
+    private int serverPort() {
+        if (context instanceof WebServerApplicationContext webContext && webContext.getWebServer() != null) {
+            return webContext.getWebServer().getPort();
+        }
+        return -1;
+    }
+
+    private static double percentileMs(long[] sortedNanos, double p) {
+        int index = (int) Math.ceil(p * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, Math.min(index, sortedNanos.length - 1))] / 1_000_000.0;
+    }
+}
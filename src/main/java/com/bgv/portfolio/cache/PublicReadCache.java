@@ -0,0 +1,122 @@
+package com.bgv.portfolio.cache;
+
+import com.bgv.portfolio.datasource.ReadRouting;
+import com.bgv.portfolio.dto.EducationDTO;
+import com.bgv.portfolio.dto.ExperienceDTO;
+import com.bgv.portfolio.dto.ProfileDTO;
+import com.bgv.portfolio.dto.ProjectDTO;
+import com.bgv.portfolio.dto.SkillDTO;
+import com.bgv.portfolio.enums.EntityType;
+import com.bgv.portfolio.event.ClusterInvalidationEvent;
+import com.bgv.portfolio.event.PortfolioChangeEvent;
+import com.bgv.portfolio.export.ResumeData;
+import com.bgv.portfolio.service.PortfolioService;
+import com.bgv.portfolio.service.ReadModelService;
+import com.bgv.portfolio.service.ReadModelService.ReadModel;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Coalescing cache in front of the public list reads of {@link PortfolioService}.
+ * Anonymous traffic shares one load per resource and gets the previous value while it
+ * is refreshed. Authenticated requests (the admin UI) and requests pinned to the primary
+ * after a write bypass the cache, so editors always read their own changes.
+ * Every committed change, local or from another instance, marks all entries stale:
+ * the profile embeds experiences and education, and experiences embed projects.
+ * While the read model is still a snapshot restored from disk (database layer starting up),
+ * anonymous reads are answered from that snapshot instead.
+ */
+@Component
+public class PublicReadCache {
+
+    private final PortfolioService portfolioService;
+    private final ReadModelService readModelService;
+    private final boolean enabled;
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "public-read-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final SingleFlightCache<EntityType, Object> cache;
+
+    public PublicReadCache(PortfolioService portfolioService,
+                           ReadModelService readModelService,
+                           @Value("${public-cache.enabled:true}") boolean enabled,
+                           @Value("${public-cache.fresh-ms:30000}") long freshMs,
+                           @Value("${public-cache.stale-ms:300000}") long staleMs) {
+        this.portfolioService = portfolioService;
+        this.readModelService = readModelService;
+        this.enabled = enabled;
+        this.cache = new SingleFlightCache<>("public-read", freshMs, staleMs, refresher);
+    }
+
+    public ProfileDTO getProfile() {
+        return get(EntityType.PROFILE, portfolioService::getProfile, ResumeData::getProfile);
+    }
+
+    public List<SkillDTO> getSkills() {
+        return get(EntityType.SKILL, portfolioService::getSkills, ResumeData::getSkills);
+    }
+
+    public List<ProjectDTO> getProjects() {
+        return get(EntityType.PROJECT, portfolioService::getProjects, ResumeData::getProjects);
+    }
+
+    public List<ExperienceDTO> getExperiences() {
+        return get(EntityType.EXPERIENCE, portfolioService::getExperiences, ResumeData::getExperiences);
+    }
+
+    public List<EducationDTO> getEducation() {
+        return get(EntityType.EDUCATION, portfolioService::getEducation, ResumeData::getEducation);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onChange(PortfolioChangeEvent event) {
+        cache.invalidateAll();
+    }
+
+    @EventListener
+    public void onClusterInvalidation(ClusterInvalidationEvent event) {
+        cache.invalidateAll();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(EntityType key, Supplier<T> loader, Function<ResumeData, T> fromSnapshot) {
+        if (ReadRouting.isPinnedToPrimary() || isAuthenticated()) {
+            return loader.get();
+        }
+        ReadModel snapshot = readModelService.getUnverifiedSnapshot();
+        if (snapshot != null) {
+            return fromSnapshot.apply(snapshot.getData());
+        }
+        if (!enabled) {
+            return loader.get();
+        }
+        // Each key is only ever loaded by its own typed loader
+        return (T) cache.get(key, loader::get);
+    }
+
+    private static boolean isAuthenticated() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken);
+    }
+}
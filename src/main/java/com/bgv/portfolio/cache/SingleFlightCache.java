@@ -0,0 +1,147 @@
+package com.bgv.portfolio.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * In-memory cache that runs at most one loader per key at a time and serves
+ * stale values while refreshing.
+ * <ul>
+ *   <li>Fresh (younger than {@code freshMs}): returned as is.</li>
+ *   <li>Stale (up to {@code staleMs} past freshness, or invalidated less than {@code staleMs} ago):
+ *       returned as is while one background refresh runs.</li>
+ *   <li>Missing or too old: loaded in the calling thread; concurrent callers for the same key
+ *       wait for that load and share its result or its exception.</li>
+ * </ul>
+ * Failed loads are not cached. A load that started before an invalidation is stored as stale,
+ * so it never hides the change that caused the invalidation.
+ *
+ * @param <K> key type
+ * @param <V> value type; values are shared between callers and must not be mutated
+ */
+@Slf4j
+public class SingleFlightCache<K, V> {
+
+    private final String name;
+    private final long freshNanos;
+    private final long staleNanos;
+    private final Executor refresher;
+    private final LongSupplier ticker;
+
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public SingleFlightCache(String name, long freshMs, long staleMs, Executor refresher) {
+        this(name, freshMs, staleMs, refresher, System::nanoTime);
+    }
+
+    SingleFlightCache(String name, long freshMs, long staleMs, Executor refresher, LongSupplier ticker) {
+        this.name = name;
+        this.freshNanos = TimeUnit.MILLISECONDS.toNanos(freshMs);
+        this.staleNanos = TimeUnit.MILLISECONDS.toNanos(staleMs);
+        this.refresher = refresher;
+        this.ticker = ticker;
+    }
+
+    /**
+     * Returns the cached value, refreshing or loading it as described on the class.
+     *
+     * @param key    cache key
+     * @param loader loads the current value; called by at most one thread per key at a time
+     * @return the cached or freshly loaded value
+     */
+    public V get(K key, Supplier<V> loader) {
+        Entry<V> entry = entries.get(key);
+        long now = ticker.getAsLong();
+        if (entry != null) {
+            if (now < entry.freshUntil) {
+                return entry.value;
+            }
+            if (now < entry.staleUntil) {
+                refreshInBackground(key, loader);
+                return entry.value;
+            }
+        }
+        return await(load(key, loader));
+    }
+
+    /**
+     * Marks every entry stale; the next read of each key triggers a refresh.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        long now = ticker.getAsLong();
+        entries.replaceAll((key, entry) -> entry.invalidated(now, staleNanos));
+    }
+
+    private void refreshInBackground(K key, Supplier<V> loader) {
+        if (inFlight.containsKey(key)) {
+            return;
+        }
+        try {
+            refresher.execute(() -> {
+                try {
+                    load(key, loader).join();
+                } catch (CompletionException e) {
+                    log.warn("Cache {}: background refresh of {} failed, still serving the stale value: {}",
+                            name, key, e.getCause().getMessage());
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("Cache {}: could not schedule refresh of {}: {}", name, key, e.getMessage());
+        }
+    }
+
+    private CompletableFuture<V> load(K key, Supplier<V> loader) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            return existing;
+        }
+        long startGeneration = generation.get();
+        try {
+            V value = loader.get();
+            long now = ticker.getAsLong();
+            entries.put(key, startGeneration == generation.get()
+                    ? new Entry<>(value, now + freshNanos, now + freshNanos + staleNanos)
+                    : new Entry<>(value, now, now + staleNanos));
+            created.complete(value);
+        } catch (Throwable e) {
+            created.completeExceptionally(e);
+        } finally {
+            inFlight.remove(key, created);
+        }
+        return created;
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private record Entry<V>(V value, long freshUntil, long staleUntil) {
+
+        Entry<V> invalidated(long now, long staleNanos) {
+            return now < staleUntil ? new Entry<>(value, now, now + staleNanos) : this;
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package com.bgv.portfolio.cluster;
+
+import com.bgv.portfolio.enums.ChangeOperation;
+import com.bgv.portfolio.enums.EntityType;
+import com.bgv.portfolio.event.ClusterInvalidationEvent;
+import com.bgv.portfolio.event.PortfolioChangeEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.UUID;
+
+/**
+ * Keeps in-process caches consistent across instances sharing one database.
+ * <p>
+ * Every committed mutation is announced with Postgres NOTIFY on {@code cluster.invalidation.channel}.
+ * The NOTIFY is issued inside the writing transaction (one per transaction, batched), so Postgres
+ * delivers it exactly when the transaction commits and never for a rollback. Each instance holds
+ * one dedicated LISTEN connection outside the pool and republishes other instances' changes as
+ * {@link ClusterInvalidationEvent}s. Notifications sent while an instance is disconnected are lost,
+ * so after every reconnect it publishes a full resync instead.
+ * <p>
+ * Only active on PostgreSQL; LISTEN needs a session-level connection, so the listener must not go
+ * through a transaction-pooling proxy such as PgBouncer in transaction mode.
+ */
+@Component
+@Slf4j
+public class ClusterInvalidationBus {
+
+    // NOTIFY payloads are limited to 8000 bytes; stay well below with some JSON headroom
+    private static final int MAX_PAYLOAD_BYTES = 7000;
+    private static final long MAX_RECONNECT_DELAY_MS = 30_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DataSourceProperties dataSourceProperties;
+    private final boolean active;
+    private final String channel;
+    private final String nodeId;
+    private final long pollMs;
+    private final long keepaliveMs;
+    private final long reconnectDelayMs;
+
+    private final Object pendingKey = new Object();
+    private volatile boolean running;
+    private volatile Connection listenConnection;
+    private Thread listenerThread;
+
+    public ClusterInvalidationBus(JdbcTemplate jdbcTemplate,
+                                  ObjectMapper objectMapper,
+                                  ApplicationEventPublisher eventPublisher,
+                                  DataSourceProperties dataSourceProperties,
+                                  @Value("${cluster.invalidation.enabled:true}") boolean enabled,
+                                  @Value("${cluster.invalidation.channel:portfolio_changes}") String channel,
+                                  @Value("${cluster.node-id:}") String nodeId,
+                                  @Value("${cluster.invalidation.poll-ms:1000}") long pollMs,
+                                  @Value("${cluster.invalidation.keepalive-ms:30000}") long keepaliveMs,
+                                  @Value("${cluster.invalidation.reconnect-delay-ms:1000}") long reconnectDelayMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.dataSourceProperties = dataSourceProperties;
+        String url = dataSourceProperties.getUrl();
+        this.active = enabled && url != null && url.startsWith("jdbc:postgresql:");
+        if (!channel.matches("[a-z_][a-z0-9_]*")) {
+            throw new IllegalArgumentException("cluster.invalidation.channel must be a lower-case identifier: " + channel);
+        }
+        this.channel = channel;
+        this.nodeId = StringUtils.hasText(nodeId) ? nodeId : UUID.randomUUID().toString().substring(0, 8);
+        this.pollMs = pollMs;
+        this.keepaliveMs = keepaliveMs;
+        this.reconnectDelayMs = reconnectDelayMs;
+    }
+
+    // ---------------- Publishing ----------------
+
+    /**
+     * Queues the change for the NOTIFY sent just before the surrounding transaction commits.
+     * Runs synchronously in the publishing thread, so it sees that transaction.
+     */
+    @EventListener
+    public void onChange(PortfolioChangeEvent event) {
+        if (!active) {
+            return;
+        }
+        ClusterNotification.Change change = ClusterNotification.Change.of(event);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            sendAll(List.of(change));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<ClusterNotification.Change> pending = (List<ClusterNotification.Change>) TransactionSynchronizationManager.getResource(pendingKey);
+        if (pending == null) {
+            List<ClusterNotification.Change> changes = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(pendingKey, changes);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    sendAll(changes);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(pendingKey);
+                }
+            });
+            pending = changes;
+        }
+        pending.add(change);
+    }
+
+    private void sendAll(List<ClusterNotification.Change> changes) {
+        List<ClusterNotification.Change> chunk = new ArrayList<>();
+        int chunkBytes = 0;
+        for (ClusterNotification.Change change : changes) {
+            int size = toJson(change).length() + 1;
+            if (!chunk.isEmpty() && chunkBytes + size > MAX_PAYLOAD_BYTES) {
+                send(chunk);
+                chunk = new ArrayList<>();
+                chunkBytes = 0;
+            }
+            chunk.add(change);
+            chunkBytes += size;
+        }
+        if (!chunk.isEmpty()) {
+            send(chunk);
+        }
+    }
+
+    private void send(List<ClusterNotification.Change> changes) {
+        String payload = toJson(new ClusterNotification(nodeId, changes));
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, channel, payload);
+    }
+
+    // ---------------- Listening ----------------
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!active) {
+            log.info("Cluster invalidation disabled (enabled flag off or database is not PostgreSQL)");
+            return;
+        }
+        running = true;
+        listenerThread = new Thread(this::listen, "cluster-invalidation");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+        log.info("Cluster invalidation listening on channel '{}' as node {}", channel, nodeId);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        closeQuietly(listenConnection);
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    private void listen() {
+        boolean connectedBefore = false;
+        long delayMs = reconnectDelayMs;
+        while (running) {
+            try (Connection connection = connect()) {
+                listenConnection = connection;
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                delayMs = reconnectDelayMs;
+                if (connectedBefore) {
+                    // Whatever was committed while we were away was never delivered to us
+                    log.info("Cluster invalidation reconnected, resyncing local caches");
+                    eventPublisher.publishEvent(ClusterInvalidationEvent.resync());
+                }
+                connectedBefore = true;
+                receive(connection);
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Cluster invalidation connection lost ({}), reconnecting in {} ms", e.getMessage(), delayMs);
+            } finally {
+                listenConnection = null;
+            }
+            if (!sleep(delayMs)) {
+                return;
+            }
+            delayMs = Math.min(delayMs * 2, MAX_RECONNECT_DELAY_MS);
+        }
+    }
+
+    private void receive(Connection connection) throws SQLException {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        long lastActivity = System.currentTimeMillis();
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications((int) pollMs);
+            if (notifications != null && notifications.length > 0) {
+                for (PGNotification notification : notifications) {
+                    dispatch(notification.getParameter());
+                }
+                lastActivity = System.currentTimeMillis();
+            } else if (System.currentTimeMillis() - lastActivity >= keepaliveMs) {
+                // A silently dropped TCP connection never errors on its own; a round trip does
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("SELECT 1");
+                }
+                lastActivity = System.currentTimeMillis();
+            }
+        }
+    }
+
+    private void dispatch(String payload) {
+        ClusterNotification notification;
+        try {
+            notification = objectMapper.readValue(payload, ClusterNotification.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring malformed cluster notification: {}", e.getOriginalMessage());
+            return;
+        }
+        if (nodeId.equals(notification.node()) || notification.changes() == null) {
+            return;
+        }
+        for (ClusterNotification.Change change : notification.changes()) {
+            try {
+                eventPublisher.publishEvent(new ClusterInvalidationEvent(change.toEvent()));
+            } catch (RuntimeException e) {
+                log.error("Cluster invalidation handler failed: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private Connection connect() throws SQLException {
+        Properties properties = new Properties();
+        if (dataSourceProperties.determineUsername() != null) {
+            properties.setProperty("user", dataSourceProperties.determineUsername());
+        }
+        if (dataSourceProperties.determinePassword() != null) {
+            properties.setProperty("password", dataSourceProperties.determinePassword());
+        }
+        // Shows up in pg_stat_activity next to the pooled connections
+        properties.setProperty("ApplicationName", "cluster-invalidation-" + nodeId);
+        return DriverManager.getConnection(dataSourceProperties.determineUrl(), properties);
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize cluster notification", e);
+        }
+    }
+
+    private static boolean sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (SQLException ignored) {
+                // shutting down
+            }
+        }
+    }
+
+    /**
+     * NOTIFY payload: the sending node and the changes one transaction committed.
+     */
+    record ClusterNotification(String node, List<Change> changes) {
+
+        record Change(EntityType type, Long id, ChangeOperation op, Long version, Instant at) {
+
+            static Change of(PortfolioChangeEvent event) {
+                return new Change(event.getEntityType(), event.getId(), event.getOperation(),
+                        event.getVersion(), event.getTimestamp());
+            }
+
+            PortfolioChangeEvent toEvent() {
+                return new PortfolioChangeEvent(type, id, op, version, at);
+            }
+        }
+    }
+}
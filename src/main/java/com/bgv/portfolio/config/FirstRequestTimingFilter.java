@@ -0,0 +1,44 @@
+package com.bgv.portfolio.config;
+
+import com.bgv.portfolio.service.StartupReportService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Reports time-to-first-request: the delay from JVM start until the first
+ * request has been fully served. Warm-up requests are not counted.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class FirstRequestTimingFilter extends OncePerRequestFilter {
+
+    private final StartupReportService startupReportService;
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return startupReportService.isFirstRequestSeen() || startupReportService.isWarmingUp();
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            startupReportService.recordRequest(request.getRequestURI());
+        }
+    }
+}
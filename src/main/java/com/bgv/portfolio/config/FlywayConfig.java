@@ -0,0 +1,21 @@
+package com.bgv.portfolio.config;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Flyway Configuration
+ * Schema is owned by the migrations in db/migration. Databases created earlier by
+ * Hibernate auto-DDL are baselined at V0 (the schema they already have) and then migrated.
+ */
+@Configuration
+public class FlywayConfig {
+
+    @Bean
+    public FlywayConfigurationCustomizer baselineExistingSchema() {
+        return configuration -> configuration
+                .baselineOnMigrate(true)
+                .baselineVersion("0");
+    }
+}
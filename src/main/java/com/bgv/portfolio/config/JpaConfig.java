@@ -0,0 +1,41 @@
+package com.bgv.portfolio.config;
+
+import com.bgv.portfolio.audit.ChangeJournalListener;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.jpa.boot.spi.JpaSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Hibernate tuning shared by all repositories.
+ * Enables JDBC batching so multi-row writes (bulk admin endpoints) flush
+ * as a few round trips instead of one statement per row, and hooks the change
+ * journal into the session factory as it is built.
+ */
+@Configuration
+public class JpaConfig {
+
+    @Value("${jpa.jdbc.batch-size:50}")
+    private int batchSize;
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer() {
+        return properties -> {
+            properties.putIfAbsent("hibernate.jdbc.batch_size", batchSize);
+            properties.putIfAbsent("hibernate.order_inserts", true);
+            properties.putIfAbsent("hibernate.order_updates", true);
+            properties.putIfAbsent("hibernate.jdbc.batch_versioned_data", true);
+            properties.putIfAbsent("hibernate.default_batch_fetch_size", batchSize);
+        };
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer changeJournalIntegrator(ChangeJournalListener changeJournalListener) {
+        return properties -> properties.put(JpaSettings.INTEGRATOR_PROVIDER,
+                (IntegratorProvider) () -> List.of(changeJournalListener));
+    }
+}
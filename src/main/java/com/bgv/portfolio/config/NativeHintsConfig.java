@@ -0,0 +1,97 @@
+package com.bgv.portfolio.config;
+
+import com.bgv.portfolio.exception.ErrorResponse;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.util.ClassUtils;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Native Image Hints
+ * Reflection and resource metadata for the GraalVM native build (gradle nativeCompile -Pnative).
+ * Spring AOT covers beans, repositories and controller signatures; this adds what it cannot see.
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.PortfolioRuntimeHints.class)
+public class NativeHintsConfig {
+
+    static class PortfolioRuntimeHints implements RuntimeHintsRegistrar {
+
+        private static final String BASE_PACKAGE = "com.bgv.portfolio";
+
+        /** Types Jackson binds, including generic payloads of ApiResponse that controller signatures hide. */
+        private static final List<String> JSON_PACKAGES = List.of("dto", "event", "export", "enums");
+
+        /** jjwt-api instantiates its implementation classes by name. */
+        private static final List<String> JJWT_IMPL_CLASSES = List.of(
+                "io.jsonwebtoken.impl.DefaultJwtBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+                "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+                "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+                "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+                "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+                "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+                "io.jsonwebtoken.impl.security.StandardKeyOperations",
+                "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+                "io.jsonwebtoken.impl.security.KeysBridge",
+                "io.jsonwebtoken.impl.security.JwksBridge",
+                "io.jsonwebtoken.jackson.io.JacksonSerializer",
+                "io.jsonwebtoken.jackson.io.JacksonDeserializer");
+
+        private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            Class<?>[] jsonTypes = JSON_PACKAGES.stream()
+                    .flatMap(pkg -> classesIn(BASE_PACKAGE + "." + pkg, classLoader))
+                    .toArray(Class<?>[]::new);
+            bindingRegistrar.registerReflectionHints(hints.reflection(), jsonTypes);
+            bindingRegistrar.registerReflectionHints(hints.reflection(), ErrorResponse.class);
+
+            // Hibernate reads and writes entity fields directly
+            classesIn(BASE_PACKAGE + ".model", classLoader).forEach(entity ->
+                    hints.reflection().registerType(entity,
+                            MemberCategory.DECLARED_FIELDS,
+                            MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                            MemberCategory.INVOKE_DECLARED_METHODS));
+
+            JJWT_IMPL_CLASSES.forEach(name -> hints.reflection().registerType(TypeReference.of(name),
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS,
+                    MemberCategory.DECLARED_FIELDS));
+            hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+
+            hints.resources().registerPattern("resume.json");
+            hints.resources().registerPattern("db/migration/*");
+            hints.resources().registerPattern("static/*");
+            hints.resources().registerPattern("static/**");
+            hints.resources().registerPattern("openapi/*");
+            // OpenPDF loads the standard Type 1 font metrics from the classpath
+            hints.resources().registerPattern("com/lowagie/text/pdf/fonts/*");
+        }
+
+        private Stream<Class<?>> classesIn(String basePackage, ClassLoader classLoader) {
+            ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+                @Override
+                protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                    return true;
+                }
+            };
+            scanner.addIncludeFilter((reader, factory) -> true);
+            return scanner.findCandidateComponents(basePackage).stream()
+                    .map(BeanDefinition::getBeanClassName)
+                    .map(name -> ClassUtils.resolveClassName(name, classLoader));
+        }
+    }
+}
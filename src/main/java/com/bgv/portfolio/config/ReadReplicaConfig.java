@@ -0,0 +1,93 @@
+package com.bgv.portfolio.config;
+
+import com.bgv.portfolio.datasource.ReadAfterWriteFilter;
+import com.bgv.portfolio.datasource.ReplicaRoutingDataSource;
+import com.bgv.portfolio.datasource.ReplicaRoutingDataSource.Replica;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read Replica Configuration
+ * Routes when datasource.replica.urls is set: read-only transactions go to the replicas,
+ * everything else to the primary (spring.datasource.*). The lazy proxy defers the physical
+ * connection until the transaction has marked it read-only, which is what selects the target.
+ * <p>
+ * The beans are always registered and check the property when they are created, rather than
+ * using {@code @ConditionalOnProperty}: Spring AOT (the fast-startup image) evaluates conditions
+ * at build time, where no replica URLs are set, so the switch would be stuck off.
+ */
+@Configuration
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            DataSourceProperties properties,
+            @Value("${datasource.replica.urls:}") String urls,
+            @Value("${datasource.replica.username:}") String username,
+            @Value("${datasource.replica.password:}") String password,
+            @Value("${datasource.replica.pool-size:5}") int poolSize,
+            @Value("${datasource.replica.max-lag-ms:10000}") long maxLagMs) {
+        List<Replica> replicas = new ArrayList<>();
+        for (String url : StringUtils.commaDelimitedListToSet(urls)) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + (replicas.size() + 1));
+            replica.setJdbcUrl(url.trim());
+            replica.setUsername(StringUtils.hasText(username) ? username : properties.determineUsername());
+            replica.setPassword(StringUtils.hasText(password) ? password : properties.determinePassword());
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setMaximumPoolSize(poolSize);
+            replica.setReadOnly(true);
+            // Let the app start while a replica is down; the health check keeps it out of rotation
+            replica.setInitializationFailTimeout(-1);
+            replicas.add(new Replica(replica.getPoolName(), replica));
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, maxLagMs);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaRoutingDataSource) {
+        if (!replicaRoutingDataSource.isRoutingEnabled()) {
+            return primaryDataSource;
+        }
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaRoutingDataSource);
+        return dataSource;
+    }
+
+    @Bean
+    public ReadAfterWriteFilter readAfterWriteFilter(
+            @Value("${datasource.replica.read-after-write-ms:5000}") long windowMs) {
+        return new ReadAfterWriteFilter(windowMs);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadAfterWriteFilter> readAfterWriteFilterRegistration(
+            ReadAfterWriteFilter readAfterWriteFilter, ReplicaRoutingDataSource replicaRoutingDataSource) {
+        FilterRegistrationBean<ReadAfterWriteFilter> registration = new FilterRegistrationBean<>(readAfterWriteFilter);
+        // Without replicas every read already goes to the primary
+        registration.setEnabled(replicaRoutingDataSource.isRoutingEnabled());
+        return registration;
+    }
+}
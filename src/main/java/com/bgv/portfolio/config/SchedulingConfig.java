@@ -0,0 +1,12 @@
+package com.bgv.portfolio.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables scheduled background tasks (stream heartbeats, periodic flushes).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,11 +1,14 @@
 package com.bgv.portfolio.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
 import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
 import org.springframework.web.servlet.resource.PathResourceResolver;
 
 import java.io.IOException;
@@ -13,8 +16,25 @@ import java.io.IOException;
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    @Value("${export.timeout-ms:1800000}")
+    private long exportTimeoutMs;
+
+    @Override
+    public void configureAsyncSupport(@NonNull AsyncSupportConfigurer configurer) {
+        // Streamed bodies (the NDJSON export) run as async requests; the container default of
+        // 30 seconds would cut large exports off. SSE emitters set their own timeout.
+        configurer.setDefaultTimeout(exportTimeoutMs);
+    }
+
     @Override
     public void addResourceHandlers(@NonNull ResourceHandlerRegistry registry) {
+        // Build-time OpenAPI spec; openapi.json.gz is served to clients that accept gzip
+        registry.addResourceHandler("/openapi.json")
+                .addResourceLocations("classpath:/openapi/")
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new PathResourceResolver());
+
         registry.addResourceHandler("/**")
                 .addResourceLocations("classpath:/static/")
                 .resourceChain(true)
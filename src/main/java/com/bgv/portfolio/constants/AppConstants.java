@@ -32,6 +32,15 @@ public final class AppConstants {
     public static final int PASSWORD_MIN_LENGTH = 6;
     public static final int PASSWORD_MAX_LENGTH = 100;
     public static final String PHONE_REGEX = "^\\+?[0-9]{10,15}$";
+    public static final int BATCH_MAX_ITEMS = 1000;
+    public static final int EVENTS_MAX_BATCH = 500;
+    public static final int EVENT_TYPE_MAX_LENGTH = 32;
+    public static final int EVENT_PATH_MAX_LENGTH = 512;
+    
+    // ===========================================
+    // Skills
+    // ===========================================
+    public static final String SKILL_LEVEL_UNSPECIFIED = "unspecified";
     
     // ===========================================
     // CORS
@@ -60,6 +69,8 @@ public final class AppConstants {
     public static final String MSG_EDUCATION_DELETED = "Education deleted successfully";
     public static final String MSG_DATA_LOADED = "Data loaded successfully";
     public static final String MSG_RESUME_RELOADED = "Resume data reloaded successfully";
+    public static final String MSG_BATCH_APPLIED = "Batch applied successfully";
+    public static final String MSG_RESUME_IMPORTED = "Resume imported successfully";
     
     // ===========================================
     // Messages - Error
@@ -82,10 +93,28 @@ public final class AppConstants {
     public static final String ERR_VALIDATION_FAILED = "Validation failed";
     public static final String ERR_RESOURCE_NOT_FOUND = "Resource not found";
     public static final String ERR_BAD_REQUEST = "Bad request";
+    public static final String ERR_ID_REQUIRED = "Id is required";
+    public static final String ERR_VERSION_CONFLICT = "Resource was modified by another request";
+    public static final String ERR_VERSION_REQUIRED = "Version is required";
+    public static final String ERR_DUPLICATE_BATCH_ID = "Id appears more than once in this batch";
+    public static final String ERR_PRECONDITION_REQUIRED = "If-Match header is required for this request";
+    public static final String ERR_INVALID_IF_MATCH = "Invalid If-Match header";
+    public static final String ERR_WEAK_IF_MATCH = "If-Match requires a strong ETag";
+    public static final String ERR_INVALID_ENTITY_TYPE = "Invalid entity type";
+    public static final String ERR_INVALID_SYNC_TOKEN = "Invalid sync token";
+    public static final String ERR_NOT_READY = "Application is not ready to accept traffic";
+    public static final String ERR_INVALID_IMPORT = "Invalid resume document";
+    public static final String ERR_IMPORT_IN_PROGRESS = "Another import is still running";
+    public static final String ERR_EMPTY_UPLOAD = "Uploaded file is empty";
+    public static final String ERR_NO_IMPORT = "No import has run since startup";
+    public static final String ERR_TOO_MANY_EVENTS = "Too many events from this client, retry later";
     
     // ===========================================
     // Default Values
     // ===========================================
     public static final String DEFAULT_ROLE = "VIEW";
+    public static final String SYSTEM_PRINCIPAL = "SYSTEM";
+    public static final int MAX_PAGE_SIZE = 200;
+    public static final String EXPORT_FETCH_SIZE = "500"; // rows per JDBC round trip when streaming exports
     public static final long DEFAULT_JWT_EXPIRATION = 86400000L; // 24 hours
 }
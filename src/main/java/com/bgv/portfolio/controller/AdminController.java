@@ -1,8 +1,16 @@
 package com.bgv.portfolio.controller;
 
 import com.bgv.portfolio.bootstrap.ResumeDataService;
+import com.bgv.portfolio.datasource.ReplicaRoutingDataSource;
 import com.bgv.portfolio.dto.ApiResponse;
+import com.bgv.portfolio.dto.DataSourceRoutingReportDTO;
+import com.bgv.portfolio.dto.ReloadSummaryDTO;
+import com.bgv.portfolio.dto.StartupReportDTO;
+import com.bgv.portfolio.service.StartupReportService;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -12,18 +20,41 @@ import org.springframework.web.bind.annotation.RestController;
 public class AdminController {
 
     private final ResumeDataService resumeDataService;
+    private final StartupReportService startupReportService;
+    private final ObjectProvider<ReplicaRoutingDataSource> replicaRouting;
 
-    public AdminController(ResumeDataService resumeDataService) {
+    public AdminController(ResumeDataService resumeDataService,
+                           StartupReportService startupReportService,
+                           ObjectProvider<ReplicaRoutingDataSource> replicaRouting) {
         this.resumeDataService = resumeDataService;
+        this.startupReportService = startupReportService;
+        this.replicaRouting = replicaRouting;
     }
 
+    @PreAuthorize("hasRole('ADMIN')")
     @PostMapping("/reload-resume")
-    public ResponseEntity<ApiResponse<Void>> reloadResume() {
+    public ResponseEntity<ApiResponse<ReloadSummaryDTO>> reloadResume() {
         try {
-            resumeDataService.forceImportFromClasspath();
-            return ResponseEntity.ok(ApiResponse.success("Resume data reloaded successfully"));
+            ReloadSummaryDTO summary = resumeDataService.reloadFromClasspath();
+            return ResponseEntity.ok(ApiResponse.success(summary, "Resume data reloaded successfully"));
         } catch (Exception e) {
-            return ResponseEntity.status(500).body(ApiResponse.error("Failed to reload resume: " + e.getMessage(), "/api/admin/reload-resume"));
+            return ResponseEntity.status(500).body(ApiResponse.error("Failed to reload resume: " + e.getMessage(), null, "/api/admin/reload-resume"));
         }
     }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/startup")
+    public ResponseEntity<ApiResponse<StartupReportDTO>> startupReport() {
+        return ResponseEntity.ok(ApiResponse.success(startupReportService.getReport()));
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/datasource")
+    public ResponseEntity<ApiResponse<DataSourceRoutingReportDTO>> dataSourceRouting() {
+        ReplicaRoutingDataSource routing = replicaRouting.getIfAvailable();
+        DataSourceRoutingReportDTO report = routing != null
+                ? routing.getReport()
+                : DataSourceRoutingReportDTO.builder().routingEnabled(false).build();
+        return ResponseEntity.ok(ApiResponse.success(report));
+    }
 }
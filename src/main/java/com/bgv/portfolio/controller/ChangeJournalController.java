@@ -0,0 +1,68 @@
+package com.bgv.portfolio.controller;
+
+import com.bgv.portfolio.constants.AppConstants;
+import com.bgv.portfolio.dto.ApiResponse;
+import com.bgv.portfolio.dto.ChangeJournalEntryDTO;
+import com.bgv.portfolio.dto.PageResponse;
+import com.bgv.portfolio.enums.EntityType;
+import com.bgv.portfolio.service.ChangeJournalService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+
+/**
+ * Change Journal Controller
+ * Exposes the append-only history of portfolio changes
+ */
+@RestController
+@RequestMapping("/api/admin/journal")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Change Journal API", description = "History of who changed what")
+public class ChangeJournalController {
+
+    private final ChangeJournalService changeJournalService;
+
+    /**
+     * Pages through change history, newest first.
+     *
+     * @param entityType optional entity type (profile, skill, project, experience, education)
+     * @param entityId   optional entity id, used together with entityType
+     * @param from       optional inclusive lower bound (ISO-8601 instant)
+     * @param to         optional upper bound (ISO-8601 instant)
+     * @return ResponseEntity with a page of journal entries
+     */
+    @Operation(summary = "Get change history (Admin only)")
+    @SecurityRequirement(name = "bearerAuth")
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping
+    public ResponseEntity<ApiResponse<PageResponse<ChangeJournalEntryDTO>>> getHistory(
+            @RequestParam(required = false) String entityType,
+            @RequestParam(required = false) Long entityId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        EntityType type = EntityType.fromValue(entityType);
+        if (entityType != null && type == null) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(AppConstants.ERR_INVALID_ENTITY_TYPE, null, "/api/admin/journal"));
+        }
+        int pageSize = Math.max(1, Math.min(size, AppConstants.MAX_PAGE_SIZE));
+        log.debug("Fetching change journal: type={}, id={}, from={}, to={}, page={}", type, entityId, from, to, page);
+        return ResponseEntity.ok(ApiResponse.success(
+                changeJournalService.getHistory(type, entityId, from, to, Math.max(page, 0), pageSize)));
+    }
+}
@@ -0,0 +1,40 @@
+package com.bgv.portfolio.controller;
+
+import com.bgv.portfolio.service.ChangeStreamService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Change Stream Controller
+ * Pushes committed portfolio changes to admin dashboards over Server-Sent Events
+ */
+@RestController
+@RequestMapping("/api/changes")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Change Stream API", description = "Server-Sent Events feed of portfolio changes")
+public class ChangeStreamController {
+
+    private final ChangeStreamService changeStreamService;
+
+    /**
+     * Opens a change stream. Each event carries entity type, id, operation and version.
+     *
+     * @return SseEmitter streaming change events
+     */
+    @Operation(summary = "Subscribe to portfolio changes (Admin only)")
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream() {
+        log.debug("Opening change stream subscription");
+        return changeStreamService.subscribe();
+    }
+}
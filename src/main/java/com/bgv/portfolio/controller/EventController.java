@@ -0,0 +1,65 @@
+package com.bgv.portfolio.controller;
+
+import com.bgv.portfolio.dto.ApiResponse;
+import com.bgv.portfolio.dto.EventBatchRequest;
+import com.bgv.portfolio.dto.EventIngestResultDTO;
+import com.bgv.portfolio.dto.VisitorEventStatsDTO;
+import com.bgv.portfolio.service.VisitorEventService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Event Controller
+ * Accepts client event beacons; events are written to the database in the background
+ */
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+@Tag(name = "Events API", description = "Client event beacons")
+public class EventController {
+
+    private final VisitorEventService visitorEventService;
+
+    /**
+     * Queues a batch of client events. Responds 202 before anything is written;
+     * under overload some events are dropped and reported as such, and a client
+     * over its rate gets 429 with Retry-After.
+     *
+     * @param request the events
+     * @param servletRequest the HTTP request, for the client address
+     * @return ResponseEntity with the number of accepted and dropped events
+     */
+    @Operation(summary = "Send a batch of client events")
+    @PostMapping("/events")
+    public ResponseEntity<ApiResponse<EventIngestResultDTO>> ingest(@Valid @RequestBody EventBatchRequest request,
+                                                                    HttpServletRequest servletRequest) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(visitorEventService.accept(servletRequest.getRemoteAddr(),
+                        request.getEvents())));
+    }
+
+    /**
+     * Ingestion counters since startup.
+     *
+     * @return ResponseEntity with received, dropped, written and failed counts and the queue fill
+     */
+    @Operation(summary = "Get event ingestion stats (Admin only)")
+    @SecurityRequirement(name = "bearerAuth")
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/admin/events/stats")
+    public ResponseEntity<ApiResponse<VisitorEventStatsDTO>> getStats() {
+        return ResponseEntity.ok(ApiResponse.success(visitorEventService.getStats()));
+    }
+}
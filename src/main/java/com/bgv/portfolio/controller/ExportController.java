@@ -0,0 +1,72 @@
+package com.bgv.portfolio.controller;
+
+import com.bgv.portfolio.service.DataExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Export Controller
+ * Streams the complete portfolio dataset as NDJSON for backups and migrations
+ */
+@RestController
+@RequestMapping("/api/admin/export")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Export API", description = "Full data export as NDJSON")
+public class ExportController {
+
+    private static final int GZIP_BUFFER_SIZE = 8192;
+
+    private final DataExportService dataExportService;
+
+    /**
+     * Streams every entity as one JSON object per line. The body is written on an async
+     * thread while rows are read, so the response starts immediately and memory stays flat.
+     * Gzip-compressed when the client sends {@code Accept-Encoding: gzip}.
+     *
+     * @param acceptEncoding Accept-Encoding request header
+     * @return ResponseEntity with the streamed NDJSON body
+     */
+    @Operation(summary = "Export all portfolio data as NDJSON (Admin only)")
+    @SecurityRequirement(name = "bearerAuth")
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        log.info("Starting data export (gzip={})", gzip);
+
+        StreamingResponseBody body = gzip
+                ? out -> {
+                    try (GZIPOutputStream compressed = new GZIPOutputStream(out, GZIP_BUFFER_SIZE)) {
+                        dataExportService.export(compressed);
+                    }
+                }
+                : dataExportService::export;
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("portfolio-export.ndjson").build().toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+}
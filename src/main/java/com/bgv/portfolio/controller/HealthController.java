@@ -0,0 +1,46 @@
+package com.bgv.portfolio.controller;
+
+import com.bgv.portfolio.constants.AppConstants;
+import com.bgv.portfolio.dto.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Health Controller
+ * Readiness probe for load balancers and container health checks
+ */
+@RestController
+@RequestMapping("/api/health")
+@RequiredArgsConstructor
+@Tag(name = "Health API", description = "Readiness probe")
+public class HealthController {
+
+    private final ApplicationAvailability availability;
+
+    /**
+     * Reports whether the instance should receive traffic. Stays 503 until startup,
+     * including the warm-up phase, has finished, and again once shutdown begins.
+     *
+     * @return 200 when accepting traffic, 503 otherwise
+     */
+    @Operation(summary = "Readiness probe")
+    @GetMapping("/ready")
+    public ResponseEntity<ApiResponse<ReadinessState>> ready() {
+        ReadinessState state = availability.getReadinessState();
+        if (state == ReadinessState.ACCEPTING_TRAFFIC) {
+            return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(ApiResponse.success(state));
+        }
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .cacheControl(CacheControl.noStore())
+                .body(ApiResponse.error(AppConstants.ERR_NOT_READY, state, "/api/health/ready"));
+    }
+}
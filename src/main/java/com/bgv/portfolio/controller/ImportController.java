@@ -0,0 +1,110 @@
+package com.bgv.portfolio.controller;
+
+import com.bgv.portfolio.bootstrap.ImportProgress;
+import com.bgv.portfolio.bootstrap.ResumeDataService;
+import com.bgv.portfolio.constants.AppConstants;
+import com.bgv.portfolio.dto.ApiResponse;
+import com.bgv.portfolio.dto.ImportStatusDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Import Controller
+ * Replaces portfolio data with an uploaded resume document, without a redeploy
+ */
+@RestController
+@RequestMapping("/api/admin/import")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Import API", description = "Streaming resume import")
+public class ImportController {
+
+    private static final String PATH = "/api/admin/import";
+
+    private final ResumeDataService resumeDataService;
+
+    /**
+     * Imports a resume document sent as the raw request body. The body is parsed while it
+     * is being received, so it is never held in memory or on disk as a whole.
+     *
+     * @param request the request carrying the document
+     * @return ResponseEntity with the final import status
+     */
+    @Operation(summary = "Import a resume document from the request body (Admin only)",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Document in resume.json format",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)))
+    @SecurityRequirement(name = "bearerAuth")
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponse<ImportStatusDTO>> importBody(HttpServletRequest request) throws IOException {
+        long length = request.getContentLengthLong();
+        return runImport(request.getInputStream(), length >= 0 ? length : null);
+    }
+
+    /**
+     * Imports a resume document uploaded as the {@code file} part of a multipart form.
+     *
+     * @param file the uploaded document
+     * @return ResponseEntity with the final import status
+     */
+    @Operation(summary = "Import an uploaded resume file (Admin only)")
+    @SecurityRequirement(name = "bearerAuth")
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<ImportStatusDTO>> importFile(@RequestPart("file") MultipartFile file) throws IOException {
+        if (file.isEmpty()) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(AppConstants.ERR_EMPTY_UPLOAD, null, PATH));
+        }
+        try (InputStream in = file.getInputStream()) {
+            return runImport(in, file.getSize());
+        }
+    }
+
+    /**
+     * Returns the progress of the running upload, or the outcome of the last one.
+     *
+     * @return ResponseEntity with the import status
+     */
+    @Operation(summary = "Get resume import progress (Admin only)")
+    @SecurityRequirement(name = "bearerAuth")
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/status")
+    public ResponseEntity<ApiResponse<ImportStatusDTO>> status() {
+        ImportStatusDTO status = resumeDataService.getUploadStatus();
+        if (status == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error(AppConstants.ERR_NO_IMPORT, null, PATH + "/status"));
+        }
+        return ResponseEntity.ok(ApiResponse.success(status));
+    }
+
+    private ResponseEntity<ApiResponse<ImportStatusDTO>> runImport(InputStream in, Long totalBytes) throws IOException {
+        ImportProgress progress = resumeDataService.startUpload(totalBytes);
+        if (progress == null) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(ApiResponse.error(AppConstants.ERR_IMPORT_IN_PROGRESS, resumeDataService.getUploadStatus(), PATH));
+        }
+        log.info("Starting resume import ({} bytes)", totalBytes != null ? totalBytes : "unknown");
+        resumeDataService.importUpload(in, progress);
+        return ResponseEntity.ok(ApiResponse.success(progress.toDto(), AppConstants.MSG_RESUME_IMPORTED));
+    }
+}
@@ -1,17 +1,33 @@
 package com.bgv.portfolio.controller;
 
+import com.bgv.portfolio.cache.PublicReadCache;
 import com.bgv.portfolio.constants.AppConstants;
 import com.bgv.portfolio.dto.*;
+import com.bgv.portfolio.exception.PreconditionFailedException;
+import com.bgv.portfolio.exception.PreconditionRequiredException;
 import com.bgv.portfolio.service.PortfolioService;
+import com.bgv.portfolio.service.SkillGroupService;
+import com.bgv.portfolio.service.SkillGroupService.GroupedSkills;
+import com.bgv.portfolio.service.TimelineService;
+import com.bgv.portfolio.service.TimelineService.Timeline;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.List;
 
 @RestController
@@ -22,41 +38,75 @@ import java.util.List;
 public class PortfolioController {
 
     private final PortfolioService service;
+    private final PublicReadCache publicReadCache;
+    private final SkillGroupService skillGroupService;
+    private final TimelineService timelineService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${concurrency.require-if-match:true}")
+    private boolean requireIfMatch;
 
     // ---------------- Public Endpoints ----------------
     @Operation(summary = "Get profile information")
     @GetMapping("/profile")
     public ResponseEntity<ApiResponse<ProfileDTO>> getProfile() {
         log.debug("Fetching profile information");
-        return ResponseEntity.ok(ApiResponse.success(service.getProfile()));
+        ProfileDTO profile = publicReadCache.getProfile();
+        return ResponseEntity.ok().eTag(aggregateETag(profile.getVersion(), profile)).body(ApiResponse.success(profile));
     }
 
     @Operation(summary = "Get all skills")
     @GetMapping("/skills")
     public ResponseEntity<ApiResponse<List<SkillDTO>>> getSkills() {
         log.debug("Fetching all skills");
-        return ResponseEntity.ok(ApiResponse.success(service.getSkills()));
+        return ResponseEntity.ok(ApiResponse.success(publicReadCache.getSkills()));
+    }
+
+    @Operation(summary = "Get skills grouped by category, with counts and level distribution")
+    @GetMapping("/skills/grouped")
+    public ResponseEntity<byte[]> getGroupedSkills(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        log.debug("Fetching grouped skills");
+        GroupedSkills grouped = skillGroupService.getGroupedSkills();
+        String eTag = "\"" + grouped.getVersion() + "\"";
+        if (eTag.equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(CacheControl.noCache()).build();
+        }
+        // Pre-encoded ApiResponse body; nothing is grouped or serialized per request
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .lastModified(grouped.getBuiltAt())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(grouped.toResponseBody());
     }
 
     @Operation(summary = "Get all projects")
     @GetMapping("/projects")
     public ResponseEntity<ApiResponse<List<ProjectDTO>>> getProjects() {
         log.debug("Fetching all projects");
-        return ResponseEntity.ok(ApiResponse.success(service.getProjects()));
+        return ResponseEntity.ok(ApiResponse.success(publicReadCache.getProjects()));
     }
 
     @Operation(summary = "Get all experiences")
     @GetMapping("/experience")
     public ResponseEntity<ApiResponse<List<ExperienceDTO>>> getExperiences() {
         log.debug("Fetching all experiences");
-        return ResponseEntity.ok(ApiResponse.success(service.getExperiences()));
+        return ResponseEntity.ok(ApiResponse.success(publicReadCache.getExperiences()));
     }
 
     @Operation(summary = "Get all education")
     @GetMapping("/education")
     public ResponseEntity<ApiResponse<List<EducationDTO>>> getEducation() {
         log.debug("Fetching all education");
-        return ResponseEntity.ok(ApiResponse.success(service.getEducation()));
+        return ResponseEntity.ok(ApiResponse.success(publicReadCache.getEducation()));
+    }
+
+    @Operation(summary = "Get experience and education by date, with years of experience overall and per technology")
+    @GetMapping("/timeline")
+    public ResponseEntity<ApiResponse<TimelineDTO>> getTimeline() {
+        log.debug("Fetching timeline");
+        Timeline timeline = timelineService.getTimeline();
+        return ResponseEntity.ok().eTag("\"" + timeline.getVersion() + "\"").body(ApiResponse.success(timeline.getTimeline()));
     }
 
     // ---------------- Admin Endpoints (JWT Secured) ----------------
@@ -69,16 +119,19 @@ public class PortfolioController {
 
     @Operation(summary = "Update profile (Admin only)")
     @PutMapping("/profile/{id}")
-    public ResponseEntity<ApiResponse<ProfileDTO>> updateProfile(@PathVariable Long id, @Valid @RequestBody ProfileDTO dto) {
+    public ResponseEntity<ApiResponse<ProfileDTO>> updateProfile(@PathVariable Long id, @Valid @RequestBody ProfileDTO dto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("Updating profile with id: {}", id);
-        return ResponseEntity.ok(ApiResponse.success(service.updateProfile(id, dto), AppConstants.MSG_PROFILE_UPDATED));
+        ProfileDTO updated = service.updateProfile(id, dto, parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(aggregateETag(updated.getVersion(), updated)).body(ApiResponse.success(updated, AppConstants.MSG_PROFILE_UPDATED));
     }
 
     @Operation(summary = "Delete a skill (Admin only)")
     @DeleteMapping("/skills/{id}")
-    public ResponseEntity<ApiResponse<Void>> deleteSkill(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<Void>> deleteSkill(@PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("Deleting skill with id: {}", id);
-        service.deleteSkill(id);
+        service.deleteSkill(id, parseIfMatch(ifMatch));
         return ResponseEntity.ok(ApiResponse.success(AppConstants.MSG_SKILL_DELETED));
     }
 
@@ -88,21 +141,25 @@ public class PortfolioController {
     @GetMapping("/projects/{id}")
     public ResponseEntity<ApiResponse<ProjectDTO>> getProjectById(@PathVariable Long id) {
         log.debug("Fetching project with id: {}", id);
-        return ResponseEntity.ok(ApiResponse.success(service.getProjectById(id)));
+        ProjectDTO dto = service.getProjectById(id);
+        return ResponseEntity.ok().eTag(eTag(dto.getVersion())).body(ApiResponse.success(dto));
     }
 
     @Operation(summary = "Update a project (Admin only)")
     @PutMapping("/projects/{id}")
-    public ResponseEntity<ApiResponse<ProjectDTO>> updateProject(@PathVariable Long id, @Valid @RequestBody ProjectDTO dto) {
+    public ResponseEntity<ApiResponse<ProjectDTO>> updateProject(@PathVariable Long id, @Valid @RequestBody ProjectDTO dto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("Updating project with id: {}", id);
-        return ResponseEntity.ok(ApiResponse.success(service.updateProject(id, dto), AppConstants.MSG_PROJECT_UPDATED));
+        ProjectDTO updated = service.updateProject(id, dto, parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(eTag(updated.getVersion())).body(ApiResponse.success(updated, AppConstants.MSG_PROJECT_UPDATED));
     }
 
     @Operation(summary = "Delete a project (Admin only)")
     @DeleteMapping("/projects/{id}")
-    public ResponseEntity<ApiResponse<Void>> deleteProject(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<Void>> deleteProject(@PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("Deleting project with id: {}", id);
-        service.deleteProject(id);
+        service.deleteProject(id, parseIfMatch(ifMatch));
         return ResponseEntity.ok(ApiResponse.success(AppConstants.MSG_PROJECT_DELETED));
     }
 
@@ -110,7 +167,8 @@ public class PortfolioController {
     @GetMapping("/experience/{id}")
     public ResponseEntity<ApiResponse<ExperienceDTO>> getExperienceById(@PathVariable Long id) {
         log.debug("Fetching experience with id: {}", id);
-        return ResponseEntity.ok(ApiResponse.success(service.getExperienceById(id)));
+        ExperienceDTO dto = service.getExperienceById(id);
+        return ResponseEntity.ok().eTag(aggregateETag(dto.getVersion(), dto)).body(ApiResponse.success(dto));
     }
 
     @Operation(summary = "Add a new experience (Admin only)")
@@ -122,16 +180,19 @@ public class PortfolioController {
 
     @Operation(summary = "Update an experience (Admin only)")
     @PutMapping("/experience/{id}")
-    public ResponseEntity<ApiResponse<ExperienceDTO>> updateExperience(@PathVariable Long id, @Valid @RequestBody ExperienceDTO dto) {
+    public ResponseEntity<ApiResponse<ExperienceDTO>> updateExperience(@PathVariable Long id, @Valid @RequestBody ExperienceDTO dto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("Updating experience with id: {}", id);
-        return ResponseEntity.ok(ApiResponse.success(service.updateExperience(id, dto), AppConstants.MSG_EXPERIENCE_UPDATED));
+        ExperienceDTO updated = service.updateExperience(id, dto, parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(aggregateETag(updated.getVersion(), updated)).body(ApiResponse.success(updated, AppConstants.MSG_EXPERIENCE_UPDATED));
     }
 
     @Operation(summary = "Delete an experience (Admin only)")
     @DeleteMapping("/experience/{id}")
-    public ResponseEntity<ApiResponse<Void>> deleteExperience(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<Void>> deleteExperience(@PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("Deleting experience with id: {}", id);
-        service.deleteExperience(id);
+        service.deleteExperience(id, parseIfMatch(ifMatch));
         return ResponseEntity.ok(ApiResponse.success(AppConstants.MSG_EXPERIENCE_DELETED));
     }
 
@@ -139,7 +200,8 @@ public class PortfolioController {
     @GetMapping("/education/{id}")
     public ResponseEntity<ApiResponse<EducationDTO>> getEducationById(@PathVariable Long id) {
         log.debug("Fetching education with id: {}", id);
-        return ResponseEntity.ok(ApiResponse.success(service.getEducationById(id)));
+        EducationDTO dto = service.getEducationById(id);
+        return ResponseEntity.ok().eTag(eTag(dto.getVersion())).body(ApiResponse.success(dto));
     }
 
     @Operation(summary = "Add a new education record (Admin only)")
@@ -151,16 +213,19 @@ public class PortfolioController {
 
     @Operation(summary = "Update an education record (Admin only)")
     @PutMapping("/education/{id}")
-    public ResponseEntity<ApiResponse<EducationDTO>> updateEducation(@PathVariable Long id, @Valid @RequestBody EducationDTO dto) {
+    public ResponseEntity<ApiResponse<EducationDTO>> updateEducation(@PathVariable Long id, @Valid @RequestBody EducationDTO dto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("Updating education with id: {}", id);
-        return ResponseEntity.ok(ApiResponse.success(service.updateEducation(id, dto), AppConstants.MSG_EDUCATION_UPDATED));
+        EducationDTO updated = service.updateEducation(id, dto, parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(eTag(updated.getVersion())).body(ApiResponse.success(updated, AppConstants.MSG_EDUCATION_UPDATED));
     }
 
     @Operation(summary = "Delete an education record (Admin only)")
     @DeleteMapping("/education/{id}")
-    public ResponseEntity<ApiResponse<Void>> deleteEducation(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<Void>> deleteEducation(@PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("Deleting education with id: {}", id);
-        service.deleteEducation(id);
+        service.deleteEducation(id, parseIfMatch(ifMatch));
         return ResponseEntity.ok(ApiResponse.success(AppConstants.MSG_EDUCATION_DELETED));
     }
 
@@ -168,7 +233,8 @@ public class PortfolioController {
     @GetMapping("/skills/{id}")
     public ResponseEntity<ApiResponse<SkillDTO>> getSkillById(@PathVariable Long id) {
         log.debug("Fetching skill with id: {}", id);
-        return ResponseEntity.ok(ApiResponse.success(service.getSkillById(id)));
+        SkillDTO dto = service.getSkillById(id);
+        return ResponseEntity.ok().eTag(eTag(dto.getVersion())).body(ApiResponse.success(dto));
     }
 
     @Operation(summary = "Add a new skill (Admin only)")
@@ -180,8 +246,100 @@ public class PortfolioController {
 
     @Operation(summary = "Update a skill (Admin only)")
     @PutMapping("/skills/{id}")
-    public ResponseEntity<ApiResponse<SkillDTO>> updateSkill(@PathVariable Long id, @Valid @RequestBody SkillDTO dto) {
+    public ResponseEntity<ApiResponse<SkillDTO>> updateSkill(@PathVariable Long id, @Valid @RequestBody SkillDTO dto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("Updating skill with id: {}", id);
-        return ResponseEntity.ok(ApiResponse.success(service.updateSkill(id, dto), AppConstants.MSG_SKILL_UPDATED));
+        SkillDTO updated = service.updateSkill(id, dto, parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(eTag(updated.getVersion())).body(ApiResponse.success(updated, AppConstants.MSG_SKILL_UPDATED));
+    }
+
+    // -------- Batch Admin Endpoints --------
+
+    @Operation(summary = "Create, update and delete skills in one transaction (Admin only)")
+    @RequestMapping(path = "/skills/batch", method = {RequestMethod.POST, RequestMethod.PATCH})
+    public ResponseEntity<ApiResponse<List<BatchItemResult<SkillDTO>>>> batchSkills(@Valid @RequestBody BatchRequest<SkillDTO> request) {
+        log.info("Applying skill batch");
+        return ResponseEntity.ok(ApiResponse.success(service.batchSkills(request, requireIfMatch), AppConstants.MSG_BATCH_APPLIED));
+    }
+
+    @Operation(summary = "Create, update and delete projects in one transaction (Admin only)")
+    @RequestMapping(path = "/projects/batch", method = {RequestMethod.POST, RequestMethod.PATCH})
+    public ResponseEntity<ApiResponse<List<BatchItemResult<ProjectDTO>>>> batchProjects(@Valid @RequestBody BatchRequest<ProjectDTO> request) {
+        log.info("Applying project batch");
+        return ResponseEntity.ok(ApiResponse.success(service.batchProjects(request, requireIfMatch), AppConstants.MSG_BATCH_APPLIED));
+    }
+
+    @Operation(summary = "Create, update and delete experiences in one transaction (Admin only)")
+    @RequestMapping(path = "/experience/batch", method = {RequestMethod.POST, RequestMethod.PATCH})
+    public ResponseEntity<ApiResponse<List<BatchItemResult<ExperienceDTO>>>> batchExperiences(@Valid @RequestBody BatchRequest<ExperienceDTO> request) {
+        log.info("Applying experience batch");
+        return ResponseEntity.ok(ApiResponse.success(service.batchExperiences(request, requireIfMatch), AppConstants.MSG_BATCH_APPLIED));
+    }
+
+    @Operation(summary = "Create, update and delete education records in one transaction (Admin only)")
+    @RequestMapping(path = "/education/batch", method = {RequestMethod.POST, RequestMethod.PATCH})
+    public ResponseEntity<ApiResponse<List<BatchItemResult<EducationDTO>>>> batchEducation(@Valid @RequestBody BatchRequest<EducationDTO> request) {
+        log.info("Applying education batch");
+        return ResponseEntity.ok(ApiResponse.success(service.batchEducation(request, requireIfMatch), AppConstants.MSG_BATCH_APPLIED));
+    }
+
+    // -------- Conditional Request Helpers --------
+
+    /**
+     * Formats an entity version as a strong ETag, for records without nested records.
+     */
+    private String eTag(Long version) {
+        return version != null ? "\"" + version + "\"" : null;
+    }
+
+    /**
+     * ETag for a record that embeds others (a profile with its experiences and education, an
+     * experience with its projects): the root version plus a digest of the body, as for
+     * /skills/grouped. The version alone stays the same when a nested record changes, and
+     * Spring MVC would keep answering If-None-Match with 304 and the old nested data.
+     * If-Match only compares the version part, since writes to the record only change its own row.
+     */
+    private String aggregateETag(Long version, Object body) {
+        if (version == null) {
+            return null;
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(body));
+            return "\"" + version + "-" + HexFormat.of().formatHex(digest, 0, 12) + "\"";
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Failed to compute ETag", e);
+        }
+    }
+
+    /**
+     * Parses an If-Match header into the expected entity version; for aggregate ETags
+     * ({@code "<version>-<digest>"}) that is the part before the dash.
+     * Returns null for "*" or an absent header (unless If-Match is required).
+     * Weak validators are rejected: If-Match uses strong comparison (RFC 9110, 13.1.1).
+     */
+    private Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            if (requireIfMatch) {
+                throw new PreconditionRequiredException(AppConstants.ERR_PRECONDITION_REQUIRED);
+            }
+            return null;
+        }
+        String value = ifMatch.trim();
+        if ("*".equals(value)) {
+            return null;
+        }
+        if (value.startsWith("W/")) {
+            throw new PreconditionFailedException(AppConstants.ERR_WEAK_IF_MATCH);
+        }
+        value = value.replace("\"", "");
+        int digest = value.indexOf('-');
+        if (digest > 0) {
+            value = value.substring(0, digest);
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException(AppConstants.ERR_INVALID_IF_MATCH);
+        }
     }
 }
@@ -0,0 +1,72 @@
+package com.bgv.portfolio.controller;
+
+import com.bgv.portfolio.service.ResumeExportService;
+import com.bgv.portfolio.service.ResumeExportService.RenderedResume;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resume Controller
+ * Serves pre-rendered resume downloads; no rendering happens on the request path
+ */
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Resume API", description = "Server-rendered resume downloads")
+public class ResumeController {
+
+    private static final MediaType TEXT_MARKDOWN = MediaType.parseMediaType("text/markdown;charset=UTF-8");
+
+    private final ResumeExportService resumeExportService;
+
+    @Operation(summary = "Download resume as PDF")
+    @GetMapping("/resume.pdf")
+    public ResponseEntity<byte[]> getResumePdf(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        log.debug("Serving resume PDF");
+        RenderedResume resume = resumeExportService.getResume();
+        return download(resume, resume.getPdf(), MediaType.APPLICATION_PDF, "resume.pdf", ifNoneMatch);
+    }
+
+    @Operation(summary = "Download resume as Markdown")
+    @GetMapping("/resume.md")
+    public ResponseEntity<byte[]> getResumeMarkdown(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        log.debug("Serving resume Markdown");
+        RenderedResume resume = resumeExportService.getResume();
+        return download(resume, resume.getMarkdown(), TEXT_MARKDOWN, "resume.md", ifNoneMatch);
+    }
+
+    /**
+     * Writes the cached artifact bytes as-is, answering 304 when the client already has this version.
+     */
+    private ResponseEntity<byte[]> download(RenderedResume resume, byte[] body, MediaType contentType,
+                                            String filename, String ifNoneMatch) {
+        String eTag = "\"" + resume.getVersion() + "\"";
+        CacheControl cacheControl = CacheControl.maxAge(5, TimeUnit.MINUTES).cachePublic();
+        if (eTag.equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(cacheControl)
+                .lastModified(resume.getGeneratedAt())
+                .contentType(contentType)
+                .contentLength(body.length)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,70 @@
+package com.bgv.portfolio.controller;
+
+import com.bgv.portfolio.service.PrerenderService;
+import com.bgv.portfolio.service.PrerenderService.PrerenderedPage;
+import io.swagger.v3.oas.annotations.Hidden;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+/**
+ * SPA Controller
+ * Serves the pre-rendered portfolio document for the public page and the plain SPA shell for admin routes.
+ * Other non-asset paths still fall back to index.html via {@link com.bgv.portfolio.config.WebConfig}.
+ */
+@Controller
+@RequiredArgsConstructor
+@Slf4j
+@Hidden
+public class SpaController {
+
+    private static final MediaType TEXT_HTML_UTF8 = MediaType.parseMediaType("text/html;charset=UTF-8");
+
+    private final PrerenderService prerenderService;
+
+    @GetMapping("/")
+    @ResponseBody
+    public ResponseEntity<byte[]> index(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        PrerenderedPage page = prerenderService.getPage();
+        if (page == null) {
+            log.debug("No pre-rendered page available, serving SPA shell");
+            return shell();
+        }
+        String eTag = "\"" + page.getVersion() + "\"";
+        if (eTag.equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(CacheControl.noCache()).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .lastModified(page.getGeneratedAt())
+                .contentType(TEXT_HTML_UTF8)
+                .contentLength(page.getHtml().length)
+                .body(page.getHtml());
+    }
+
+    /**
+     * Admin routes get the shell without embedded data: the editor fetches live data, and data
+     * embedded here would still be shown on the public page after an edit in the same session.
+     */
+    @GetMapping({"/admin", "/admin/**"})
+    @ResponseBody
+    public ResponseEntity<byte[]> admin() {
+        return shell();
+    }
+
+    private ResponseEntity<byte[]> shell() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .contentType(TEXT_HTML_UTF8)
+                .body(prerenderService.getShell());
+    }
+}
@@ -0,0 +1,63 @@
+package com.bgv.portfolio.controller;
+
+import com.bgv.portfolio.constants.AppConstants;
+import com.bgv.portfolio.dto.ApiResponse;
+import com.bgv.portfolio.dto.SyncResponseDTO;
+import com.bgv.portfolio.service.SyncService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Sync Controller
+ * Lets clients and edge caches fetch only what changed since their last sync
+ */
+@RestController
+@RequestMapping("/api/sync")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Sync API", description = "Delta sync of portfolio data")
+public class SyncController {
+
+    private final SyncService syncService;
+
+    @Value("${sync.cache-max-age-seconds:10}")
+    private long cacheMaxAgeSeconds;
+
+    /**
+     * Returns entities created or updated since the token, and tombstones for deletions.
+     * Without a token (or with one older than the tombstone retention) the full dataset is returned.
+     *
+     * @param since token from the previous sync response
+     * @return ResponseEntity with the changes and the token for the next sync
+     */
+    @Operation(summary = "Get changes since a sync token")
+    @GetMapping
+    public ResponseEntity<ApiResponse<SyncResponseDTO>> sync(@RequestParam(required = false) String since) {
+        Instant sinceInstant = null;
+        if (since != null && !since.isBlank()) {
+            sinceInstant = syncService.decodeToken(since.trim());
+            if (sinceInstant == null) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body(ApiResponse.error(AppConstants.ERR_INVALID_SYNC_TOKEN, null, "/api/sync"));
+            }
+        }
+        log.debug("Sync since {}", sinceInstant);
+        // Responses differ only by the since parameter, so shared caches can serve them briefly
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(cacheMaxAgeSeconds)).cachePublic())
+                .body(ApiResponse.success(syncService.sync(sinceInstant)));
+    }
+}
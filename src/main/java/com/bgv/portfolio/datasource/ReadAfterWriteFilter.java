@@ -0,0 +1,84 @@
+package com.bgv.portfolio.datasource;
+
+import com.bgv.portfolio.constants.AppConstants;
+import com.bgv.portfolio.security.SecurityUtils;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pins requests to the primary when a user writes portfolio data, and for that user's
+ * requests within the read-after-write window, so editors never read their own changes
+ * from a replica that has not replayed them yet.
+ * Only authenticated writes count: anonymous requests cannot change portfolio data, and
+ * login or event beacons must not pin anyone's reads.
+ */
+public class ReadAfterWriteFilter extends OncePerRequestFilter {
+
+    private static final Set<String> WRITE_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+    // Writes that do not change portfolio data
+    private static final List<String> NON_DATA_WRITES = List.of("/api/auth/", "/api/events");
+
+    private final long windowMs;
+    private final Map<String, Long> lastWriteByUser = new ConcurrentHashMap<>();
+
+    public ReadAfterWriteFilter(long windowMs) {
+        this.windowMs = windowMs;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+        String username = SecurityUtils.currentUsername();
+        if (AppConstants.SYSTEM_PRINCIPAL.equals(username)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        boolean write = isDataWrite(request);
+        if (!write && !wroteRecently(username)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        try (ReadRouting.Scope ignored = ReadRouting.pinToPrimary()) {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (write) {
+                lastWriteByUser.put(username, System.currentTimeMillis());
+            }
+        }
+    }
+
+    /**
+     * Drops users whose window has passed, so users who stop writing do not stay in the map.
+     */
+    @Scheduled(fixedDelayString = "${datasource.replica.read-after-write-ms:5000}")
+    public void evictExpired() {
+        long cutoff = System.currentTimeMillis() - windowMs;
+        lastWriteByUser.values().removeIf(lastWrite -> lastWrite < cutoff);
+    }
+
+    private boolean isDataWrite(HttpServletRequest request) {
+        if (!WRITE_METHODS.contains(request.getMethod())) {
+            return false;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return NON_DATA_WRITES.stream().noneMatch(path::startsWith);
+    }
+
+    private boolean wroteRecently(String username) {
+        Long lastWrite = lastWriteByUser.get(username);
+        return lastWrite != null && System.currentTimeMillis() - lastWrite <= windowMs;
+    }
+}
@@ -0,0 +1,56 @@
+package com.bgv.portfolio.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Per-thread routing hint for read-only transactions.
+ * Reads run on a replica unless the current thread is pinned to the primary,
+ * which happens for write requests, for clients that wrote recently, and for
+ * callers that must see their own committed changes.
+ */
+public final class ReadRouting {
+
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+
+    private ReadRouting() {
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return Boolean.TRUE.equals(PINNED_TO_PRIMARY.get());
+    }
+
+    /**
+     * Pins this thread to the primary until the returned scope is closed.
+     *
+     * @return scope restoring the previous routing on close
+     */
+    public static Scope pinToPrimary() {
+        Boolean previous = PINNED_TO_PRIMARY.get();
+        PINNED_TO_PRIMARY.set(Boolean.TRUE);
+        return () -> {
+            if (previous == null) {
+                PINNED_TO_PRIMARY.remove();
+            } else {
+                PINNED_TO_PRIMARY.set(previous);
+            }
+        };
+    }
+
+    /**
+     * Runs the supplier with every read on this thread going to the primary.
+     *
+     * @param work the work to run
+     * @return the supplier's result
+     */
+    public static <T> T onPrimary(Supplier<T> work) {
+        try (Scope ignored = pinToPrimary()) {
+            return work.get();
+        }
+    }
+
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,159 @@
+package com.bgv.portfolio.datasource;
+
+import com.bgv.portfolio.dto.DataSourceRoutingReportDTO;
+import com.bgv.portfolio.dto.DataSourceRoutingReportDTO.ReplicaStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Target for read-only connections: round-robins over healthy replicas and
+ * falls back to the primary when the thread is pinned or no replica is usable.
+ * Replica health and replication lag are polled in the background; a replica
+ * that fails the check or lags more than max-lag-ms is skipped until it recovers.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    // 0 on a primary, and on a standby that has replayed everything it received (the replay
+    // timestamp keeps ageing while the primary is idle); otherwise the age of the last replayed commit
+    private static final String LAG_QUERY = "SELECT CASE "
+            + "WHEN NOT pg_is_in_recovery() THEN 0 "
+            + "WHEN pg_last_wal_receive_lsn() <= pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE COALESCE(EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())) * 1000, 0) END";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final long maxLagMs;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final LongAdder primaryReads = new LongAdder();
+    private final LongAdder pinnedReads = new LongAdder();
+    private final LongAdder fallbackReads = new LongAdder();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<Replica> replicas, long maxLagMs) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.maxLagMs = maxLagMs;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route().getConnection(username, password);
+    }
+
+    /**
+     * Whether any replica is configured; without one the application uses the primary pool directly.
+     */
+    public boolean isRoutingEnabled() {
+        return !replicas.isEmpty();
+    }
+
+    private DataSource route() {
+        if (ReadRouting.isPinnedToPrimary()) {
+            pinnedReads.increment();
+            primaryReads.increment();
+            return primary;
+        }
+        int size = replicas.size();
+        int start = size > 0 ? Math.floorMod(next.getAndIncrement(), size) : 0;
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                replica.reads.increment();
+                return replica.dataSource;
+            }
+        }
+        fallbackReads.increment();
+        primaryReads.increment();
+        return primary;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.health-check-interval-ms:5000}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            boolean wasHealthy = replica.healthy;
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(LAG_QUERY)) {
+                rs.next();
+                replica.lagMs = Math.round(rs.getDouble(1));
+                replica.healthy = replica.lagMs <= maxLagMs;
+                replica.lastError = replica.healthy ? null : "lag " + replica.lagMs + " ms exceeds " + maxLagMs + " ms";
+            } catch (SQLException e) {
+                replica.healthy = false;
+                replica.lagMs = null;
+                replica.lastError = e.getMessage();
+            }
+            replica.checkedAt = Instant.now();
+            if (wasHealthy != replica.healthy) {
+                log.warn("Replica {} is now {}{}", replica.name, replica.healthy ? "healthy" : "unavailable",
+                        replica.lastError != null ? " (" + replica.lastError + ")" : "");
+            }
+        }
+    }
+
+    public DataSourceRoutingReportDTO getReport() {
+        return DataSourceRoutingReportDTO.builder()
+                .routingEnabled(isRoutingEnabled())
+                .maxLagMs(maxLagMs)
+                .primaryReads(primaryReads.sum())
+                .pinnedReads(pinnedReads.sum())
+                .fallbackReads(fallbackReads.sum())
+                .replicas(replicas.stream()
+                        .map(replica -> ReplicaStatus.builder()
+                                .name(replica.name)
+                                .healthy(replica.healthy)
+                                .lagMs(replica.lagMs)
+                                .reads(replica.reads.sum())
+                                .lastError(replica.lastError)
+                                .checkedAt(replica.checkedAt)
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    /**
+     * Closes the replica pools; the primary pool is closed by its own bean.
+     */
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    /**
+     * One replica pool and its last health check. Starts unhealthy until checked.
+     */
+    public static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private final LongAdder reads = new LongAdder();
+        private volatile boolean healthy;
+        private volatile Long lagMs;
+        private volatile String lastError;
+        private volatile Instant checkedAt;
+
+        public Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
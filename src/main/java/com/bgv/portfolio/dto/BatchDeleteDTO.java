@@ -0,0 +1,19 @@
+package com.bgv.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One delete in a batch: the id and the version the client last read.
+ * A version that no longer matches rejects the delete, as If-Match does for single deletes.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchDeleteDTO {
+    private Long id;
+    private Long version;
+}
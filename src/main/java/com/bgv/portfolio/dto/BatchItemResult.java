@@ -0,0 +1,28 @@
+package com.bgv.portfolio.dto;
+
+import com.bgv.portfolio.enums.ChangeOperation;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of a single item within a batch write.
+ * The index refers to the item's position in its create/update/delete list.
+ *
+ * @param <T> the DTO type being written
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchItemResult<T> {
+    private ChangeOperation operation;
+    private int index;
+    private Long id;
+    private String status;
+    private T data;
+    private String message;
+}
@@ -0,0 +1,35 @@
+package com.bgv.portfolio.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+import static com.bgv.portfolio.constants.AppConstants.BATCH_MAX_ITEMS;
+
+/**
+ * DTO for bulk admin writes.
+ * Creates, updates and deletes are applied together in a single transaction.
+ * An id may appear only once across updates and deletes.
+ *
+ * @param <T> the DTO type being written
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchRequest<T> {
+
+    @Size(max = BATCH_MAX_ITEMS, message = "At most " + BATCH_MAX_ITEMS + " creates per batch")
+    private List<@Valid T> create;
+
+    @Size(max = BATCH_MAX_ITEMS, message = "At most " + BATCH_MAX_ITEMS + " updates per batch")
+    private List<@Valid T> update;
+
+    @Size(max = BATCH_MAX_ITEMS, message = "At most " + BATCH_MAX_ITEMS + " deletes per batch")
+    private List<BatchDeleteDTO> delete;
+}
@@ -0,0 +1,29 @@
+package com.bgv.portfolio.dto;
+
+import com.bgv.portfolio.enums.ChangeOperation;
+import com.bgv.portfolio.enums.EntityType;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeJournalEntryDTO {
+    private Long id;
+    private EntityType entityType;
+    private Long entityId;
+    private ChangeOperation operation;
+    private Long version;
+    private String principal;
+
+    @JsonRawValue
+    private String changes;
+
+    private Instant recordedAt;
+}
@@ -0,0 +1,41 @@
+package com.bgv.portfolio.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Read/write routing report: where read-only transactions went, and each replica's health and lag.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DataSourceRoutingReportDTO {
+    private boolean routingEnabled;
+    private Long maxLagMs;
+    private long primaryReads;
+    private long pinnedReads;
+    private long fallbackReads;
+    private List<ReplicaStatus> replicas;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class ReplicaStatus {
+        private String name;
+        private boolean healthy;
+        private Long lagMs;
+        private long reads;
+        private String lastError;
+        private Instant checkedAt;
+    }
+}
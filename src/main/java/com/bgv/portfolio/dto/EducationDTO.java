@@ -6,12 +6,15 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDate;
+
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class EducationDTO {
     private Long id;
+    private Long version;
 
     @NotBlank(message = "Institute name is required")
     private String institute;
@@ -25,4 +28,8 @@ public class EducationDTO {
 
     @NotBlank(message = "Duration is required")
     private String duration;
+
+    // Parsed from duration by the server; ignored on writes
+    private LocalDate startDate;
+    private LocalDate endDate;
 }
@@ -0,0 +1,28 @@
+package com.bgv.portfolio.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+import static com.bgv.portfolio.constants.AppConstants.EVENTS_MAX_BATCH;
+
+/**
+ * Events a client collected since its last beacon.
+ * Only the batch is validated here; events are checked one by one on ingestion
+ * (VisitorEventService) so a single bad event does not reject the rest.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventBatchRequest {
+
+    @NotEmpty(message = "At least one event is required")
+    @Size(max = EVENTS_MAX_BATCH, message = "At most " + EVENTS_MAX_BATCH + " events per batch")
+    private List<VisitorEventDTO> events;
+}
@@ -0,0 +1,20 @@
+package com.bgv.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * How many events of a beacon were queued, how many were skipped as invalid,
+ * and how many were dropped because the queue was full.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventIngestResultDTO {
+    private int accepted;
+    private int invalid;
+    private int dropped;
+}
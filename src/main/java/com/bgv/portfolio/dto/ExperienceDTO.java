@@ -6,6 +6,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDate;
+
 import java.util.Set;
 
 @Data
@@ -14,6 +16,7 @@ import java.util.Set;
 @AllArgsConstructor
 public class ExperienceDTO {
     private Long id;
+    private Long version;
 
     @NotBlank(message = "Company name is required")
     private String company;
@@ -24,6 +27,10 @@ public class ExperienceDTO {
     @NotBlank(message = "Duration is required")
     private String duration;
 
+    // Parsed from duration by the server; ignored on writes
+    private LocalDate startDate;
+    private LocalDate endDate;
+
     private String description;
     private Set<ProjectDTO> projects;
 }
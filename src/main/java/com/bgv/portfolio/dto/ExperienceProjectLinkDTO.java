@@ -0,0 +1,18 @@
+package com.bgv.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One row of the experience ↔ project association.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExperienceProjectLinkDTO {
+    private Long experienceId;
+    private Long projectId;
+}
@@ -0,0 +1,18 @@
+package com.bgv.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One line of the NDJSON export: the record type and the record itself.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExportRecordDTO {
+    private String type;
+    private Object data;
+}
@@ -0,0 +1,28 @@
+package com.bgv.portfolio.dto;
+
+import com.bgv.portfolio.enums.ImportState;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportStatusDTO {
+    private ImportState state;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private Long bytesRead;
+    /** Upload size when the client sent one. */
+    private Long totalBytes;
+    /** Records imported so far, by entity type. */
+    private Map<String, Long> records;
+    private String error;
+}
@@ -11,6 +11,7 @@ import java.util.List;
 @AllArgsConstructor
 public class ProfileDTO {
     private Long id;
+    private Long version;
     
     @NotBlank(message = "Name is required")
     private String name;
@@ -14,6 +14,7 @@ import java.util.List;
 @AllArgsConstructor
 public class ProjectDTO {
     private Long id;
+    private Long version;
     
     @NotBlank(message = "Project name is required")
     private String name;
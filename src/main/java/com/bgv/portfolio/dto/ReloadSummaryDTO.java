@@ -0,0 +1,21 @@
+package com.bgv.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReloadSummaryDTO {
+    /** Rows written by the reload, by entity type. */
+    private Map<String, Integer> inserted;
+    private Map<String, Integer> updated;
+    private Map<String, Integer> deleted;
+    /** Rows that already matched the document. */
+    private int unchanged;
+}
@@ -0,0 +1,24 @@
+package com.bgv.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One category of the grouped skills view: its skills in id order,
+ * how many there are and how many have each level.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SkillCategoryDTO {
+    private String category;
+    private int count;
+    private Map<String, Integer> levels;
+    private List<SkillDTO> skills;
+}
@@ -12,6 +12,7 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class SkillDTO {
     private Long id;
+    private Long version;
 
     @NotBlank(message = "Skill name is required")
     private String name;
@@ -0,0 +1,69 @@
+package com.bgv.portfolio.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Startup timing report: JVM-to-ready, time to first request, the warm-up phase, and
+ * the most expensive startup steps when the step timeline is being recorded.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class StartupReportDTO {
+    private boolean aotEnabled;
+    private boolean cdsEnabled;
+    private Long jvmToReadyMs;
+    private Long contextStartupMs;
+    private Long timeToFirstRequestMs;
+    private String firstRequestPath;
+    private boolean timelineRecorded;
+    private Map<String, Long> stepTotalsMs;
+    private List<StartupStep> slowestSteps;
+    private WarmupReport warmup;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class StartupStep {
+        private String name;
+        private String bean;
+        private long durationMs;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class WarmupReport {
+        private long durationMs;
+        private long requests;
+        private long errors;
+        private Long compilationMs;
+        /** Whether JIT compilation settled before warmup.max-duration-ms ran out. */
+        private Boolean settled;
+        private List<EndpointLatency> postWarmupLatency;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class EndpointLatency {
+        private String path;
+        private double p50Ms;
+        private double p99Ms;
+        private double maxMs;
+    }
+}
@@ -0,0 +1,32 @@
+package com.bgv.portfolio.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Delta-sync result: entities created or updated since the client's token, and tombstones
+ * for the ones deleted. A tombstone without an {@code id} means every entity of its type that the
+ * client holds was deleted; apply it before the entities of that type in the same response.
+ * When {@code full} is true the lists hold the whole dataset and the client should replace its copy. Profiles are sent without nested experiences and education,
+ * which arrive in their own lists. Pass {@code token} as {@code since} on the next call.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SyncResponseDTO {
+    private String token;
+    private boolean full;
+    private List<ProfileDTO> profiles;
+    private List<SkillDTO> skills;
+    private List<ProjectDTO> projects;
+    private List<ExperienceDTO> experiences;
+    private List<EducationDTO> education;
+    private List<TombstoneDTO> deleted;
+}
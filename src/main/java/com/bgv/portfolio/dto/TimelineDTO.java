@@ -0,0 +1,26 @@
+package com.bgv.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Experience and education merged newest first, with metrics derived from the date ranges.
+ * Ongoing entries count up to {@code asOf}; overlapping periods are counted once.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimelineDTO {
+    private List<TimelineEntryDTO> entries;
+    private double experienceYears;
+    // Years of experience whose projects list the technology, highest first
+    private Map<String, Double> technologyYears;
+    private LocalDate asOf;
+}
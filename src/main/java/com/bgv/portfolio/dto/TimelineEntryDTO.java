@@ -0,0 +1,27 @@
+package com.bgv.portfolio.dto;
+
+import com.bgv.portfolio.enums.EntityType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * One experience or education entry on the timeline.
+ * {@code title} is the role or degree, {@code organization} the company or institute.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimelineEntryDTO {
+    private EntityType type;
+    private Long id;
+    private String title;
+    private String organization;
+    private String duration;
+    private LocalDate startDate;
+    private LocalDate endDate;
+}
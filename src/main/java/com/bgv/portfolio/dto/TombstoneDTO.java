@@ -0,0 +1,22 @@
+package com.bgv.portfolio.dto;
+
+import com.bgv.portfolio.enums.EntityType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TombstoneDTO {
+    private EntityType entityType;
+    private Long id;
+    private Long version;
+    private Instant deletedAt;
+}
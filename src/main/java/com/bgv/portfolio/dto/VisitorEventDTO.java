@@ -0,0 +1,29 @@
+package com.bgv.portfolio.dto;
+
+import com.bgv.portfolio.enums.EntityType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * One client-side event, e.g. a page view or a project being opened.
+ * {@code entityType}/{@code entityId} name the portfolio item it concerns, if any;
+ * {@code occurredAt} defaults to the time the server received it.
+ * Events without a type, or with a type over 32 or a path over 512 characters, are skipped.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VisitorEventDTO {
+
+    private String type;
+    private EntityType entityType;
+    private Long entityId;
+    private String path;
+
+    private Instant occurredAt;
+}
@@ -0,0 +1,26 @@
+package com.bgv.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Event ingestion counters since startup.
+ * Every received event ends up throttled (client over its rate), invalid, written, dropped (queue full),
+ * failed (insert error) or still pending.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VisitorEventStatsDTO {
+    private long received;
+    private long invalid;
+    private long dropped;
+    private long written;
+    private long failed;
+    private long throttled;
+    private int pending;
+    private int capacity;
+}
@@ -0,0 +1,26 @@
+package com.bgv.portfolio.enums;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Kinds of mutation applied to a portfolio entity.
+ * Used for consistent change event format.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ChangeOperation {
+
+    CREATED("created"),
+    UPDATED("updated"),
+    DELETED("deleted");
+
+    @JsonValue
+    private final String value;
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
@@ -0,0 +1,44 @@
+package com.bgv.portfolio.enums;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Portfolio entity types.
+ * Used to identify the subject of change events.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum EntityType {
+
+    PROFILE("profile"),
+    SKILL("skill"),
+    PROJECT("project"),
+    EXPERIENCE("experience"),
+    EDUCATION("education");
+
+    @JsonValue
+    private final String value;
+
+    /**
+     * Get EntityType from string value.
+     *
+     * @param value the entity type string
+     * @return EntityType enum or null if not found
+     */
+    public static EntityType fromValue(String value) {
+        if (value == null) return null;
+        for (EntityType type : values()) {
+            if (type.value.equalsIgnoreCase(value) || type.name().equalsIgnoreCase(value)) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
@@ -0,0 +1,25 @@
+package com.bgv.portfolio.enums;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Lifecycle of a resume import.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImportState {
+
+    RUNNING("running"),
+    COMPLETED("completed"),
+    FAILED("failed");
+
+    @JsonValue
+    private final String value;
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
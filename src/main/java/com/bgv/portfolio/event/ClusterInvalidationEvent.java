@@ -0,0 +1,24 @@
+package com.bgv.portfolio.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Published on the cluster listener thread when another instance committed a change,
+ * or with a null change when notifications may have been missed and local caches
+ * should be rebuilt from the database.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ClusterInvalidationEvent {
+
+    private final PortfolioChangeEvent change;
+
+    public static ClusterInvalidationEvent resync() {
+        return new ClusterInvalidationEvent(null);
+    }
+
+    public boolean isResync() {
+        return change == null;
+    }
+}
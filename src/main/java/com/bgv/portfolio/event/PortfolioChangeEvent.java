@@ -0,0 +1,31 @@
+package com.bgv.portfolio.event;
+
+import com.bgv.portfolio.enums.ChangeOperation;
+import com.bgv.portfolio.enums.EntityType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Instant;
+
+/**
+ * Compact change notification published after a portfolio mutation.
+ * Listeners receive it once the surrounding transaction has committed.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PortfolioChangeEvent {
+
+    private final EntityType entityType;
+    private final Long id;
+    private final ChangeOperation operation;
+    private final Long version;
+    private final Instant timestamp;
+
+    public static PortfolioChangeEvent of(EntityType entityType, Long id, ChangeOperation operation, Long version) {
+        return new PortfolioChangeEvent(entityType, id, operation, version, Instant.now());
+    }
+}
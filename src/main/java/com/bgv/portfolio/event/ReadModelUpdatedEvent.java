@@ -0,0 +1,15 @@
+package com.bgv.portfolio.event;
+
+import com.bgv.portfolio.service.ReadModelService.ReadModel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Published on the refresh thread whenever the public read model changes content.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ReadModelUpdatedEvent {
+
+    private final ReadModel readModel;
+}
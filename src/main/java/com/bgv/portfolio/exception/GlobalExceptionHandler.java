@@ -4,8 +4,10 @@ import com.bgv.portfolio.constants.AppConstants;
 import com.bgv.portfolio.dto.ApiResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authorization.AuthorizationDeniedException;
 import org.springframework.security.core.AuthenticationException;
@@ -61,6 +63,58 @@ public class GlobalExceptionHandler {
                 HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ApiResponse<Void>> handlePreconditionFailedException(
+            PreconditionFailedException ex, HttpServletRequest request) {
+        log.warn("Precondition failed for request: {} - {}", request.getRequestURI(), ex.getMessage());
+
+        return new ResponseEntity<>(
+                ApiResponse.error(ex.getMessage(), request.getRequestURI()),
+                HttpStatus.PRECONDITION_FAILED);
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<Void>> handleOptimisticLockingFailureException(
+            ObjectOptimisticLockingFailureException ex, HttpServletRequest request) {
+        log.warn("Concurrent modification for request: {} - {}", request.getRequestURI(), ex.getMessage());
+
+        return new ResponseEntity<>(
+                ApiResponse.error(AppConstants.ERR_VERSION_CONFLICT, request.getRequestURI()),
+                HttpStatus.PRECONDITION_FAILED);
+    }
+
+    @ExceptionHandler(PreconditionRequiredException.class)
+    public ResponseEntity<ApiResponse<Void>> handlePreconditionRequiredException(
+            PreconditionRequiredException ex, HttpServletRequest request) {
+        log.warn("Precondition required for request: {}", request.getRequestURI());
+
+        return new ResponseEntity<>(
+                ApiResponse.error(ex.getMessage(), request.getRequestURI()),
+                HttpStatus.PRECONDITION_REQUIRED);
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ApiResponse<Void>> handleTooManyRequestsException(
+            TooManyRequestsException ex, HttpServletRequest request) {
+        log.debug("Throttled {} from {}", request.getRequestURI(), request.getRemoteAddr());
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ApiResponse.error(ex.getMessage(), request.getRequestURI()));
+    }
+
+    @ExceptionHandler(InvalidImportException.class)
+    public ResponseEntity<ApiResponse<Map<String, String>>> handleInvalidImportException(
+            InvalidImportException ex, HttpServletRequest request) {
+        log.warn("Rejected import: {}", ex.getMessage());
+
+        return new ResponseEntity<>(
+                ApiResponse.error(AppConstants.ERR_INVALID_IMPORT,
+                        Map.of(ex.getLocation(), ex.getDetail()),
+                        request.getRequestURI()),
+                HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiResponse<Map<String, String>>> handleValidationException(
             MethodArgumentNotValidException ex, HttpServletRequest request) {
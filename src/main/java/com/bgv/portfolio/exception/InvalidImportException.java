@@ -0,0 +1,20 @@
+package com.bgv.portfolio.exception;
+
+import lombok.Getter;
+
+/**
+ * A resume document that cannot be imported, with the location of the offending value
+ * as a JSON Pointer (e.g. {@code /experiences/3/company}) or a line/column for malformed JSON.
+ */
+@Getter
+public class InvalidImportException extends RuntimeException {
+
+    private final String location;
+    private final String detail;
+
+    public InvalidImportException(String location, String detail) {
+        super(location + ": " + detail);
+        this.location = location;
+        this.detail = detail;
+    }
+}
@@ -0,0 +1,7 @@
+package com.bgv.portfolio.exception;
+
+public class PreconditionRequiredException extends RuntimeException {
+    public PreconditionRequiredException(String message) {
+        super(message);
+    }
+}
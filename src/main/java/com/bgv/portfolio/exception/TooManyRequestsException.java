@@ -0,0 +1,17 @@
+package com.bgv.portfolio.exception;
+
+import lombok.Getter;
+
+/**
+ * A client over its request rate, with the seconds it should wait before retrying.
+ */
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,159 @@
+package com.bgv.portfolio.export;
+
+import com.bgv.portfolio.dto.*;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.stream.Collectors;
+
+import static org.springframework.web.util.HtmlUtils.htmlEscape;
+
+/**
+ * Renders a static HTML document of the portfolio from the SPA's index.html shell.
+ * Content is inlined into the root element so crawlers and first paint do not wait
+ * for the JS bundle, and the initial JSON is embedded so the SPA can skip its API calls.
+ */
+@Component
+public class PortfolioHtmlRenderer {
+
+    public static final String DATA_ELEMENT_ID = "portfolio-data";
+
+    private static final String ROOT_ELEMENT = "<div id=\"root\"></div>";
+
+    /**
+     * Renders the document.
+     *
+     * @param template the index.html shell
+     * @param data     the read model to inline
+     * @param json     the read model serialized as JSON
+     * @return the complete HTML document as UTF-8 bytes
+     */
+    public byte[] render(String template, ResumeData data, byte[] json) {
+        ProfileDTO profile = data.getProfile();
+        String title = htmlEscape(nullToEmpty(profile.getName()))
+                + (hasText(profile.getTitle()) ? " - " + htmlEscape(profile.getTitle()) : "");
+
+        StringBuilder head = new StringBuilder(512);
+        if (hasText(profile.getSummary())) {
+            head.append("    <meta name=\"description\" content=\"").append(htmlEscape(profile.getSummary())).append("\" />\n");
+        }
+        head.append("    <meta property=\"og:title\" content=\"").append(title).append("\" />\n");
+
+        StringBuilder root = new StringBuilder(16 * 1024);
+        root.append("<div id=\"root\">");
+        renderContent(root, data);
+        root.append("</div>\n    <script id=\"").append(DATA_ELEMENT_ID).append("\" type=\"application/json\">")
+                .append(escapeScript(new String(json, StandardCharsets.UTF_8)))
+                .append("</script>");
+
+        String html = template.replaceFirst("(?s)<title>.*?</title>", "<title>" + Matcher.quoteReplacement(title) + "</title>");
+        html = html.replace("</head>", head + "  </head>");
+        html = html.replace(ROOT_ELEMENT, root);
+        return html.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void renderContent(StringBuilder html, ResumeData data) {
+        ProfileDTO profile = data.getProfile();
+        html.append("<main>");
+        html.append("<header><h1>").append(htmlEscape(nullToEmpty(profile.getName()))).append("</h1>");
+        if (hasText(profile.getTitle())) {
+            html.append("<p>").append(htmlEscape(profile.getTitle())).append("</p>");
+        }
+        html.append("<p>");
+        appendLink(html, profile.getGithub(), "GitHub");
+        appendLink(html, profile.getLinkedin(), "LinkedIn");
+        if (hasText(profile.getEmail())) {
+            appendLink(html, "mailto:" + profile.getEmail(), profile.getEmail());
+        }
+        html.append("</p></header>");
+
+        if (hasText(profile.getSummary())) {
+            html.append("<section id=\"about\"><h2>About</h2><p>").append(htmlEscape(profile.getSummary())).append("</p></section>");
+        }
+
+        Map<String, List<String>> skillsByCategory = data.getSkills().stream()
+                .collect(Collectors.groupingBy(s -> hasText(s.getCategory()) ? s.getCategory() : "Other",
+                        LinkedHashMap::new, Collectors.mapping(SkillDTO::getName, Collectors.toList())));
+        if (!skillsByCategory.isEmpty()) {
+            html.append("<section id=\"skills\"><h2>Skills</h2>");
+            skillsByCategory.forEach((category, names) -> {
+                html.append("<h3>").append(htmlEscape(category)).append("</h3><ul>");
+                names.forEach(name -> html.append("<li>").append(htmlEscape(nullToEmpty(name))).append("</li>"));
+                html.append("</ul>");
+            });
+            html.append("</section>");
+        }
+
+        if (!data.getProjects().isEmpty()) {
+            html.append("<section id=\"projects\"><h2>Projects</h2>");
+            for (ProjectDTO project : data.getProjects()) {
+                html.append("<article><h3>").append(htmlEscape(nullToEmpty(project.getName()))).append("</h3>");
+                if (hasText(project.getTechStack())) {
+                    html.append("<p><em>").append(htmlEscape(project.getTechStack())).append("</em></p>");
+                }
+                if (hasText(project.getDescription())) {
+                    html.append("<p>").append(htmlEscape(project.getDescription())).append("</p>");
+                }
+                appendLink(html, project.getGithubUrl(), "Source");
+                appendLink(html, project.getLiveDemoUrl(), "Live demo");
+                html.append("</article>");
+            }
+            html.append("</section>");
+        }
+
+        if (!data.getExperiences().isEmpty()) {
+            html.append("<section id=\"experience\"><h2>Experience</h2>");
+            for (ExperienceDTO exp : data.getExperiences()) {
+                html.append("<article><h3>").append(htmlEscape(nullToEmpty(exp.getRole()))).append(" - ")
+                        .append(htmlEscape(nullToEmpty(exp.getCompany()))).append("</h3>");
+                if (hasText(exp.getDuration())) {
+                    html.append("<p><em>").append(htmlEscape(exp.getDuration())).append("</em></p>");
+                }
+                if (hasText(exp.getDescription())) {
+                    html.append("<p>").append(htmlEscape(exp.getDescription())).append("</p>");
+                }
+                html.append("</article>");
+            }
+            html.append("</section>");
+        }
+
+        if (!data.getEducation().isEmpty()) {
+            html.append("<section id=\"education\"><h2>Education</h2><ul>");
+            for (EducationDTO edu : data.getEducation()) {
+                html.append("<li><strong>").append(htmlEscape(nullToEmpty(edu.getDegree()))).append("</strong>, ")
+                        .append(htmlEscape(nullToEmpty(edu.getInstitute())));
+                if (hasText(edu.getDuration())) {
+                    html.append(" (").append(htmlEscape(edu.getDuration())).append(')');
+                }
+                html.append("</li>");
+            }
+            html.append("</ul></section>");
+        }
+        html.append("</main>");
+    }
+
+    private void appendLink(StringBuilder html, String href, String label) {
+        if (hasText(href)) {
+            html.append("<a href=\"").append(htmlEscape(href)).append("\">").append(htmlEscape(label)).append("</a> ");
+        }
+    }
+
+    /**
+     * Keeps embedded JSON from closing the script element or opening a comment.
+     */
+    private static String escapeScript(String json) {
+        return json.replace("<", "\\u003c").replace(">", "\\u003e").replace("&", "\\u0026");
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
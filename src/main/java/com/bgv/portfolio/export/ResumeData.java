@@ -0,0 +1,25 @@
+package com.bgv.portfolio.export;
+
+import com.bgv.portfolio.dto.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Read model rendered into server-side resume artifacts.
+ * Built from the same DTOs the public API returns.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeData {
+    private ProfileDTO profile;
+    private List<SkillDTO> skills;
+    private List<ProjectDTO> projects;
+    private List<ExperienceDTO> experiences;
+    private List<EducationDTO> education;
+}
@@ -0,0 +1,128 @@
+package com.bgv.portfolio.export;
+
+import com.bgv.portfolio.dto.*;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Renders the resume as Markdown.
+ */
+@Component
+public class ResumeMarkdownRenderer {
+
+    public String render(ResumeData data) {
+        StringBuilder md = new StringBuilder(8192);
+        ProfileDTO profile = data.getProfile();
+
+        md.append("# ").append(nullToEmpty(profile.getName())).append("\n\n");
+        if (hasText(profile.getTitle())) {
+            md.append("**").append(profile.getTitle()).append("**\n\n");
+        }
+        appendContact(md, profile);
+        if (hasText(profile.getSummary())) {
+            md.append("## Summary\n\n").append(profile.getSummary()).append("\n\n");
+        }
+
+        Map<String, List<String>> skillsByCategory = data.getSkills().stream()
+                .collect(Collectors.groupingBy(s -> hasText(s.getCategory()) ? s.getCategory() : "Other",
+                        LinkedHashMap::new, Collectors.mapping(SkillDTO::getName, Collectors.toList())));
+        if (!skillsByCategory.isEmpty()) {
+            md.append("## Skills\n\n");
+            skillsByCategory.forEach((category, names) ->
+                    md.append("- **").append(category).append(":** ").append(String.join(", ", names)).append('\n'));
+            md.append('\n');
+        }
+
+        if (!data.getExperiences().isEmpty()) {
+            md.append("## Experience\n\n");
+            for (ExperienceDTO exp : data.getExperiences()) {
+                md.append("### ").append(nullToEmpty(exp.getRole())).append(" — ").append(nullToEmpty(exp.getCompany())).append("\n\n");
+                if (hasText(exp.getDuration())) {
+                    md.append('*').append(exp.getDuration()).append("*\n\n");
+                }
+                if (hasText(exp.getDescription())) {
+                    md.append(exp.getDescription()).append("\n\n");
+                }
+                if (exp.getProjects() != null) {
+                    for (ProjectDTO project : exp.getProjects()) {
+                        md.append("- **").append(nullToEmpty(project.getName())).append("**");
+                        if (hasText(project.getTechStack())) {
+                            md.append(" (").append(project.getTechStack()).append(')');
+                        }
+                        md.append('\n');
+                    }
+                    md.append('\n');
+                }
+            }
+        }
+
+        if (!data.getProjects().isEmpty()) {
+            md.append("## Projects\n\n");
+            for (ProjectDTO project : data.getProjects()) {
+                md.append("### ").append(nullToEmpty(project.getName())).append("\n\n");
+                if (hasText(project.getTechStack())) {
+                    md.append("*").append(project.getTechStack()).append("*\n\n");
+                }
+                if (hasText(project.getDescription())) {
+                    md.append(project.getDescription()).append("\n\n");
+                }
+                if (project.getHighlight() != null && !project.getHighlight().isEmpty()) {
+                    project.getHighlight().forEach(h -> md.append("- ").append(h).append('\n'));
+                    md.append('\n');
+                }
+                if (hasText(project.getGithubUrl())) {
+                    md.append("GitHub: ").append(project.getGithubUrl()).append("\n\n");
+                }
+                if (hasText(project.getLiveDemoUrl())) {
+                    md.append("Live demo: ").append(project.getLiveDemoUrl()).append("\n\n");
+                }
+            }
+        }
+
+        if (!data.getEducation().isEmpty()) {
+            md.append("## Education\n\n");
+            for (EducationDTO edu : data.getEducation()) {
+                md.append("- **").append(nullToEmpty(edu.getDegree())).append("**, ").append(nullToEmpty(edu.getInstitute()));
+                if (hasText(edu.getDuration())) {
+                    md.append(" (").append(edu.getDuration()).append(')');
+                }
+                if (edu.getCgpa() != null) {
+                    md.append(" — CGPA ").append(edu.getCgpa());
+                } else if (hasText(edu.getPercentage())) {
+                    md.append(" — ").append(edu.getPercentage());
+                }
+                md.append('\n');
+            }
+            md.append('\n');
+        }
+        return md.toString();
+    }
+
+    private void appendContact(StringBuilder md, ProfileDTO profile) {
+        StringBuilder contact = new StringBuilder();
+        for (String part : new String[]{profile.getLocation(), profile.getEmail(), profile.getPhone(),
+                profile.getLinkedin(), profile.getGithub()}) {
+            if (hasText(part)) {
+                if (contact.length() > 0) {
+                    contact.append(" · ");
+                }
+                contact.append(part);
+            }
+        }
+        if (contact.length() > 0) {
+            md.append(contact).append("\n\n");
+        }
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
@@ -0,0 +1,188 @@
+package com.bgv.portfolio.export;
+
+import com.bgv.portfolio.dto.*;
+import com.lowagie.text.Chunk;
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Element;
+import com.lowagie.text.Font;
+import com.lowagie.text.FontFactory;
+import com.lowagie.text.PageSize;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.pdf.PdfWriter;
+import org.springframework.stereotype.Component;
+
+import java.awt.Color;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Renders the resume as a single-column A4 PDF.
+ */
+@Component
+public class ResumePdfRenderer {
+
+    private static final Color ACCENT = new Color(37, 99, 235);
+    private static final Font NAME_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 20);
+    private static final Font TITLE_FONT = FontFactory.getFont(FontFactory.HELVETICA, 12, Color.DARK_GRAY);
+    private static final Font SECTION_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 13, ACCENT);
+    private static final Font HEADING_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 10.5f);
+    private static final Font BODY_FONT = FontFactory.getFont(FontFactory.HELVETICA, 9.5f);
+    private static final Font MUTED_FONT = FontFactory.getFont(FontFactory.HELVETICA_OBLIQUE, 9, Color.GRAY);
+
+    public byte[] render(ResumeData data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(32 * 1024);
+        Document document = new Document(PageSize.A4, 48, 48, 42, 42);
+        try {
+            PdfWriter.getInstance(document, out);
+            document.addTitle(data.getProfile().getName() + " - Resume");
+            document.open();
+            writeHeader(document, data.getProfile());
+            writeSkills(document, data.getSkills());
+            writeExperience(document, data.getExperiences());
+            writeProjects(document, data.getProjects());
+            writeEducation(document, data.getEducation());
+        } catch (DocumentException e) {
+            throw new IllegalStateException("Failed to render resume PDF", e);
+        } finally {
+            document.close();
+        }
+        return out.toByteArray();
+    }
+
+    private void writeHeader(Document document, ProfileDTO profile) throws DocumentException {
+        Paragraph name = new Paragraph(nullToEmpty(profile.getName()), NAME_FONT);
+        name.setAlignment(Element.ALIGN_CENTER);
+        document.add(name);
+        if (hasText(profile.getTitle())) {
+            Paragraph title = new Paragraph(profile.getTitle(), TITLE_FONT);
+            title.setAlignment(Element.ALIGN_CENTER);
+            document.add(title);
+        }
+        List<String> contact = new ArrayList<>();
+        for (String part : new String[]{profile.getLocation(), profile.getEmail(), profile.getPhone(),
+                profile.getLinkedin(), profile.getGithub()}) {
+            if (hasText(part)) {
+                contact.add(part);
+            }
+        }
+        Paragraph contactLine = new Paragraph(String.join("  |  ", contact), MUTED_FONT);
+        contactLine.setAlignment(Element.ALIGN_CENTER);
+        contactLine.setSpacingAfter(6);
+        document.add(contactLine);
+        if (hasText(profile.getSummary())) {
+            section(document, "Summary");
+            document.add(new Paragraph(profile.getSummary(), BODY_FONT));
+        }
+    }
+
+    private void writeSkills(Document document, List<SkillDTO> skills) throws DocumentException {
+        if (skills.isEmpty()) {
+            return;
+        }
+        section(document, "Skills");
+        Map<String, List<String>> byCategory = skills.stream()
+                .collect(Collectors.groupingBy(s -> hasText(s.getCategory()) ? s.getCategory() : "Other",
+                        LinkedHashMap::new, Collectors.mapping(SkillDTO::getName, Collectors.toList())));
+        for (Map.Entry<String, List<String>> entry : byCategory.entrySet()) {
+            Paragraph line = new Paragraph();
+            line.add(new Chunk(entry.getKey() + ": ", HEADING_FONT));
+            line.add(new Chunk(String.join(", ", entry.getValue()), BODY_FONT));
+            document.add(line);
+        }
+    }
+
+    private void writeExperience(Document document, List<ExperienceDTO> experiences) throws DocumentException {
+        if (experiences.isEmpty()) {
+            return;
+        }
+        section(document, "Experience");
+        for (ExperienceDTO exp : experiences) {
+            Paragraph heading = new Paragraph();
+            heading.setSpacingBefore(4);
+            heading.add(new Chunk(nullToEmpty(exp.getRole()) + " - " + nullToEmpty(exp.getCompany()), HEADING_FONT));
+            if (hasText(exp.getDuration())) {
+                heading.add(new Chunk("   " + exp.getDuration(), MUTED_FONT));
+            }
+            document.add(heading);
+            if (hasText(exp.getDescription())) {
+                document.add(new Paragraph(exp.getDescription(), BODY_FONT));
+            }
+            if (exp.getProjects() != null) {
+                for (ProjectDTO project : exp.getProjects()) {
+                    Paragraph bullet = new Paragraph("• " + nullToEmpty(project.getName())
+                            + (hasText(project.getTechStack()) ? " (" + project.getTechStack() + ")" : ""), BODY_FONT);
+                    bullet.setIndentationLeft(10);
+                    document.add(bullet);
+                }
+            }
+        }
+    }
+
+    private void writeProjects(Document document, List<ProjectDTO> projects) throws DocumentException {
+        if (projects.isEmpty()) {
+            return;
+        }
+        section(document, "Projects");
+        for (ProjectDTO project : projects) {
+            Paragraph heading = new Paragraph();
+            heading.setSpacingBefore(4);
+            heading.add(new Chunk(nullToEmpty(project.getName()), HEADING_FONT));
+            if (hasText(project.getTechStack())) {
+                heading.add(new Chunk("   " + project.getTechStack(), MUTED_FONT));
+            }
+            document.add(heading);
+            if (hasText(project.getDescription())) {
+                document.add(new Paragraph(project.getDescription(), BODY_FONT));
+            }
+            if (project.getHighlight() != null) {
+                for (String highlight : project.getHighlight()) {
+                    Paragraph bullet = new Paragraph("• " + highlight, BODY_FONT);
+                    bullet.setIndentationLeft(10);
+                    document.add(bullet);
+                }
+            }
+        }
+    }
+
+    private void writeEducation(Document document, List<EducationDTO> education) throws DocumentException {
+        if (education.isEmpty()) {
+            return;
+        }
+        section(document, "Education");
+        for (EducationDTO edu : education) {
+            Paragraph line = new Paragraph();
+            line.add(new Chunk(nullToEmpty(edu.getDegree()) + ", " + nullToEmpty(edu.getInstitute()), HEADING_FONT));
+            StringBuilder detail = new StringBuilder();
+            if (hasText(edu.getDuration())) {
+                detail.append("   ").append(edu.getDuration());
+            }
+            if (edu.getCgpa() != null) {
+                detail.append("   CGPA ").append(edu.getCgpa());
+            } else if (hasText(edu.getPercentage())) {
+                detail.append("   ").append(edu.getPercentage());
+            }
+            line.add(new Chunk(detail.toString(), MUTED_FONT));
+            document.add(line);
+        }
+    }
+
+    private void section(Document document, String title) throws DocumentException {
+        Paragraph heading = new Paragraph(title.toUpperCase(), SECTION_FONT);
+        heading.setSpacingBefore(10);
+        heading.setSpacingAfter(3);
+        document.add(heading);
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
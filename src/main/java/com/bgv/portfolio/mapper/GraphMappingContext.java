@@ -0,0 +1,29 @@
+package com.bgv.portfolio.mapper;
+
+import com.bgv.portfolio.model.AuditFields;
+import org.mapstruct.BeforeMapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.TargetType;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Tracks entities already mapped within one object graph, so an entity reached twice
+ * (or through a back reference) maps to the same DTO instead of recursing.
+ * Only entities are tracked; collections are always copied. Create one per top-level mapping call.
+ */
+public class GraphMappingContext {
+
+    private final Map<Object, Object> mapped = new IdentityHashMap<>();
+
+    @BeforeMapping
+    public <T> T getMappedInstance(AuditFields source, @TargetType Class<T> targetType) {
+        return targetType.cast(mapped.get(source));
+    }
+
+    @BeforeMapping
+    public void storeMappedInstance(AuditFields source, @MappingTarget Object target) {
+        mapped.put(source, target);
+    }
+}
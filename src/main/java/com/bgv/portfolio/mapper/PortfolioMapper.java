@@ -0,0 +1,116 @@
+package com.bgv.portfolio.mapper;
+
+import com.bgv.portfolio.dto.ChangeJournalEntryDTO;
+import com.bgv.portfolio.dto.EducationDTO;
+import com.bgv.portfolio.dto.ExperienceDTO;
+import com.bgv.portfolio.dto.ProfileDTO;
+import com.bgv.portfolio.dto.ProjectDTO;
+import com.bgv.portfolio.dto.SkillDTO;
+import com.bgv.portfolio.dto.TombstoneDTO;
+import com.bgv.portfolio.model.ChangeJournalEntry;
+import com.bgv.portfolio.model.Education;
+import com.bgv.portfolio.model.Experience;
+import com.bgv.portfolio.model.Profile;
+import com.bgv.portfolio.model.Project;
+import com.bgv.portfolio.model.Skill;
+import com.bgv.portfolio.model.Tombstone;
+import org.mapstruct.Builder;
+import org.mapstruct.CollectionMappingStrategy;
+import org.mapstruct.Context;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.Named;
+import org.mapstruct.ReportingPolicy;
+
+import java.util.List;
+
+/**
+ * Entity ↔ DTO mapping, generated at compile time by MapStruct (PortfolioMapperImpl).
+ * DTOs are built through their no-arg constructors rather than Lombok builders, and
+ * collections are copied in presized loops. Unmapped target properties fail the build,
+ * so new fields must be mapped or explicitly ignored here.
+ */
+@Mapper(componentModel = "spring",
+        builder = @Builder(disableBuilder = true),
+        collectionMappingStrategy = CollectionMappingStrategy.TARGET_IMMUTABLE,
+        unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface PortfolioMapper {
+
+    // ---------------- Entity -> DTO ----------------
+
+    ProfileDTO toDto(Profile profile, @Context GraphMappingContext context);
+
+    ExperienceDTO toDto(Experience experience, @Context GraphMappingContext context);
+
+    ProjectDTO toDto(Project project);
+
+    SkillDTO toDto(Skill skill);
+
+    EducationDTO toDto(Education education);
+
+    @Mapping(target = "version", source = "entityVersion")
+    ChangeJournalEntryDTO toDto(ChangeJournalEntry entry);
+
+    @Mapping(target = "id", source = "entityId")
+    @Mapping(target = "version", source = "entityVersion")
+    TombstoneDTO toDto(Tombstone tombstone);
+
+    /**
+     * Profile fields only; experiences and education are left null.
+     */
+    @Named("profileSummary")
+    @Mapping(target = "experiences", ignore = true)
+    @Mapping(target = "educationList", ignore = true)
+    ProfileDTO toSummaryDto(Profile profile);
+
+    /**
+     * Experience fields only; projects are left null.
+     */
+    @Named("experienceSummary")
+    @Mapping(target = "projects", ignore = true)
+    ExperienceDTO toSummaryDto(Experience experience);
+
+    @Named("profileGraph")
+    default ProfileDTO toDto(Profile profile) {
+        return toDto(profile, new GraphMappingContext());
+    }
+
+    @Named("experienceGraph")
+    default ExperienceDTO toDto(Experience experience) {
+        return toDto(experience, new GraphMappingContext());
+    }
+
+    /**
+     * Highlights are plain strings; share the list as the hand-written mapping did instead of copying it.
+     */
+    default List<String> highlights(List<String> highlights) {
+        return highlights;
+    }
+
+    // ---------------- DTO -> Entity (updates) ----------------
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "experiences", ignore = true)
+    @Mapping(target = "educationList", ignore = true)
+    void updateEntity(ProfileDTO dto, @MappingTarget Profile profile);
+
+    @Mapping(target = "id", ignore = true)
+    void updateEntity(SkillDTO dto, @MappingTarget Skill skill);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "companyId", ignore = true)
+    void updateEntity(ProjectDTO dto, @MappingTarget Project project);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "projects", ignore = true)
+    @Mapping(target = "startDate", ignore = true)
+    @Mapping(target = "endDate", ignore = true)
+    void updateEntity(ExperienceDTO dto, @MappingTarget Experience experience);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "profile", ignore = true)
+    @Mapping(target = "startDate", ignore = true)
+    @Mapping(target = "endDate", ignore = true)
+    void updateEntity(EducationDTO dto, @MappingTarget Education education);
+}
@@ -0,0 +1,66 @@
+package com.bgv.portfolio.migration;
+
+import com.bgv.portfolio.model.DateRange;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Backfills experience and education start/end dates (added in V4) for rows written before them.
+ * Parses duration with the same {@link DateRange#parse} the entities use on every write, so every
+ * form they understand is filled in and the migration runs on any database.
+ * <p>
+ * Registered as a bean: Spring Boot passes JavaMigration beans to Flyway, and the class name
+ * gives its version.
+ */
+@Component
+public class V4_1__BackfillDateRanges extends BaseJavaMigration {
+
+    private static final List<String> TABLES = List.of("experience", "education");
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        for (String table : TABLES) {
+            backfill(connection, table);
+        }
+    }
+
+    private static void backfill(Connection connection, String table) throws SQLException {
+        try (Statement select = connection.createStatement();
+             ResultSet rows = select.executeQuery(
+                     "SELECT id, duration FROM " + table + " WHERE start_date IS NULL AND duration IS NOT NULL");
+             PreparedStatement update = connection.prepareStatement(
+                     "UPDATE " + table + " SET start_date = ?, end_date = ? WHERE id = ?")) {
+            while (rows.next()) {
+                DateRange range = DateRange.parse(rows.getString("duration"));
+                if (!range.isKnown()) {
+                    continue;
+                }
+                update.setDate(1, Date.valueOf(range.start()));
+                setDate(update, 2, range.end());
+                update.setLong(3, rows.getLong("id"));
+                update.addBatch();
+            }
+            update.executeBatch();
+        }
+    }
+
+    private static void setDate(PreparedStatement statement, int parameter, LocalDate value) throws SQLException {
+        if (value != null) {
+            statement.setDate(parameter, Date.valueOf(value));
+        } else {
+            statement.setNull(parameter, Types.DATE);
+        }
+    }
+}
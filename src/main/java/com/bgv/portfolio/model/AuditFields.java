@@ -1,12 +1,17 @@
 package com.bgv.portfolio.model;
 
+import com.bgv.portfolio.security.SecurityUtils;
 import jakarta.persistence.Column;
 import jakarta.persistence.MappedSuperclass;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Version;
+import lombok.Getter;
+
 import java.time.Instant;
 
 @MappedSuperclass
+@Getter
 public abstract class AuditFields {
 
     @Column(name = "created_at", updatable = false)
@@ -21,19 +26,22 @@ public abstract class AuditFields {
     @Column(name = "updated_by")
     private String updatedBy;
 
+    // Left null until persist: Spring Data uses a null @Version to tell new entities from detached ones
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0 not null")
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         createdAt = Instant.now();
-        updatedAt = Instant.now();
-        createdBy = "SYSTEM";
-        updatedBy = "SYSTEM";
+        updatedAt = createdAt;
+        createdBy = SecurityUtils.currentUsername();
+        updatedBy = createdBy;
     }
 
     @PreUpdate
     protected void onUpdate() {
         updatedAt = Instant.now();
-        updatedBy = "SYSTEM";
+        updatedBy = SecurityUtils.currentUsername();
     }
-
-    // Getters and setters
 }
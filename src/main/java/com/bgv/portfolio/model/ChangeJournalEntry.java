@@ -0,0 +1,45 @@
+package com.bgv.portfolio.model;
+
+import com.bgv.portfolio.enums.ChangeOperation;
+import com.bgv.portfolio.enums.EntityType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "change_journal")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChangeJournalEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, updatable = false)
+    private EntityType entityType;
+
+    @Column(name = "entity_id", updatable = false)
+    private Long entityId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "operation", nullable = false, updatable = false)
+    private ChangeOperation operation;
+
+    @Column(name = "entity_version", updatable = false)
+    private Long entityVersion;
+
+    @Column(name = "principal", nullable = false, updatable = false)
+    private String principal;
+
+    @Column(name = "changes", columnDefinition = "text", updatable = false)
+    private String changes;
+
+    @Column(name = "recorded_at", nullable = false, updatable = false)
+    private Instant recordedAt;
+}
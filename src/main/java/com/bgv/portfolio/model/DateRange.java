@@ -0,0 +1,102 @@
+package com.bgv.portfolio.model;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.YearMonth;
+import java.time.format.TextStyle;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Start and end of a free-text duration such as "11/2022 - 10/2025" or "2016 - Present".
+ * The start is the first day of its month (or year), the end the last day of its month
+ * (or year), and an ongoing range ("Present", "Current", "Now") has no end.
+ *
+ * @param start first day, or null when the duration could not be parsed
+ * @param end   last day, or null when ongoing or unparsed
+ */
+public record DateRange(LocalDate start, LocalDate end) {
+
+    public static final DateRange UNKNOWN = new DateRange(null, null);
+
+    private static final Pattern RANGE = Pattern.compile("^\\s*(.+?)\\s*(?:-|–|—|\\bto\\b)\\s*(.+?)\\s*$",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern ONGOING = Pattern.compile("present|current|now|ongoing", Pattern.CASE_INSENSITIVE);
+    private static final Pattern MONTH_YEAR = Pattern.compile("(\\d{1,2})\\s*/\\s*(\\d{4})");
+    private static final Pattern NAMED_MONTH_YEAR = Pattern.compile("([a-z]{3,9})\\.?\\s+(\\d{4})", Pattern.CASE_INSENSITIVE);
+    private static final Pattern YEAR = Pattern.compile("(\\d{4})");
+
+    /**
+     * Parses a duration; anything that is not a recognizable range yields {@link #UNKNOWN}.
+     *
+     * @param duration the free-text duration
+     * @return the parsed range
+     */
+    public static DateRange parse(String duration) {
+        if (duration == null) {
+            return UNKNOWN;
+        }
+        Matcher range = RANGE.matcher(duration);
+        if (!range.matches()) {
+            return UNKNOWN;
+        }
+        YearMonth[] from = parsePoint(range.group(1));
+        if (from == null) {
+            return UNKNOWN;
+        }
+        if (ONGOING.matcher(range.group(2)).matches()) {
+            return new DateRange(from[0].atDay(1), null);
+        }
+        YearMonth[] to = parsePoint(range.group(2));
+        if (to == null || to[1].isBefore(from[0])) {
+            return UNKNOWN;
+        }
+        return new DateRange(from[0].atDay(1), to[1].atEndOfMonth());
+    }
+
+    public boolean isKnown() {
+        return start != null;
+    }
+
+    /**
+     * Parses one end of a range into the first and last month it covers.
+     */
+    private static YearMonth[] parsePoint(String text) {
+        Matcher matcher = MONTH_YEAR.matcher(text);
+        if (matcher.matches()) {
+            int month = Integer.parseInt(matcher.group(1));
+            if (month < 1 || month > 12) {
+                return null;
+            }
+            YearMonth value = YearMonth.of(Integer.parseInt(matcher.group(2)), month);
+            return new YearMonth[]{value, value};
+        }
+        matcher = NAMED_MONTH_YEAR.matcher(text);
+        if (matcher.matches()) {
+            Month month = monthNamed(matcher.group(1));
+            if (month == null) {
+                return null;
+            }
+            YearMonth value = YearMonth.of(Integer.parseInt(matcher.group(2)), month);
+            return new YearMonth[]{value, value};
+        }
+        matcher = YEAR.matcher(text);
+        if (matcher.matches()) {
+            int year = Integer.parseInt(matcher.group(1));
+            return new YearMonth[]{YearMonth.of(year, Month.JANUARY), YearMonth.of(year, Month.DECEMBER)};
+        }
+        return null;
+    }
+
+    private static Month monthNamed(String name) {
+        for (Month month : Month.values()) {
+            // "Sep", "Sept" and "September" all name September
+            String full = month.getDisplayName(TextStyle.FULL, Locale.ENGLISH);
+            if (full.regionMatches(true, 0, name, 0, name.length())) {
+                return month;
+            }
+        }
+        return null;
+    }
+}
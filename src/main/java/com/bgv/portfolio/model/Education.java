@@ -3,6 +3,8 @@ package com.bgv.portfolio.model;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDate;
+
 @Entity
 @Table(name = "education")
 @Getter
@@ -34,7 +36,22 @@ public class Education extends AuditFields {
     @Column(name = "duration")
     private String duration;
 
+    // Derived from duration on every write; endDate is null while ongoing
+    @Column(name = "start_date")
+    private LocalDate startDate;
+
+    @Column(name = "end_date")
+    private LocalDate endDate;
+
     @ManyToOne
     @JoinColumn(name = "profile_id")
     private Profile profile;
+
+    @PrePersist
+    @PreUpdate
+    protected void deriveDates() {
+        DateRange range = DateRange.parse(duration);
+        startDate = range.start();
+        endDate = range.end();
+    }
 }
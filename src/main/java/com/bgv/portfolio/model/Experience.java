@@ -3,6 +3,7 @@ package com.bgv.portfolio.model;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDate;
 import java.util.Set;
 
 @Entity
@@ -24,8 +25,13 @@ public class Experience extends AuditFields {
 
     @Column(length = 2000)
     private String description;
-//    private LocalDate startDate;
-//    private LocalDate endDate;
+
+    // Derived from duration on every write; endDate is null while ongoing
+    @Column(name = "start_date")
+    private LocalDate startDate;
+
+    @Column(name = "end_date")
+    private LocalDate endDate;
 
     @ManyToMany
     @JoinTable(
@@ -33,5 +39,15 @@ public class Experience extends AuditFields {
             joinColumns = @JoinColumn(name = "experience_id"),
             inverseJoinColumns = @JoinColumn(name = "project_id")
     )
+    // Loaded in id order, so serialized views (read model hash, ETags) are stable between loads
+    @OrderBy("id")
     private Set<Project> projects;
+
+    @PrePersist
+    @PreUpdate
+    protected void deriveDates() {
+        DateRange range = DateRange.parse(duration);
+        startDate = range.start();
+        endDate = range.end();
+    }
 }
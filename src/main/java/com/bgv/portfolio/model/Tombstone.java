@@ -0,0 +1,39 @@
+package com.bgv.portfolio.model;
+
+import com.bgv.portfolio.enums.EntityType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Marker left behind by a deleted entity so delta-sync clients learn about the deletion.
+ * Without an {@code entityId} it covers every entity of its type that existed at {@code deletedAt}
+ * (a table cleared by an import).
+ */
+@Entity
+@Table(name = "tombstone")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Tombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, updatable = false)
+    private EntityType entityType;
+
+    @Column(name = "entity_id", updatable = false)
+    private Long entityId;
+
+    @Column(name = "entity_version", updatable = false)
+    private Long entityVersion;
+
+    @Column(name = "deleted_at", nullable = false, updatable = false)
+    private Instant deletedAt;
+}
@@ -0,0 +1,81 @@
+package com.bgv.portfolio.reactive;
+
+import com.bgv.portfolio.dto.ApiResponse;
+import com.bgv.portfolio.enums.ApiStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.codec.EncodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Writes a list result as the same JSON envelope {@code ApiResponse.success(list)} produces,
+ * but element by element as the items arrive instead of collecting the list first.
+ * Items are requested from upstream in batches of {@code reactive.read.prefetch}, and the
+ * server only requests more once the connection has drained, so a slow client slows the
+ * database cursor instead of growing a buffer.
+ */
+@Component
+public class ApiResponseStreamWriter {
+
+    private static final byte[] HEAD = ("{\"status\":\"" + ApiStatus.SUCCESS.getValue() + "\",\"data\":[")
+            .getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SEPARATOR = {','};
+
+    private final ObjectMapper objectMapper;
+    private final int prefetch;
+    private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    public ApiResponseStreamWriter(ObjectMapper objectMapper,
+                                   @Value("${reactive.read.prefetch:64}") int prefetch) {
+        this.objectMapper = objectMapper;
+        this.prefetch = prefetch;
+    }
+
+    /**
+     * Encodes the items as an {@link ApiResponse} body. The envelope head is sent together
+     * with the first item, so an error before any row arrives still gets a proper error response.
+     */
+    public <T> Flux<DataBuffer> write(Flux<T> items, Class<T> type, DataBufferFactory bufferFactory) {
+        ObjectWriter writer = writers.computeIfAbsent(type, objectMapper::writerFor);
+        return Flux.defer(() -> {
+            byte[] timestamp = encode(objectMapper.writer(), LocalDateTime.now());
+            AtomicBoolean started = new AtomicBoolean();
+            Flux<DataBuffer> body = items.limitRate(prefetch).map(item -> {
+                byte[] json = encode(writer, item);
+                boolean first = started.compareAndSet(false, true);
+                DataBuffer buffer = bufferFactory.allocateBuffer(json.length + (first ? HEAD.length : 1));
+                return buffer.write(first ? HEAD : SEPARATOR).write(json);
+            });
+            return body.concatWith(Mono.fromSupplier(() -> tail(bufferFactory, timestamp, !started.get())));
+        });
+    }
+
+    private DataBuffer tail(DataBufferFactory bufferFactory, byte[] timestamp, boolean empty) {
+        byte[] close = "],\"timestamp\":".getBytes(StandardCharsets.UTF_8);
+        DataBuffer buffer = bufferFactory.allocateBuffer((empty ? HEAD.length : 0) + close.length + timestamp.length + 1);
+        if (empty) {
+            buffer.write(HEAD);
+        }
+        return buffer.write(close).write(timestamp).write(new byte[] {'}'});
+    }
+
+    private byte[] encode(ObjectWriter writer, Object value) {
+        try {
+            return writer.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new EncodingException("Could not write JSON: " + e.getOriginalMessage(), e);
+        }
+    }
+}
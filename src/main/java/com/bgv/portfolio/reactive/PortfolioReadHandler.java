@@ -0,0 +1,70 @@
+package com.bgv.portfolio.reactive;
+
+import com.bgv.portfolio.dto.ApiResponse;
+import com.bgv.portfolio.dto.EducationDTO;
+import com.bgv.portfolio.dto.ExperienceDTO;
+import com.bgv.portfolio.dto.ProjectDTO;
+import com.bgv.portfolio.dto.SkillDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Handlers for the reactive public read API.
+ * List endpoints stream the usual ApiResponse JSON; clients that send
+ * {@code Accept: application/x-ndjson} get one bare DTO per line instead.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PortfolioReadHandler {
+
+    private final ReactivePortfolioService service;
+    private final ApiResponseStreamWriter streamWriter;
+
+    public Mono<ServerResponse> getProfile(ServerRequest request) {
+        log.debug("Fetching profile information");
+        return service.getProfile().flatMap(profile -> {
+            ServerResponse.BodyBuilder response = ServerResponse.ok().contentType(MediaType.APPLICATION_JSON);
+            if (profile.getVersion() != null) {
+                response.eTag("\"" + profile.getVersion() + "\"");
+            }
+            return response.bodyValue(ApiResponse.success(profile));
+        });
+    }
+
+    public Mono<ServerResponse> getSkills(ServerRequest request) {
+        log.debug("Fetching all skills");
+        return stream(request, service.getSkills(), SkillDTO.class);
+    }
+
+    public Mono<ServerResponse> getProjects(ServerRequest request) {
+        log.debug("Fetching all projects");
+        return stream(request, service.getProjects(), ProjectDTO.class);
+    }
+
+    public Mono<ServerResponse> getExperiences(ServerRequest request) {
+        log.debug("Fetching all experiences");
+        return stream(request, service.getExperiences(), ExperienceDTO.class);
+    }
+
+    public Mono<ServerResponse> getEducation(ServerRequest request) {
+        log.debug("Fetching all education");
+        return stream(request, service.getEducation(), EducationDTO.class);
+    }
+
+    private <T> Mono<ServerResponse> stream(ServerRequest request, Flux<T> items, Class<T> type) {
+        boolean ndjson = request.headers().accept().stream()
+                .anyMatch(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype);
+        if (ndjson) {
+            return ServerResponse.ok().contentType(MediaType.APPLICATION_NDJSON).body(items, type);
+        }
+        return ServerResponse.ok().contentType(MediaType.APPLICATION_JSON)
+                .body((message, context) -> message.writeWith(streamWriter.write(items, type, message.bufferFactory())));
+    }
+}
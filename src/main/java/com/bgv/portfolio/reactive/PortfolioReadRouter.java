@@ -0,0 +1,72 @@
+package com.bgv.portfolio.reactive;
+
+import com.bgv.portfolio.constants.AppConstants;
+import com.bgv.portfolio.dto.ApiResponse;
+import com.bgv.portfolio.exception.ResourceNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.reactive.CorsWebFilter;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reactive Read Router
+ * Routes the public GET endpoints of PortfolioController to {@link PortfolioReadHandler}
+ * and applies the same CORS origins as the servlet application.
+ */
+@Configuration
+@Slf4j
+public class PortfolioReadRouter {
+
+    @Bean
+    public RouterFunction<ServerResponse> portfolioReadRoutes(PortfolioReadHandler handler) {
+        return RouterFunctions.route()
+                .path("/api", api -> api
+                        .GET("/profile", handler::getProfile)
+                        .GET("/skills", handler::getSkills)
+                        .GET("/projects", handler::getProjects)
+                        .GET("/experience", handler::getExperiences)
+                        .GET("/education", handler::getEducation))
+                .onError(ResourceNotFoundException.class, (e, request) -> {
+                    log.error("Resource not found: {}", e.getMessage());
+                    return ServerResponse.status(HttpStatus.NOT_FOUND)
+                            .bodyValue(ApiResponse.error(e.getMessage(), request.path()));
+                })
+                .build();
+    }
+
+    @Bean
+    public CorsWebFilter corsWebFilter(@Value("${cors.allowed-origins:}") String corsAllowedOrigins) {
+        List<String> origins = new ArrayList<>();
+        origins.add(AppConstants.CORS_LOCALHOST_3000);
+        origins.add(AppConstants.CORS_LOCALHOST_5173);
+        if (!corsAllowedOrigins.isEmpty()) {
+            Arrays.stream(corsAllowedOrigins.split(","))
+                    .map(String::trim)
+                    .filter(origin -> !origin.isEmpty())
+                    .forEach(origins::add);
+        }
+
+        CorsConfiguration configuration = new CorsConfiguration();
+        configuration.setAllowedOrigins(origins);
+        configuration.setAllowedMethods(List.of(HttpMethod.GET.name(), HttpMethod.HEAD.name(), HttpMethod.OPTIONS.name()));
+        configuration.addAllowedHeader("*");
+        configuration.addExposedHeader("ETag");
+        configuration.setMaxAge(AppConstants.CORS_MAX_AGE_SECONDS);
+
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/**", configuration);
+        return new CorsWebFilter(source);
+    }
+}
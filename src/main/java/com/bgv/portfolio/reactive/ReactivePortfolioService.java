@@ -0,0 +1,111 @@
+package com.bgv.portfolio.reactive;
+
+import com.bgv.portfolio.dto.EducationDTO;
+import com.bgv.portfolio.dto.ExperienceDTO;
+import com.bgv.portfolio.dto.ProfileDTO;
+import com.bgv.portfolio.dto.ProjectDTO;
+import com.bgv.portfolio.dto.SkillDTO;
+import com.bgv.portfolio.exception.ResourceNotFoundException;
+import com.bgv.portfolio.reactive.model.ExperienceProjectRow;
+import com.bgv.portfolio.reactive.model.ExperienceRow;
+import com.bgv.portfolio.reactive.repository.ReactiveEducationRepository;
+import com.bgv.portfolio.reactive.repository.ReactiveExperienceRepository;
+import com.bgv.portfolio.reactive.repository.ReactiveProfileRepository;
+import com.bgv.portfolio.reactive.repository.ReactiveProjectRepository;
+import com.bgv.portfolio.reactive.repository.ReactiveSkillRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Non-blocking counterpart of the public reads in PortfolioService.
+ * List results are returned as {@link Flux}es so rows are pulled from the database
+ * only as fast as the client consumes the response.
+ */
+@Service
+@Slf4j
+public class ReactivePortfolioService {
+
+    private static final Sort BY_ID = Sort.by("id");
+    // Same order as the JPA reads: most recent first, undated last
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("startDate").nullsLast(), Sort.Order.asc("id"));
+
+    private final ReactiveProfileRepository profileRepository;
+    private final ReactiveSkillRepository skillRepository;
+    private final ReactiveProjectRepository projectRepository;
+    private final ReactiveExperienceRepository experienceRepository;
+    private final ReactiveEducationRepository educationRepository;
+    private final ReactiveReadMapper mapper;
+    private final int batchSize;
+
+    public ReactivePortfolioService(ReactiveProfileRepository profileRepository,
+                                    ReactiveSkillRepository skillRepository,
+                                    ReactiveProjectRepository projectRepository,
+                                    ReactiveExperienceRepository experienceRepository,
+                                    ReactiveEducationRepository educationRepository,
+                                    ReactiveReadMapper mapper,
+                                    @Value("${reactive.read.batch-size:64}") int batchSize) {
+        this.profileRepository = profileRepository;
+        this.skillRepository = skillRepository;
+        this.projectRepository = projectRepository;
+        this.experienceRepository = experienceRepository;
+        this.educationRepository = educationRepository;
+        this.mapper = mapper;
+        this.batchSize = batchSize;
+    }
+
+    public Mono<ProfileDTO> getProfile() {
+        log.debug("Fetching profile from database");
+        return profileRepository.findFirstByOrderByIdAsc()
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Profile not found")))
+                .flatMap(profile -> Mono.zip(
+                                withProjects(experienceRepository.findByProfileIdOrderByIdAsc(profile.id())).collectList(),
+                                educationRepository.findByProfileIdOrderByIdAsc(profile.id()).map(mapper::toDto).collectList())
+                        .map(parts -> mapper.toDto(profile, parts.getT1(), parts.getT2())));
+    }
+
+    public Flux<SkillDTO> getSkills() {
+        log.debug("Streaming all skills from database");
+        return skillRepository.findAll(BY_ID).map(mapper::toDto);
+    }
+
+    public Flux<ProjectDTO> getProjects() {
+        log.debug("Streaming all projects from database");
+        return projectRepository.findAll(BY_ID).map(mapper::toDto);
+    }
+
+    public Flux<ExperienceDTO> getExperiences() {
+        log.debug("Streaming all experiences from database");
+        return withProjects(experienceRepository.findAll(NEWEST_FIRST));
+    }
+
+    public Flux<EducationDTO> getEducation() {
+        log.debug("Streaming all education records from database");
+        return educationRepository.findAll(NEWEST_FIRST).map(mapper::toDto);
+    }
+
+    /**
+     * Attaches projects to experiences one batch at a time: one link-table query per
+     * batch instead of one per experience, and never more than a batch held in memory.
+     */
+    private Flux<ExperienceDTO> withProjects(Flux<ExperienceRow> experiences) {
+        return experiences.buffer(batchSize).concatMap(batch -> projectRepository
+                .findByExperienceIds(batch.stream().map(ExperienceRow::id).toList())
+                .collectMultimap(ExperienceProjectRow::experienceId, mapper::toDto)
+                .flatMapIterable(projects -> batch.stream()
+                        .map(experience -> mapper.toDto(experience, projectsOf(projects, experience.id())))
+                        .toList()));
+    }
+
+    private LinkedHashSet<ProjectDTO> projectsOf(Map<Long, Collection<ProjectDTO>> projects, Long experienceId) {
+        return new LinkedHashSet<>(projects.getOrDefault(experienceId, List.of()));
+    }
+}
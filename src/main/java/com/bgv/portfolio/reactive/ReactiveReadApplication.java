@@ -0,0 +1,25 @@
+package com.bgv.portfolio.reactive;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.security.reactive.ReactiveSecurityAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.reactive.ReactiveUserDetailsServiceAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+/**
+ * Reactive read-only API
+ * Serves the public GET endpoints of PortfolioController (same paths and response bodies)
+ * on Netty with R2DBC, so one small instance can hold many concurrent slow clients without
+ * a thread per connection. All writes stay on the servlet application.
+ * Configuration: application-reactive.properties.
+ */
+@SpringBootApplication(exclude = {ReactiveSecurityAutoConfiguration.class, ReactiveUserDetailsServiceAutoConfiguration.class})
+public class ReactiveReadApplication {
+
+    public static void main(String[] args) {
+        new SpringApplicationBuilder(ReactiveReadApplication.class)
+                .web(WebApplicationType.REACTIVE)
+                .profiles("reactive")
+                .run(args);
+    }
+}
@@ -0,0 +1,49 @@
+package com.bgv.portfolio.reactive;
+
+import com.bgv.portfolio.dto.EducationDTO;
+import com.bgv.portfolio.dto.ExperienceDTO;
+import com.bgv.portfolio.dto.ProfileDTO;
+import com.bgv.portfolio.dto.ProjectDTO;
+import com.bgv.portfolio.dto.SkillDTO;
+import com.bgv.portfolio.reactive.model.EducationRow;
+import com.bgv.portfolio.reactive.model.ExperienceProjectRow;
+import com.bgv.portfolio.reactive.model.ExperienceRow;
+import com.bgv.portfolio.reactive.model.ProfileRow;
+import com.bgv.portfolio.reactive.model.ProjectRow;
+import com.bgv.portfolio.reactive.model.SkillRow;
+import org.mapstruct.Builder;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Row to DTO mapping for the reactive read API, producing the same DTOs as
+ * {@link com.bgv.portfolio.mapper.PortfolioMapper} does for the JPA entities.
+ */
+@Mapper(componentModel = "spring",
+        builder = @Builder(disableBuilder = true),
+        unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface ReactiveReadMapper {
+
+    SkillDTO toDto(SkillRow row);
+
+    ProjectDTO toDto(ProjectRow row);
+
+    ProjectDTO toDto(ExperienceProjectRow row);
+
+    EducationDTO toDto(EducationRow row);
+
+    @Mapping(target = "projects", source = "projects")
+    ExperienceDTO toDto(ExperienceRow row, Set<ProjectDTO> projects);
+
+    @Mapping(target = "experiences", source = "experiences")
+    @Mapping(target = "educationList", source = "educationList")
+    ProfileDTO toDto(ProfileRow row, List<ExperienceDTO> experiences, List<EducationDTO> educationList);
+
+    default List<String> highlights(List<String> highlights) {
+        return highlights;
+    }
+}
@@ -0,0 +1,24 @@
+package com.bgv.portfolio.reactive.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDate;
+
+/**
+ * Read-only R2DBC view of the education table (see {@link com.bgv.portfolio.model.Education}).
+ */
+@Table("education")
+public record EducationRow(
+        @Id Long id,
+        Long version,
+        Long profileId,
+        String institute,
+        String degree,
+        Double cgpa,
+        String percentage,
+        String board,
+        String duration,
+        LocalDate startDate,
+        LocalDate endDate) {
+}
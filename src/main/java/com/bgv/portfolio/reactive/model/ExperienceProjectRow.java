@@ -0,0 +1,18 @@
+package com.bgv.portfolio.reactive.model;
+
+import java.util.List;
+
+/**
+ * A project joined to one of the experiences it belongs to (experience_project link table).
+ */
+public record ExperienceProjectRow(
+        Long experienceId,
+        Long id,
+        Long version,
+        String name,
+        String description,
+        String githubUrl,
+        String techStack,
+        List<String> highlight,
+        String liveDemoUrl) {
+}
@@ -0,0 +1,23 @@
+package com.bgv.portfolio.reactive.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDate;
+
+/**
+ * Read-only R2DBC view of the experience table (see {@link com.bgv.portfolio.model.Experience}).
+ * Projects are loaded separately through the experience_project link table.
+ */
+@Table("experience")
+public record ExperienceRow(
+        @Id Long id,
+        Long version,
+        Long profileId,
+        String company,
+        String role,
+        String duration,
+        LocalDate startDate,
+        LocalDate endDate,
+        String description) {
+}
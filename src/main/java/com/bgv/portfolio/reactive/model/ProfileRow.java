@@ -0,0 +1,21 @@
+package com.bgv.portfolio.reactive.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * Read-only R2DBC view of the profile table (see {@link com.bgv.portfolio.model.Profile}).
+ */
+@Table("profile")
+public record ProfileRow(
+        @Id Long id,
+        Long version,
+        String name,
+        String title,
+        String summary,
+        String location,
+        String email,
+        String phone,
+        String linkedin,
+        String github) {
+}
@@ -0,0 +1,21 @@
+package com.bgv.portfolio.reactive.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.util.List;
+
+/**
+ * Read-only R2DBC view of the project table (see {@link com.bgv.portfolio.model.Project}).
+ */
+@Table("project")
+public record ProjectRow(
+        @Id Long id,
+        Long version,
+        String name,
+        String description,
+        String githubUrl,
+        String techStack,
+        List<String> highlight,
+        String liveDemoUrl) {
+}
@@ -0,0 +1,16 @@
+package com.bgv.portfolio.reactive.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * Read-only R2DBC view of the skill table (see {@link com.bgv.portfolio.model.Skill}).
+ */
+@Table("skill")
+public record SkillRow(
+        @Id Long id,
+        Long version,
+        String name,
+        String level,
+        String category) {
+}
@@ -0,0 +1,11 @@
+package com.bgv.portfolio.reactive.repository;
+
+import com.bgv.portfolio.reactive.model.EducationRow;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+@Repository
+public interface ReactiveEducationRepository extends R2dbcRepository<EducationRow, Long> {
+    Flux<EducationRow> findByProfileIdOrderByIdAsc(Long profileId);
+}
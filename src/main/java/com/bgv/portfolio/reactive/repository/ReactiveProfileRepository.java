@@ -0,0 +1,11 @@
+package com.bgv.portfolio.reactive.repository;
+
+import com.bgv.portfolio.reactive.model.ProfileRow;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ReactiveProfileRepository extends R2dbcRepository<ProfileRow, Long> {
+    Mono<ProfileRow> findFirstByOrderByIdAsc();
+}
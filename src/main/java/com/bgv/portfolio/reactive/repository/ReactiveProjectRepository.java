@@ -0,0 +1,18 @@
+package com.bgv.portfolio.reactive.repository;
+
+import com.bgv.portfolio.reactive.model.ExperienceProjectRow;
+import com.bgv.portfolio.reactive.model.ProjectRow;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.util.Collection;
+
+@Repository
+public interface ReactiveProjectRepository extends R2dbcRepository<ProjectRow, Long> {
+    @Query("SELECT ep.experience_id, p.id, p.version, p.name, p.description, p.github_url, p.tech_stack, "
+            + "p.highlight, p.live_demo_url FROM experience_project ep JOIN project p ON p.id = ep.project_id "
+            + "WHERE ep.experience_id IN (:experienceIds)")
+    Flux<ExperienceProjectRow> findByExperienceIds(Collection<Long> experienceIds);
+}
@@ -0,0 +1,8 @@
+package com.bgv.portfolio.reactive.repository;
+
+import com.bgv.portfolio.reactive.model.SkillRow;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ReactiveSkillRepository extends R2dbcRepository<SkillRow, Long> {}
@@ -0,0 +1,20 @@
+package com.bgv.portfolio.repository;
+
+import com.bgv.portfolio.enums.EntityType;
+import com.bgv.portfolio.model.ChangeJournalEntry;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+
+@Repository
+public interface ChangeJournalRepository extends JpaRepository<ChangeJournalEntry, Long> {
+    Page<ChangeJournalEntry> findByRecordedAtBetween(Instant from, Instant to, Pageable pageable);
+
+    Page<ChangeJournalEntry> findByEntityTypeAndRecordedAtBetween(EntityType entityType, Instant from, Instant to, Pageable pageable);
+
+    Page<ChangeJournalEntry> findByEntityTypeAndEntityIdAndRecordedAtBetween(EntityType entityType, Long entityId,
+                                                                             Instant from, Instant to, Pageable pageable);
+}
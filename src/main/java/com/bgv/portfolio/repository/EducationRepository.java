@@ -1,8 +1,49 @@
 package com.bgv.portfolio.repository;
 
+import com.bgv.portfolio.constants.AppConstants;
 import com.bgv.portfolio.model.*;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
-public interface EducationRepository extends JpaRepository<Education, Long> {}
+public interface EducationRepository extends JpaRepository<Education, Long> {
+    List<Education> findByUpdatedAtAfter(Instant since);
+
+    /**
+     * All education entries, most recent first (idx_education_start_date); undated ones last.
+     */
+    @Query("SELECT e FROM Education e ORDER BY e.startDate DESC NULLS LAST, e.id")
+    List<Education> findAllNewestFirst();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = AppConstants.EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e FROM Education e ORDER BY e.id")
+    Stream<Education> streamAllForExport();
+
+    /**
+     * Attaches education entries without a profile, from {@code fromId} on, to the profile (resume import).
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE education SET profile_id = :profileId WHERE profile_id IS NULL AND id >= :fromId",
+            nativeQuery = true)
+    int attachToProfile(Long profileId, Long fromId);
+
+    /**
+     * Moves every education row to the profile; rows that already belong to it are not written (resume reload).
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE education SET profile_id = :profileId WHERE profile_id IS NULL OR profile_id <> :profileId",
+            nativeQuery = true)
+    int attachAllToProfile(Long profileId);
+}
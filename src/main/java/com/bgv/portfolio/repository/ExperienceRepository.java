@@ -1,18 +1,72 @@
 package com.bgv.portfolio.repository;
 
+import com.bgv.portfolio.constants.AppConstants;
+import com.bgv.portfolio.dto.ExperienceProjectLinkDTO;
 import com.bgv.portfolio.model.Experience;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ExperienceRepository extends JpaRepository<Experience, Long> {
-    @Query("SELECT DISTINCT e FROM Experience e LEFT JOIN FETCH e.projects")
+    /**
+     * All experiences, most recent first (idx_experience_start_date); undated ones last.
+     */
+    @Query("SELECT DISTINCT e FROM Experience e LEFT JOIN FETCH e.projects ORDER BY e.startDate DESC NULLS LAST, e.id")
     List<Experience> findAllWithEagerProjects();
 
     @Query("SELECT e FROM Experience e LEFT JOIN FETCH e.projects WHERE e.id = :id")
     Optional<Experience> findByIdWithEagerProjects(Long id);
-}
\ No newline at end of file
+
+    @Query("SELECT DISTINCT e FROM Experience e LEFT JOIN FETCH e.projects WHERE e.updatedAt > :since")
+    List<Experience> findUpdatedAfterWithEagerProjects(Instant since);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = AppConstants.EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e FROM Experience e ORDER BY e.id")
+    Stream<Experience> streamAllForExport();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = AppConstants.EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.bgv.portfolio.dto.ExperienceProjectLinkDTO(e.id, p.id) "
+            + "FROM Experience e JOIN e.projects p")
+    Stream<ExperienceProjectLinkDTO> streamProjectLinksForExport();
+
+    /**
+     * Attaches experiences without a profile, from {@code fromId} on, to the profile (resume import).
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE experience SET profile_id = :profileId WHERE profile_id IS NULL AND id >= :fromId",
+            nativeQuery = true)
+    int attachToProfile(Long profileId, Long fromId);
+
+    /**
+     * Moves every experience row to the profile; rows that already belong to it are not written (resume reload).
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE experience SET profile_id = :profileId WHERE profile_id IS NULL OR profile_id <> :profileId",
+            nativeQuery = true)
+    int attachAllToProfile(Long profileId);
+
+    /**
+     * Links an experience to the projects, from {@code fromProjectId} on, that name it as their company (resume import).
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO experience_project (experience_id, project_id) "
+            + "SELECT :experienceId, id FROM project WHERE company_id = :companyId AND id >= :fromProjectId",
+            nativeQuery = true)
+    int linkProjectsByCompanyId(Long experienceId, Integer companyId, Long fromProjectId);
+}
@@ -1,14 +1,32 @@
 package com.bgv.portfolio.repository;
 
+import com.bgv.portfolio.constants.AppConstants;
 import com.bgv.portfolio.model.Profile;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ProfileRepository extends JpaRepository<Profile, Long> {
-    @Query("SELECT p FROM Profile p LEFT JOIN FETCH p.experiences LEFT JOIN FETCH p.educationList WHERE p.id = :id")
+    // Fetches one of the two lists: Hibernate cannot join fetch two bags in one query,
+    // so educationList loads lazily by profile_id
+    @Query("SELECT p FROM Profile p LEFT JOIN FETCH p.experiences WHERE p.id = :id")
     Optional<Profile> findByIdWithEagerLoading(Long id);
-}
\ No newline at end of file
+
+    List<Profile> findByUpdatedAtAfter(Instant since);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = AppConstants.EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p FROM Profile p ORDER BY p.id")
+    Stream<Profile> streamAllForExport();
+}
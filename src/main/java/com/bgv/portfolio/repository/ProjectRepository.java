@@ -1,8 +1,26 @@
 package com.bgv.portfolio.repository;
 
+import com.bgv.portfolio.constants.AppConstants;
 import com.bgv.portfolio.model.Project;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
-public interface ProjectRepository extends JpaRepository<Project, Long> {}
\ No newline at end of file
+public interface ProjectRepository extends JpaRepository<Project, Long> {
+    List<Project> findByUpdatedAtAfter(Instant since);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = AppConstants.EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p FROM Project p ORDER BY p.id")
+    Stream<Project> streamAllForExport();
+}
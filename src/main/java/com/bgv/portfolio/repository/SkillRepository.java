@@ -1,8 +1,26 @@
 package com.bgv.portfolio.repository;
 
+import com.bgv.portfolio.constants.AppConstants;
 import com.bgv.portfolio.model.Skill;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
-public interface SkillRepository extends JpaRepository<Skill, Long> {}
+public interface SkillRepository extends JpaRepository<Skill, Long> {
+    List<Skill> findByUpdatedAtAfter(Instant since);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = AppConstants.EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT s FROM Skill s ORDER BY s.id")
+    Stream<Skill> streamAllForExport();
+}
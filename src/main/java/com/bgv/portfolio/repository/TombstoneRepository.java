@@ -0,0 +1,19 @@
+package com.bgv.portfolio.repository;
+
+import com.bgv.portfolio.model.Tombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface TombstoneRepository extends JpaRepository<Tombstone, Long> {
+    List<Tombstone> findByDeletedAtAfter(Instant since);
+
+    @Modifying
+    @Query("DELETE FROM Tombstone t WHERE t.deletedAt < :cutoff")
+    int deleteByDeletedAtBefore(Instant cutoff);
+}
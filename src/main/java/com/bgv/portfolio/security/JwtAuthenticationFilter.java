@@ -46,12 +46,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
 
         final String authHeader = request.getHeader(AppConstants.AUTH_HEADER);
-        log.info("Processing request: {} {}, Auth header present: {}", 
+        log.debug("Processing request: {} {}, Auth header present: {}", 
                 request.getMethod(), request.getRequestURI(), authHeader != null);
         
         // Skip if no Authorization header present
         if (authHeader == null || !authHeader.startsWith(AppConstants.BEARER_PREFIX)) {
-            log.info("No valid Authorization header, skipping JWT auth");
+            log.debug("No valid Authorization header, skipping JWT auth");
             filterChain.doFilter(request, response);
             return;
         }
@@ -59,16 +59,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             // Extract JWT token (remove "Bearer " prefix)
             String jwt = authHeader.substring(AppConstants.BEARER_PREFIX_LENGTH);
-            log.info("Extracted JWT token, length: {}", jwt.length());
+            log.debug("Extracted JWT token, length: {}", jwt.length());
             String username = jwtUtil.extractUsername(jwt);
-            log.info("Extracted username: {}", username);
+            log.debug("Extracted username: {}", username);
 
             // Authenticate if username exists and no authentication is set
             if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                log.info("Attempting to authenticate user: {}", username);
+                log.debug("Attempting to authenticate user: {}", username);
                 authenticateUser(request, jwt, username);
             } else {
-                log.info("Skipping auth - username: {}, existing auth: {}", 
+                log.debug("Skipping auth - username: {}, existing auth: {}", 
                         username, SecurityContextHolder.getContext().getAuthentication());
             }
         } catch (Exception e) {
@@ -100,7 +100,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     new UsernamePasswordAuthenticationToken(username, userDetails, authorities);
             authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
             SecurityContextHolder.getContext().setAuthentication(authToken);
-            log.info("User '{}' authenticated with authorities: {}, userId: {}", 
+            log.debug("User '{}' authenticated with authorities: {}, userId: {}", 
                     username, authorities, userDetails.get("userId"));
         } else {
             log.warn("Token validation failed for user: {}", username);
@@ -2,6 +2,7 @@ package com.bgv.portfolio.security;
 
 import com.bgv.portfolio.model.AdminUser;
 import com.bgv.portfolio.constants.JwtClaims;
+import com.bgv.portfolio.enums.Role;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -57,6 +58,28 @@ public class JwtUtil {
                 .compact();
     }
 
+    /**
+     * Generates a JWT token for a principal that is not an {@link AdminUser}, with only a role claim.
+     *
+     * @param username the username to include in the token
+     * @param role     the role the token grants
+     * @return generated JWT token as a String
+     */
+    public String generateToken(String username, Role role) {
+        log.debug("Generating JWT token for user: {} with role: {}", username, role);
+
+        Date now = new Date();
+        Date expiryDate = new Date(now.getTime() + expiration);
+
+        return Jwts.builder()
+                .claim(JwtClaims.ROLE, role.getValue())
+                .subject(username)
+                .issuedAt(now)
+                .expiration(expiryDate)
+                .signWith(getSigningKey())
+                .compact();
+    }
+
     /**
      * Generates a JWT token with user details including id, username, and role.
      *
@@ -1,6 +1,7 @@
 package com.bgv.portfolio.security;
 
 import com.bgv.portfolio.constants.AppConstants;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -41,9 +42,16 @@ public class SecurityConfig {
         "/api/auth/**",
         "/api/profile",
         "/api/skills",
+        "/api/skills/grouped",
         "/api/projects",
         "/api/experience",
         "/api/education",
+        "/api/timeline",
+        "/api/sync",
+        "/api/health/ready",
+        "/api/resume.pdf",
+        "/api/resume.md",
+        "/openapi.json",
         "/swagger-ui/**",
         "/api-docs/**",
         "/v3/api-docs/**"
@@ -70,8 +78,9 @@ public class SecurityConfig {
                 
                 // Configure endpoint authorization
                 .authorizeHttpRequests(auth -> auth
+                    .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll() // Re-dispatch of already authorized streams (SSE, exports)
                     .requestMatchers(PUBLIC_ENDPOINTS).permitAll() // Public endpoints
-                    .requestMatchers(HttpMethod.POST, "/api/admin/reload-resume").permitAll()
+                    .requestMatchers(HttpMethod.POST, "/api/events").permitAll()
                     .requestMatchers("/api/**").authenticated()     // Protected API endpoints
                         .anyRequest().permitAll()                       // Allow static resources
                 )
@@ -108,11 +117,14 @@ public class SecurityConfig {
         configuration.setAllowedOrigins(origins);
         
         // Allowed HTTP methods
-        configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
+        configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
         
         // Allowed headers
         configuration.setAllowedHeaders(Arrays.asList("*"));
         
+        // Expose ETag so admin clients can send it back as If-Match
+        configuration.setExposedHeaders(Arrays.asList("ETag"));
+
         // Allow credentials (cookies, authorization headers)
         configuration.setAllowCredentials(true);
         
@@ -0,0 +1,30 @@
+package com.bgv.portfolio.security;
+
+import com.bgv.portfolio.constants.AppConstants;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Helpers for reading the authenticated principal outside of controllers.
+ */
+public final class SecurityUtils {
+
+    private SecurityUtils() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Returns the username from the current JWT authentication.
+     *
+     * @return the acting username, or SYSTEM for anonymous and background work
+     */
+    public static String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return AppConstants.SYSTEM_PRINCIPAL;
+        }
+        return authentication.getName();
+    }
+}
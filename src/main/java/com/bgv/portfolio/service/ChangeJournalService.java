@@ -0,0 +1,205 @@
+package com.bgv.portfolio.service;
+
+import com.bgv.portfolio.dto.ChangeJournalEntryDTO;
+import com.bgv.portfolio.dto.PageResponse;
+import com.bgv.portfolio.enums.ChangeOperation;
+import com.bgv.portfolio.enums.EntityType;
+import com.bgv.portfolio.mapper.PortfolioMapper;
+import com.bgv.portfolio.model.ChangeJournalEntry;
+import com.bgv.portfolio.repository.ChangeJournalRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Append-only change journal.
+ * Request threads only enqueue entries on a lock-free queue; a scheduled writer
+ * drains it and batch-inserts through JDBC, so admin requests never wait on journal I/O.
+ */
+@Service
+@Slf4j
+public class ChangeJournalService {
+
+    private static final String INSERT_SQL = "INSERT INTO change_journal "
+            + "(entity_type, entity_id, operation, entity_version, principal, changes, recorded_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final ChangeJournalRepository changeJournalRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final PortfolioMapper mapper;
+    private final int capacity;
+    private final int batchSize;
+
+    private final Queue<PendingEntry> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+
+    public ChangeJournalService(ChangeJournalRepository changeJournalRepository,
+                                JdbcTemplate jdbcTemplate,
+                                ObjectMapper objectMapper,
+                                PortfolioMapper mapper,
+                                @Value("${journal.queue-capacity:10000}") int capacity,
+                                @Value("${journal.batch-size:200}") int batchSize) {
+        this.changeJournalRepository = changeJournalRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.mapper = mapper;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Hands a committed change to the background writer without blocking.
+     * When the queue is full the entry is dropped and counted.
+     */
+    public void record(EntityType entityType, Long entityId, ChangeOperation operation, Long version,
+                       String principal, Map<String, Object> changes) {
+        if (pending.incrementAndGet() > capacity) {
+            pending.decrementAndGet();
+            long total = dropped.incrementAndGet();
+            log.warn("Change journal queue full, dropped entry for {} {} (total dropped: {})", entityType, entityId, total);
+            return;
+        }
+        queue.offer(new PendingEntry(entityType, entityId, operation, version, principal, changes, Instant.now()));
+    }
+
+    /**
+     * Drains queued entries and writes them with multi-row JDBC batches.
+     */
+    @Scheduled(fixedDelayString = "${journal.flush-interval-ms:500}")
+    public void flush() {
+        List<PendingEntry> batch = new ArrayList<>(batchSize);
+        PendingEntry entry;
+        while ((entry = queue.poll()) != null) {
+            pending.decrementAndGet();
+            batch.add(entry);
+            if (batch.size() == batchSize) {
+                write(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * Pages through journal history, newest first.
+     *
+     * @param entityType optional entity type filter
+     * @param entityId   optional entity id filter (requires entityType)
+     * @param from       inclusive lower bound, defaults to the epoch
+     * @param to         upper bound, defaults to now
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<ChangeJournalEntryDTO> getHistory(EntityType entityType, Long entityId,
+                                                          Instant from, Instant to, int page, int size) {
+        Instant lower = from != null ? from : Instant.EPOCH;
+        Instant upper = to != null ? to : Instant.now();
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Order.desc("recordedAt"), Sort.Order.desc("id")));
+
+        Page<ChangeJournalEntry> entries;
+        if (entityType != null && entityId != null) {
+            entries = changeJournalRepository.findByEntityTypeAndEntityIdAndRecordedAtBetween(entityType, entityId, lower, upper, pageable);
+        } else if (entityType != null) {
+            entries = changeJournalRepository.findByEntityTypeAndRecordedAtBetween(entityType, lower, upper, pageable);
+        } else {
+            entries = changeJournalRepository.findByRecordedAtBetween(lower, upper, pageable);
+        }
+        return PageResponse.of(entries.map(mapper::toDto));
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    private void write(List<PendingEntry> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, e) -> {
+                ps.setString(1, e.entityType.name());
+                if (e.entityId != null) {
+                    ps.setLong(2, e.entityId);
+                } else {
+                    ps.setNull(2, Types.BIGINT);
+                }
+                ps.setString(3, e.operation.name());
+                if (e.version != null) {
+                    ps.setLong(4, e.version);
+                } else {
+                    ps.setNull(4, Types.BIGINT);
+                }
+                ps.setString(5, e.principal);
+                ps.setString(6, toJson(e.changes));
+                ps.setTimestamp(7, Timestamp.from(e.recordedAt));
+            });
+            log.debug("Wrote {} change journal entries", batch.size());
+        } catch (Exception e) {
+            dropped.addAndGet(batch.size());
+            log.error("Failed to write {} change journal entries: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    private String toJson(Map<String, Object> changes) {
+        if (changes == null || changes.isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(changes);
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize change journal diff: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static final class PendingEntry {
+        private final EntityType entityType;
+        private final Long entityId;
+        private final ChangeOperation operation;
+        private final Long version;
+        private final String principal;
+        private final Map<String, Object> changes;
+        private final Instant recordedAt;
+
+        private PendingEntry(EntityType entityType, Long entityId, ChangeOperation operation, Long version,
+                             String principal, Map<String, Object> changes, Instant recordedAt) {
+            this.entityType = entityType;
+            this.entityId = entityId;
+            this.operation = operation;
+            this.version = version;
+            this.principal = principal;
+            this.changes = changes;
+            this.recordedAt = recordedAt;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.bgv.portfolio.service;
+
+import com.bgv.portfolio.event.ClusterInvalidationEvent;
+import com.bgv.portfolio.event.PortfolioChangeEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fans committed portfolio change events out to Server-Sent Events subscribers.
+ * Subscribers are parked as async servlet responses, so idle connections hold no thread.
+ * Each subscriber owns a bounded buffer drained by a small shared dispatcher pool;
+ * a subscriber whose buffer overflows is disconnected instead of slowing everyone else.
+ */
+@Service
+@Slf4j
+public class ChangeStreamService {
+
+    private static final String EVENT_NAME = "change";
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService dispatcher;
+    private final int bufferSize;
+    private final long timeoutMs;
+
+    public ChangeStreamService(@Value("${changes.stream.buffer-size:256}") int bufferSize,
+                               @Value("${changes.stream.timeout-ms:1800000}") long timeoutMs,
+                               @Value("${changes.stream.dispatch-threads:2}") int dispatchThreads) {
+        this.bufferSize = bufferSize;
+        this.timeoutMs = timeoutMs;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.dispatcher = Executors.newFixedThreadPool(dispatchThreads, runnable -> {
+            Thread thread = new Thread(runnable, "change-stream-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Registers a new subscriber.
+     *
+     * @return SseEmitter bound to the subscriber's bounded buffer
+     */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = newEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, new ArrayBlockingQueue<>(bufferSize));
+        subscribers.add(subscriber);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> disconnect(subscriber, null));
+        emitter.onError(error -> disconnect(subscriber, null));
+        log.debug("Change stream subscriber connected, active subscribers: {}", subscribers.size());
+        return emitter;
+    }
+
+    /**
+     * Enqueues a committed change for every subscriber.
+     * Runs after commit so rolled-back mutations are never announced.
+     *
+     * @param event the committed change
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onChange(PortfolioChangeEvent event) {
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.buffer.offer(event)) {
+                log.warn("Change stream subscriber exceeded buffer of {} events, disconnecting", bufferSize);
+                disconnect(subscriber, new IllegalStateException("Slow consumer"));
+                continue;
+            }
+            scheduleDrain(subscriber);
+        }
+    }
+
+    /**
+     * Forwards changes committed on other instances, so subscribers see every write
+     * whichever instance they are connected to.
+     *
+     * @param event the remote change
+     */
+    @EventListener
+    public void onClusterInvalidation(ClusterInvalidationEvent event) {
+        if (!event.isResync()) {
+            onChange(event.getChange());
+        }
+    }
+
+    /**
+     * Sends a comment line to every subscriber so dead connections are detected
+     * and intermediaries do not close idle streams.
+     */
+    @Scheduled(fixedRateString = "${changes.stream.heartbeat-ms:25000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.buffer.isEmpty() && !subscriber.draining.get()) {
+                dispatcher.execute(() -> {
+                    try {
+                        subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+                    } catch (IOException | IllegalStateException e) {
+                        disconnect(subscriber, null);
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * Creates the emitter of a new subscriber; tests override it to stand in for the client.
+     */
+    SseEmitter newEmitter(long timeoutMs) {
+        return new SseEmitter(timeoutMs);
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        dispatcher.shutdownNow();
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            dispatcher.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            PortfolioChangeEvent event;
+            while ((event = subscriber.buffer.poll()) != null) {
+                subscriber.emitter.send(SseEmitter.event()
+                        .name(EVENT_NAME)
+                        .id(String.valueOf(event.getTimestamp().toEpochMilli()))
+                        .data(event));
+            }
+        } catch (IOException | IllegalStateException e) {
+            disconnect(subscriber, null);
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+        // An event may have been offered after the last poll but before the flag was cleared
+        if (!subscriber.buffer.isEmpty()) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private void disconnect(Subscriber subscriber, Throwable reason) {
+        if (subscribers.remove(subscriber)) {
+            subscriber.buffer.clear();
+            if (reason != null) {
+                subscriber.emitter.completeWithError(reason);
+            } else {
+                subscriber.emitter.complete();
+            }
+            log.debug("Change stream subscriber disconnected, active subscribers: {}", subscribers.size());
+        }
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final Queue<PortfolioChangeEvent> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, Queue<PortfolioChangeEvent> buffer) {
+            this.emitter = emitter;
+            this.buffer = buffer;
+        }
+    }
+}
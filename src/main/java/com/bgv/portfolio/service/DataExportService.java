@@ -0,0 +1,123 @@
+package com.bgv.portfolio.service;
+
+import com.bgv.portfolio.datasource.ReadRouting;
+import com.bgv.portfolio.dto.ExportRecordDTO;
+import com.bgv.portfolio.enums.EntityType;
+import com.bgv.portfolio.mapper.PortfolioMapper;
+import com.bgv.portfolio.repository.*;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Full data export as NDJSON: one {@code {"type": ..., "data": ...}} object per line.
+ * <p>
+ * Rows are read through repository streams backed by a server-side cursor (fetch size
+ * {@link com.bgv.portfolio.constants.AppConstants#EXPORT_FETCH_SIZE}) and written straight to
+ * the output as they arrive. The persistence context is cleared every
+ * {@code export.clear-interval} rows, so memory use does not grow with the number of rows.
+ * The experience ↔ project association is exported as separate {@code experience_project}
+ * lines instead of nesting projects into every experience.
+ */
+@Service
+@Slf4j
+public class DataExportService {
+
+    public static final String EXPERIENCE_PROJECT_TYPE = "experience_project";
+
+    private final ProfileRepository profileRepository;
+    private final SkillRepository skillRepository;
+    private final ProjectRepository projectRepository;
+    private final ExperienceRepository experienceRepository;
+    private final EducationRepository educationRepository;
+    private final PortfolioMapper mapper;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final int clearInterval;
+
+    public DataExportService(ProfileRepository profileRepository,
+                             SkillRepository skillRepository,
+                             ProjectRepository projectRepository,
+                             ExperienceRepository experienceRepository,
+                             EducationRepository educationRepository,
+                             PortfolioMapper mapper,
+                             EntityManager entityManager,
+                             ObjectMapper objectMapper,
+                             @Value("${export.clear-interval:1000}") int clearInterval) {
+        this.profileRepository = profileRepository;
+        this.skillRepository = skillRepository;
+        this.projectRepository = projectRepository;
+        this.experienceRepository = experienceRepository;
+        this.educationRepository = educationRepository;
+        this.mapper = mapper;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.clearInterval = Math.max(1, clearInterval);
+    }
+
+    /**
+     * Writes every portfolio entity to the stream. The stream is flushed but not closed.
+     * All rows come from one snapshot (REPEATABLE READ), so a concurrent edit cannot leave an
+     * experience pointing at a project the export has no line for. Reads go to the primary: this
+     * runs on the async response thread, which the read-after-write pin of the request does not
+     * reach, and an export taken right after an edit must contain it.
+     *
+     * @param out destination, e.g. the response body
+     * @return number of lines written
+     * @throws IOException if writing fails, typically because the client went away
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public long export(OutputStream out) throws IOException {
+        long start = System.nanoTime();
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        // The caller owns the stream (it may have to finish a gzip trailer after us)
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        long lines = 0;
+        // The lazy connection proxy picks the data source at the first statement, so pinning here is in time
+        try (ReadRouting.Scope ignored = ReadRouting.pinToPrimary();
+             SequenceWriter writer = objectMapper.writer().withRootValueSeparator("\n").writeValues(generator)) {
+            lines += write(writer, EntityType.PROFILE.getValue(), profileRepository.streamAllForExport(), mapper::toSummaryDto);
+            lines += write(writer, EntityType.SKILL.getValue(), skillRepository.streamAllForExport(), mapper::toDto);
+            lines += write(writer, EntityType.PROJECT.getValue(), projectRepository.streamAllForExport(), mapper::toDto);
+            lines += write(writer, EntityType.EXPERIENCE.getValue(), experienceRepository.streamAllForExport(), mapper::toSummaryDto);
+            lines += write(writer, EXPERIENCE_PROJECT_TYPE, experienceRepository.streamProjectLinksForExport(), Function.identity());
+            lines += write(writer, EntityType.EDUCATION.getValue(), educationRepository.streamAllForExport(), mapper::toDto);
+        }
+        if (lines > 0) {
+            // SequenceWriter only writes separators between values; NDJSON terminates every line
+            out.write('\n');
+        }
+        out.flush();
+        log.info("Exported {} records in {} ms", lines, (System.nanoTime() - start) / 1_000_000);
+        return lines;
+    }
+
+    private <E> long write(SequenceWriter writer, String type, Stream<E> rows, Function<E, ?> toDto) throws IOException {
+        long count = 0;
+        try (rows) {
+            Iterator<E> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                writer.write(new ExportRecordDTO(type, toDto.apply(iterator.next())));
+                if (++count % clearInterval == 0) {
+                    // Detach what this chunk loaded and push it to the client
+                    entityManager.clear();
+                    writer.flush();
+                }
+            }
+            entityManager.clear();
+            return count;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.bgv.portfolio.service;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-client token buckets for event beacons: each client may send {@code burst} events at once
+ * and {@code ratePerSecond} events per second after that.
+ * <p>
+ * A bucket that has refilled completely is the same as no bucket, so {@link #evictIdle} drops those;
+ * at most {@code maxClients} clients are tracked between evictions, and new clients are refused
+ * while the table is full rather than letting a spread of addresses grow it without bound.
+ */
+public final class EventRateLimiter {
+
+    private final double tokensPerNano;
+    private final long burst;
+    private final int maxClients;
+    private final LongSupplier nanoClock;
+    private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * @param ratePerSecond sustained events per second per client
+     * @param burst         events a client may send at once; at least one full beacon
+     * @param maxClients    clients tracked at most between evictions
+     * @param nanoClock     monotonic time in nanoseconds, e.g. {@code System::nanoTime}
+     */
+    public EventRateLimiter(double ratePerSecond, long burst, int maxClients, LongSupplier nanoClock) {
+        if (ratePerSecond <= 0 || burst < 1 || maxClients < 1) {
+            throw new IllegalArgumentException("Rate, burst and client limit must be positive");
+        }
+        this.tokensPerNano = ratePerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.burst = burst;
+        this.maxClients = maxClients;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Takes {@code events} tokens from the client's bucket, or none if it does not hold that many.
+     *
+     * @param client the client key, e.g. its address
+     * @param events tokens to take
+     * @return 0 when taken, otherwise the nanoseconds until the bucket will hold enough
+     */
+    public long tryAcquire(String client, int events) {
+        if (events > burst) {
+            return Long.MAX_VALUE;
+        }
+        long now = nanoClock.getAsLong();
+        Bucket bucket = buckets.get(client);
+        if (bucket == null) {
+            if (buckets.size() >= maxClients) {
+                return TimeUnit.SECONDS.toNanos(1);
+            }
+            bucket = buckets.computeIfAbsent(client, key -> new Bucket(burst, now));
+        }
+        return bucket.tryTake(events, now);
+    }
+
+    /**
+     * Forgets clients whose bucket has refilled completely.
+     *
+     * @return the number of clients forgotten
+     */
+    public int evictIdle() {
+        long now = nanoClock.getAsLong();
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+        return before - buckets.size();
+    }
+
+    public int trackedClients() {
+        return buckets.size();
+    }
+
+    private final class Bucket {
+        private double tokens;
+        private long updatedAt;
+
+        Bucket(double tokens, long updatedAt) {
+            this.tokens = tokens;
+            this.updatedAt = updatedAt;
+        }
+
+        synchronized long tryTake(int events, long now) {
+            refill(now);
+            if (tokens >= events) {
+                tokens -= events;
+                return 0;
+            }
+            return (long) Math.ceil((events - tokens) / tokensPerNano);
+        }
+
+        synchronized boolean isFull(long now) {
+            refill(now);
+            return tokens >= burst;
+        }
+
+        private void refill(long now) {
+            if (now > updatedAt) {
+                tokens = Math.min(burst, tokens + (now - updatedAt) * tokensPerNano);
+                updatedAt = now;
+            }
+        }
+    }
+}
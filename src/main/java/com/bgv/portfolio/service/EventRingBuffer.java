@@ -0,0 +1,107 @@
+package com.bgv.portfolio.service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded lock-free queue for many producers and one consumer, on a preallocated ring.
+ * <p>
+ * Each slot carries a sequence number telling producers when it is free and the consumer
+ * when it is filled (Vyukov's bounded queue). Producers claim a slot with one CAS on the
+ * tail and never wait: {@link #offer} fails immediately when the ring is full.
+ * Offering and draining allocate nothing.
+ *
+ * @param <T> the element type
+ */
+public final class EventRingBuffer<T> {
+
+    private final int mask;
+    private final Object[] items;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    // Written by the consumer only; volatile so size() can read it from other threads
+    private volatile long head;
+
+    /**
+     * @param capacity number of slots, a power of two
+     */
+    public EventRingBuffer(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two, got " + capacity);
+        }
+        this.mask = capacity - 1;
+        this.items = new Object[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Adds an element unless the ring is full. Safe to call from any thread.
+     *
+     * @param item the element
+     * @return false when the ring is full and the element was not added
+     */
+    public boolean offer(T item) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.getAcquire(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    items[index] = item;
+                    // Publishes the element to the consumer
+                    sequences.setRelease(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                // The slot still holds an element from one lap ago
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Moves up to {@code max} elements, in offer order, into {@code target}.
+     * Must only be called from the single consumer thread.
+     *
+     * @return the number of elements moved
+     */
+    @SuppressWarnings("unchecked")
+    public int drainTo(List<? super T> target, int max) {
+        long position = head;
+        int drained = 0;
+        while (drained < max) {
+            int index = (int) (position & mask);
+            if (sequences.getAcquire(index) != position + 1) {
+                // Empty, or the producer that claimed this slot has not published it yet
+                break;
+            }
+            target.add((T) items[index]);
+            items[index] = null;
+            // Frees the slot for the producer one lap ahead
+            sequences.setRelease(index, position + mask + 1);
+            position++;
+            drained++;
+        }
+        head = position;
+        return drained;
+    }
+
+    /**
+     * Approximate number of queued elements.
+     */
+    public int size() {
+        long size = tail.get() - head;
+        return (int) Math.max(0, Math.min(size, capacity()));
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+}
@@ -1,15 +1,34 @@
 package com.bgv.portfolio.service;
 
+import com.bgv.portfolio.constants.AppConstants;
 import com.bgv.portfolio.dto.*;
+import com.bgv.portfolio.enums.ApiStatus;
+import com.bgv.portfolio.enums.ChangeOperation;
+import com.bgv.portfolio.enums.EntityType;
+import com.bgv.portfolio.event.PortfolioChangeEvent;
+import com.bgv.portfolio.exception.PreconditionFailedException;
 import com.bgv.portfolio.exception.ResourceNotFoundException;
+import com.bgv.portfolio.mapper.PortfolioMapper;
 import com.bgv.portfolio.model.*;
 import com.bgv.portfolio.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,6 +42,8 @@ public class PortfolioService {
     private final ProjectRepository projectRepository;
     private final ExperienceRepository experienceRepository;
     private final EducationRepository educationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PortfolioMapper mapper;
 
     // ---------------- Public ----------------
 
@@ -31,7 +52,7 @@ public class PortfolioService {
         log.debug("Fetching profile from database");
         Profile profile = profileRepository.findAll().stream().findFirst()
                 .orElseThrow(() -> new ResourceNotFoundException("Profile not found"));
-        return mapToDTO(profile);
+        return mapper.toDto(profile);
     }
 
     @Transactional(readOnly = true)
@@ -39,14 +60,14 @@ public class PortfolioService {
         log.debug("Fetching profile with id: {}" , id);
         Profile profile = profileRepository.findByIdWithEagerLoading(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Profile not found with id: " + id));
-        return mapToDTO(profile);
+        return mapper.toDto(profile);
     }
 
     @Transactional(readOnly = true)
     public List<SkillDTO> getSkills() {
         log.debug("Fetching all skills from database");
         return skillRepository.findAll().stream()
-                .map(this::mapToDTO)
+                .map(mapper::toDto)
                 .collect(Collectors.toList());
     }
 
@@ -54,7 +75,7 @@ public class PortfolioService {
     public List<ProjectDTO> getProjects() {
         log.debug("Fetching all projects from database");
         return projectRepository.findAll().stream()
-                .map(this::mapToDTO)
+                .map(mapper::toDto)
                 .collect(Collectors.toList());
     }
 
@@ -62,15 +83,15 @@ public class PortfolioService {
     public List<ExperienceDTO> getExperiences() {
         log.debug("Fetching all experiences from database");
         return experienceRepository.findAllWithEagerProjects().stream()
-                .map(this::mapToDTO)
+                .map(mapper::toDto)
                 .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
     public List<EducationDTO> getEducation() {
         log.debug("Fetching all education records from database");
-        return educationRepository.findAll().stream()
-                .map(this::mapToDTO)
+        return educationRepository.findAllNewestFirst().stream()
+                .map(mapper::toDto)
                 .collect(Collectors.toList());
     }
 
@@ -87,37 +108,39 @@ public class PortfolioService {
                 .highlight(dto.getHighlight())
                 .liveDemoUrl(dto.getLiveDemoUrl())
                 .build();
-        Project saved = projectRepository.save(project);
+        Project saved = projectRepository.saveAndFlush(project);
         log.info("Project created successfully with id: {}", saved != null ? saved.getId() : null);
-        return saved != null ? mapToDTO(saved) : null;
+        if (saved != null) {
+            publishChange(EntityType.PROJECT, saved.getId(), ChangeOperation.CREATED, saved);
+        }
+        return saved != null ? mapper.toDto(saved) : null;
     }
 
-    public ProfileDTO updateProfile(Long id, ProfileDTO dto) {
+    public ProfileDTO updateProfile(Long id, ProfileDTO dto, Long expectedVersion) {
         log.info("Updating profile with id: {}", id);
         if (id == null) {
             throw new IllegalArgumentException("Profile id cannot be null");
         }
         Profile profile = profileRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Profile not found with id: " + id));
-        profile.setName(dto.getName());
-        profile.setTitle(dto.getTitle());
-        profile.setSummary(dto.getSummary());
-        profile.setLocation(dto.getLocation());
-        profile.setEmail(dto.getEmail());
-        profile.setLinkedin(dto.getLinkedin());
-        profile.setGithub(dto.getGithub());
-        profile.setPhone(dto.getPhone());
-        profileRepository.save(profile);
+        checkVersion(profile, expectedVersion);
+        mapper.updateEntity(dto, profile);
+        profileRepository.saveAndFlush(profile);
+        publishChange(EntityType.PROFILE, id, ChangeOperation.UPDATED, profile);
         log.info("Profile updated successfully");
-        return mapToDTO(profile);
+        return mapper.toDto(profile);
     }
 
-    public void deleteSkill(Long id) {
+    public void deleteSkill(Long id, Long expectedVersion) {
         log.info("Deleting skill with id: {}", id);
-        if (id == null || !skillRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Skill not found with id: " + id);
+        if (id == null) {
+            throw new ResourceNotFoundException("Skill not found with id: null");
         }
-        skillRepository.deleteById(id);
+        Skill skill = skillRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Skill not found with id: " + id));
+        checkVersion(skill, expectedVersion);
+        skillRepository.delete(skill);
+        publishChange(EntityType.SKILL, id, ChangeOperation.DELETED, skill);
         log.info("Skill deleted successfully");
     }
 
@@ -128,30 +151,31 @@ public class PortfolioService {
         log.debug("Fetching project with id: {}", id);
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
-        return mapToDTO(project);
+        return mapper.toDto(project);
     }
 
-    public ProjectDTO updateProject(Long id, ProjectDTO dto) {
+    public ProjectDTO updateProject(Long id, ProjectDTO dto, Long expectedVersion) {
         log.info("Updating project with id: {}", id);
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
-        project.setName(dto.getName());
-        project.setDescription(dto.getDescription());
-        project.setGithubUrl(dto.getGithubUrl());
-        project.setTechStack(dto.getTechStack());
-        project.setHighlight(dto.getHighlight());
-        project.setLiveDemoUrl(dto.getLiveDemoUrl());
-        projectRepository.save(project);
+        checkVersion(project, expectedVersion);
+        mapper.updateEntity(dto, project);
+        projectRepository.saveAndFlush(project);
+        publishChange(EntityType.PROJECT, id, ChangeOperation.UPDATED, project);
         log.info("Project updated successfully");
-        return mapToDTO(project);
+        return mapper.toDto(project);
     }
 
-    public void deleteProject(Long id) {
+    public void deleteProject(Long id, Long expectedVersion) {
         log.info("Deleting project with id: {}", id);
-        if (id == null || !projectRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Project not found with id: " + id);
+        if (id == null) {
+            throw new ResourceNotFoundException("Project not found with id: null");
         }
-        projectRepository.deleteById(id);
+        Project project = projectRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
+        checkVersion(project, expectedVersion);
+        projectRepository.delete(project);
+        publishChange(EntityType.PROJECT, id, ChangeOperation.DELETED, project);
         log.info("Project deleted successfully");
     }
 
@@ -160,7 +184,7 @@ public class PortfolioService {
         log.debug("Fetching experience with id: {}", id);
         Experience experience = experienceRepository.findByIdWithEagerProjects(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Experience not found with id: " + id));
-        return mapToDTO(experience);
+        return mapper.toDto(experience);
     }
 
     public ExperienceDTO addExperience(ExperienceDTO dto) {
@@ -171,30 +195,34 @@ public class PortfolioService {
                 .duration(dto.getDuration())
                 .description(dto.getDescription())
                 .build();
-        Experience saved = experienceRepository.save(experience);
+        Experience saved = experienceRepository.saveAndFlush(experience);
+        publishChange(EntityType.EXPERIENCE, saved.getId(), ChangeOperation.CREATED, saved);
         log.info("Experience created successfully with id: {}", saved.getId());
-        return mapToDTO(saved);
+        return mapper.toDto(saved);
     }
 
-    public ExperienceDTO updateExperience(Long id, ExperienceDTO dto) {
+    public ExperienceDTO updateExperience(Long id, ExperienceDTO dto, Long expectedVersion) {
         log.info("Updating experience with id: {}", id);
         Experience experience = experienceRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Experience not found with id: " + id));
-        experience.setCompany(dto.getCompany());
-        experience.setRole(dto.getRole());
-        experience.setDuration(dto.getDuration());
-        experience.setDescription(dto.getDescription());
-        experienceRepository.save(experience);
+        checkVersion(experience, expectedVersion);
+        mapper.updateEntity(dto, experience);
+        experienceRepository.saveAndFlush(experience);
+        publishChange(EntityType.EXPERIENCE, id, ChangeOperation.UPDATED, experience);
         log.info("Experience updated successfully");
-        return mapToDTO(experience);
+        return mapper.toDto(experience);
     }
 
-    public void deleteExperience(Long id) {
+    public void deleteExperience(Long id, Long expectedVersion) {
         log.info("Deleting experience with id: {}", id);
-        if (id == null || !experienceRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Experience not found with id: " + id);
+        if (id == null) {
+            throw new ResourceNotFoundException("Experience not found with id: null");
         }
-        experienceRepository.deleteById(id);
+        Experience experience = experienceRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Experience not found with id: " + id));
+        checkVersion(experience, expectedVersion);
+        experienceRepository.delete(experience);
+        publishChange(EntityType.EXPERIENCE, id, ChangeOperation.DELETED, experience);
         log.info("Experience deleted successfully");
     }
 
@@ -203,7 +231,7 @@ public class PortfolioService {
         log.debug("Fetching education with id: {}", id);
         Education education = educationRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Education not found with id: " + id));
-        return mapToDTO(education);
+        return mapper.toDto(education);
     }
 
     public EducationDTO addEducation(EducationDTO dto) {
@@ -216,32 +244,34 @@ public class PortfolioService {
                 .board(dto.getBoard())
                 .duration(dto.getDuration())
                 .build();
-        Education saved = educationRepository.save(education);
+        Education saved = educationRepository.saveAndFlush(education);
+        publishChange(EntityType.EDUCATION, saved.getId(), ChangeOperation.CREATED, saved);
         log.info("Education record created successfully with id: {}", saved.getId());
-        return mapToDTO(saved);
+        return mapper.toDto(saved);
     }
 
-    public EducationDTO updateEducation(Long id, EducationDTO dto) {
+    public EducationDTO updateEducation(Long id, EducationDTO dto, Long expectedVersion) {
         log.info("Updating education with id: {}", id);
         Education education = educationRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Education not found with id: " + id));
-        education.setInstitute(dto.getInstitute());
-        education.setDegree(dto.getDegree());
-        education.setCgpa(dto.getCgpa());
-        education.setPercentage(dto.getPercentage());
-        education.setBoard(dto.getBoard());
-        education.setDuration(dto.getDuration());
-        educationRepository.save(education);
+        checkVersion(education, expectedVersion);
+        mapper.updateEntity(dto, education);
+        educationRepository.saveAndFlush(education);
+        publishChange(EntityType.EDUCATION, id, ChangeOperation.UPDATED, education);
         log.info("Education updated successfully");
-        return mapToDTO(education);
+        return mapper.toDto(education);
     }
 
-    public void deleteEducation(Long id) {
+    public void deleteEducation(Long id, Long expectedVersion) {
         log.info("Deleting education with id: {}", id);
-        if (id == null || !educationRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Education not found with id: " + id);
+        if (id == null) {
+            throw new ResourceNotFoundException("Education not found with id: null");
         }
-        educationRepository.deleteById(id);
+        Education education = educationRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Education not found with id: " + id));
+        checkVersion(education, expectedVersion);
+        educationRepository.delete(education);
+        publishChange(EntityType.EDUCATION, id, ChangeOperation.DELETED, education);
         log.info("Education deleted successfully");
     }
 
@@ -250,7 +280,7 @@ public class PortfolioService {
         log.debug("Fetching skill with id: {}", id);
         Skill skill = skillRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Skill not found with id: " + id));
-        return mapToDTO(skill);
+        return mapper.toDto(skill);
     }
 
     public SkillDTO addSkill(SkillDTO dto) {
@@ -260,82 +290,230 @@ public class PortfolioService {
                 .level(dto.getLevel())
                 .category(dto.getCategory())
                 .build();
-        Skill saved = skillRepository.save(skill);
+        Skill saved = skillRepository.saveAndFlush(skill);
+        publishChange(EntityType.SKILL, saved.getId(), ChangeOperation.CREATED, saved);
         log.info("Skill created successfully with id: {}", saved.getId());
-        return mapToDTO(saved);
+        return mapper.toDto(saved);
     }
 
-    public SkillDTO updateSkill(Long id, SkillDTO dto) {
+    public SkillDTO updateSkill(Long id, SkillDTO dto, Long expectedVersion) {
         log.info("Updating skill with id: {}", id);
         Skill skill = skillRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Skill not found with id: " + id));
-        skill.setName(dto.getName());
-        skill.setLevel(dto.getLevel());
-        skill.setCategory(dto.getCategory());
-        skillRepository.save(skill);
+        checkVersion(skill, expectedVersion);
+        mapper.updateEntity(dto, skill);
+        skillRepository.saveAndFlush(skill);
+        publishChange(EntityType.SKILL, id, ChangeOperation.UPDATED, skill);
         log.info("Skill updated successfully");
-        return mapToDTO(skill);
-    }
-
-    // ---------------- Mapping Helpers ----------------
-
-    private ProfileDTO mapToDTO(Profile profile) {
-        return ProfileDTO.builder()
-                .id(profile.getId())
-                .name(profile.getName())
-                .title(profile.getTitle())
-                .summary(profile.getSummary())
-                .location(profile.getLocation())
-                .email(profile.getEmail())
-                .phone(profile.getPhone())
-                .linkedin(profile.getLinkedin())
-                .github(profile.getGithub())
-                .experiences(profile.getExperiences().stream().map(this::mapToDTO).collect(Collectors.toList()))
-                .educationList(profile.getEducationList().stream().map(this::mapToDTO).collect(Collectors.toList()))
-                .build();
+        return mapper.toDto(skill);
     }
 
-    private SkillDTO mapToDTO(Skill skill) {
-        return SkillDTO.builder()
-                .id(skill.getId())
-                .name(skill.getName())
-                .level(skill.getLevel())
-                .category(skill.getCategory())
-                .build();
+    // ---------------- Batch ----------------
+
+    public List<BatchItemResult<SkillDTO>> batchSkills(BatchRequest<SkillDTO> request, boolean requireVersion) {
+        log.info("Applying skill batch");
+        return applyBatch(request, requireVersion, skillRepository, EntityType.SKILL, Skill::new,
+                SkillDTO::getId, SkillDTO::getVersion, Skill::getId, mapper::updateEntity, mapper::toDto);
     }
 
-    private ProjectDTO mapToDTO(Project project) {
-        return ProjectDTO.builder()
-                .id(project.getId())
-                .name(project.getName())
-                .description(project.getDescription())
-                .githubUrl(project.getGithubUrl())
-                .techStack(project.getTechStack())
-                .highlight(project.getHighlight())
-                .liveDemoUrl(project.getLiveDemoUrl())
-                .build();
+    public List<BatchItemResult<ProjectDTO>> batchProjects(BatchRequest<ProjectDTO> request, boolean requireVersion) {
+        log.info("Applying project batch");
+        return applyBatch(request, requireVersion, projectRepository, EntityType.PROJECT, Project::new,
+                ProjectDTO::getId, ProjectDTO::getVersion, Project::getId, mapper::updateEntity, mapper::toDto);
     }
 
-    private ExperienceDTO mapToDTO(Experience exp) {
-        return ExperienceDTO.builder()
-                .id(exp.getId())
-                .company(exp.getCompany())
-                .role(exp.getRole())
-                .duration(exp.getDuration())
-                .description(exp.getDescription())
-                .projects(exp.getProjects().stream().map(this::mapToDTO).collect(Collectors.toSet()))
+    public List<BatchItemResult<ExperienceDTO>> batchExperiences(BatchRequest<ExperienceDTO> request, boolean requireVersion) {
+        log.info("Applying experience batch");
+        return applyBatch(request, requireVersion, experienceRepository, EntityType.EXPERIENCE, Experience::new,
+                ExperienceDTO::getId, ExperienceDTO::getVersion, Experience::getId, mapper::updateEntity, mapper::toDto);
+    }
+
+    public List<BatchItemResult<EducationDTO>> batchEducation(BatchRequest<EducationDTO> request, boolean requireVersion) {
+        log.info("Applying education batch");
+        return applyBatch(request, requireVersion, educationRepository, EntityType.EDUCATION, Education::new,
+                EducationDTO::getId, EducationDTO::getVersion, Education::getId, mapper::updateEntity, mapper::toDto);
+    }
+
+    /**
+     * Applies creates, updates and deletes in the current transaction.
+     * Updates and deletes are resolved with one IN query each and all writes are
+     * flushed once, so Hibernate sends them as JDBC batches. Unknown ids, stale versions
+     * and ids named more than once are reported per item instead of failing the whole batch.
+     * With {@code requireVersion}, updates and deletes without a version are rejected too,
+     * as PUT and DELETE without If-Match are.
+     */
+    private <E extends AuditFields, D> List<BatchItemResult<D>> applyBatch(
+            BatchRequest<D> request, boolean requireVersion, JpaRepository<E, Long> repository, EntityType type,
+            Supplier<E> factory, Function<D, Long> dtoId, Function<D, Long> dtoVersion, Function<E, Long> entityId,
+            BiConsumer<D, E> copier, Function<E, D> mapper) {
+        List<D> creates = request.getCreate() != null ? request.getCreate() : List.of();
+        List<D> updates = request.getUpdate() != null ? request.getUpdate() : List.of();
+        List<BatchDeleteDTO> deletes = request.getDelete() != null ? request.getDelete() : List.of();
+
+        // An id named twice (two updates, two deletes, or an update and a delete) has no
+        // single outcome, so none of its occurrences is applied
+        Map<Long, Integer> occurrences = new HashMap<>();
+        updates.stream().map(dtoId).filter(Objects::nonNull).forEach(id -> occurrences.merge(id, 1, Integer::sum));
+        deletes.stream().map(this::deleteId).filter(Objects::nonNull).forEach(id -> occurrences.merge(id, 1, Integer::sum));
+        Set<Long> unversioned = new HashSet<>();
+        if (requireVersion) {
+            updates.stream().filter(dto -> dtoVersion.apply(dto) == null).map(dtoId).filter(Objects::nonNull)
+                    .forEach(unversioned::add);
+            deletes.stream().filter(item -> item != null && item.getVersion() == null).map(this::deleteId)
+                    .filter(Objects::nonNull).forEach(unversioned::add);
+        }
+        Predicate<Long> applicable = id -> id != null && occurrences.get(id) == 1 && !unversioned.contains(id);
+
+        List<E> created = new ArrayList<>(creates.size());
+        for (D dto : creates) {
+            E entity = factory.get();
+            copier.accept(dto, entity);
+            created.add(entity);
+        }
+        repository.saveAll(created);
+
+        Map<Long, E> toUpdate = new HashMap<>();
+        repository.findAllById(updates.stream().map(dtoId).filter(applicable).toList())
+                .forEach(entity -> toUpdate.put(entityId.apply(entity), entity));
+        Map<Long, Long> staleVersions = new HashMap<>();
+        for (D dto : updates) {
+            E entity = toUpdate.get(dtoId.apply(dto));
+            if (entity == null) {
+                continue;
+            }
+            Long expectedVersion = dtoVersion.apply(dto);
+            if (expectedVersion != null && !expectedVersion.equals(entity.getVersion())) {
+                staleVersions.put(entityId.apply(entity), entity.getVersion());
+                continue;
+            }
+            copier.accept(dto, entity);
+        }
+
+        Map<Long, E> toDelete = new HashMap<>();
+        repository.findAllById(deletes.stream().map(this::deleteId).filter(applicable).toList())
+                .forEach(entity -> toDelete.put(entityId.apply(entity), entity));
+        for (BatchDeleteDTO item : deletes) {
+            E entity = toDelete.get(deleteId(item));
+            if (entity != null && item.getVersion() != null && !item.getVersion().equals(entity.getVersion())) {
+                staleVersions.put(item.getId(), entity.getVersion());
+                toDelete.remove(item.getId());
+            }
+        }
+        repository.deleteAll(toDelete.values());
+
+        repository.flush();
+
+        List<BatchItemResult<D>> results = new ArrayList<>(creates.size() + updates.size() + deletes.size());
+        for (int i = 0; i < created.size(); i++) {
+            E entity = created.get(i);
+            publishChange(type, entityId.apply(entity), ChangeOperation.CREATED, entity);
+            results.add(batchSuccess(ChangeOperation.CREATED, i, entityId.apply(entity), mapper.apply(entity)));
+        }
+        int updated = 0;
+        for (int i = 0; i < updates.size(); i++) {
+            Long id = dtoId.apply(updates.get(i));
+            String error = batchItemError(type, id, occurrences, unversioned, staleVersions, toUpdate.containsKey(id));
+            if (error != null) {
+                results.add(batchError(ChangeOperation.UPDATED, i, id, error));
+                continue;
+            }
+            E entity = toUpdate.get(id);
+            publishChange(type, id, ChangeOperation.UPDATED, entity);
+            results.add(batchSuccess(ChangeOperation.UPDATED, i, id, mapper.apply(entity)));
+            updated++;
+        }
+        for (int i = 0; i < deletes.size(); i++) {
+            Long id = deleteId(deletes.get(i));
+            String error = batchItemError(type, id, occurrences, unversioned, staleVersions, toDelete.containsKey(id));
+            if (error != null) {
+                results.add(batchError(ChangeOperation.DELETED, i, id, error));
+                continue;
+            }
+            publishChange(type, id, ChangeOperation.DELETED, toDelete.get(id));
+            results.add(batchSuccess(ChangeOperation.DELETED, i, id, null));
+        }
+        log.info("{} batch applied: {} created, {} updated, {} deleted",
+                type, created.size(), updated, toDelete.size());
+        return results;
+    }
+
+    private Long deleteId(BatchDeleteDTO item) {
+        return item != null ? item.getId() : null;
+    }
+
+    /**
+     * Why an update or delete of {@code id} was not applied, or null when it was.
+     */
+    private String batchItemError(EntityType type, Long id, Map<Long, Integer> occurrences, Set<Long> unversioned,
+                                  Map<Long, Long> staleVersions, boolean applied) {
+        if (id == null) {
+            return AppConstants.ERR_ID_REQUIRED;
+        }
+        if (occurrences.get(id) > 1) {
+            return AppConstants.ERR_DUPLICATE_BATCH_ID;
+        }
+        if (unversioned.contains(id)) {
+            return AppConstants.ERR_VERSION_REQUIRED;
+        }
+        if (staleVersions.containsKey(id)) {
+            return AppConstants.ERR_VERSION_CONFLICT + " (current " + staleVersions.get(id) + ")";
+        }
+        return applied ? null : notFoundMessage(type, id);
+    }
+
+    private <D> BatchItemResult<D> batchSuccess(ChangeOperation operation, int index, Long id, D data) {
+        return BatchItemResult.<D>builder()
+                .operation(operation)
+                .index(index)
+                .id(id)
+                .status(ApiStatus.SUCCESS.getValue())
+                .data(data)
                 .build();
     }
 
-    private EducationDTO mapToDTO(Education edu) {
-        return EducationDTO.builder()
-                .id(edu.getId())
-                .institute(edu.getInstitute())
-                .degree(edu.getDegree())
-                .cgpa(edu.getCgpa())
-                .percentage(edu.getPercentage())
-                .board(edu.getBoard())
-                .duration(edu.getDuration())
+    private <D> BatchItemResult<D> batchError(ChangeOperation operation, int index, Long id, String message) {
+        return BatchItemResult.<D>builder()
+                .operation(operation)
+                .index(index)
+                .id(id)
+                .status(ApiStatus.ERROR.getValue())
+                .message(message)
                 .build();
     }
+
+    private String notFoundMessage(EntityType type, Long id) {
+        String label = switch (type) {
+            case PROFILE -> AppConstants.ERR_PROFILE_NOT_FOUND;
+            case SKILL -> AppConstants.ERR_SKILL_NOT_FOUND;
+            case PROJECT -> AppConstants.ERR_PROJECT_NOT_FOUND;
+            case EXPERIENCE -> AppConstants.ERR_EXPERIENCE_NOT_FOUND;
+            case EDUCATION -> AppConstants.ERR_EDUCATION_NOT_FOUND;
+        };
+        return label + " with id: " + id;
+    }
+
+    // ---------------- Concurrency ----------------
+
+    /**
+     * Rejects a write whose If-Match version no longer matches the stored row.
+     * A concurrent commit between this check and the flush is still caught by
+     * Hibernate's versioned UPDATE/DELETE.
+     */
+    private void checkVersion(AuditFields entity, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(entity.getVersion())) {
+            throw new PreconditionFailedException(AppConstants.ERR_VERSION_CONFLICT
+                    + " (expected version " + expectedVersion + ", current " + entity.getVersion() + ")");
+        }
+    }
+
+    // ---------------- Change Events ----------------
+
+    /**
+     * Publishes a change event for a mutated entity.
+     * Listeners bound to the transaction only see it after commit.
+     */
+    private void publishChange(EntityType type, Long id, ChangeOperation operation, AuditFields entity) {
+        Long version = entity != null ? entity.getVersion() : null;
+        eventPublisher.publishEvent(PortfolioChangeEvent.of(type, id, operation, version));
+    }
 }
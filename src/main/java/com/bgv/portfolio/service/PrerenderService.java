@@ -0,0 +1,121 @@
+package com.bgv.portfolio.service;
+
+import com.bgv.portfolio.event.ReadModelUpdatedEvent;
+import com.bgv.portfolio.export.PortfolioHtmlRenderer;
+import com.bgv.portfolio.service.ReadModelService.ReadModel;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds a pre-rendered HTML snapshot of the SPA in memory.
+ * Regenerated only when the read model changes; served for "/" and SPA routes
+ * so first meaningful paint does not depend on API latency.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PrerenderService {
+
+    private static final String INDEX_HTML = "static/index.html";
+    private static final String FALLBACK_TEMPLATE = """
+            <!doctype html>
+            <html lang="en">
+              <head>
+                <meta charset="UTF-8" />
+                <meta name="viewport" content="width=device-width, initial-scale=1.0" />
+                <title>Developer Portfolio</title>
+              </head>
+              <body>
+                <div id="root"></div>
+              </body>
+            </html>
+            """;
+
+    private final ReadModelService readModelService;
+    private final PortfolioHtmlRenderer htmlRenderer;
+
+    private final AtomicReference<PrerenderedPage> current = new AtomicReference<>();
+    private String template;
+
+    @PostConstruct
+    public void loadTemplate() {
+        ClassPathResource index = new ClassPathResource(INDEX_HTML);
+        if (index.exists()) {
+            try (InputStream is = index.getInputStream()) {
+                template = new String(is.readAllBytes(), StandardCharsets.UTF_8);
+                return;
+            } catch (IOException e) {
+                log.warn("Could not read {}, using fallback template: {}", INDEX_HTML, e.getMessage());
+            }
+        }
+        template = FALLBACK_TEMPLATE;
+    }
+
+    /**
+     * Returns the page for the current read model, rendering synchronously only if
+     * the background render has not caught up yet.
+     *
+     * @return the pre-rendered page, or null when there is no content to render
+     */
+    public PrerenderedPage getPage() {
+        ReadModel model = readModelService.getCurrent();
+        if (model == null) {
+            return null;
+        }
+        PrerenderedPage page = current.get();
+        return page != null && page.getVersion().equals(model.getVersion()) ? page : render(model);
+    }
+
+    /**
+     * Returns the unrendered SPA shell, used when there is no content yet.
+     *
+     * @return index.html (or a minimal fallback) as UTF-8 bytes
+     */
+    public byte[] getShell() {
+        return template.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @EventListener
+    public void onReadModelUpdated(ReadModelUpdatedEvent event) {
+        render(event.getReadModel());
+    }
+
+    private synchronized PrerenderedPage render(ReadModel model) {
+        PrerenderedPage existing = current.get();
+        if (existing != null && existing.getVersion().equals(model.getVersion())) {
+            return existing;
+        }
+        PrerenderedPage page = new PrerenderedPage(model.getVersion(),
+                htmlRenderer.render(template, model.getData(), model.getJson()), Instant.now());
+        current.set(page);
+        log.info("Pre-rendered portfolio HTML version {} ({} bytes)", model.getVersion(), page.getHtml().length);
+        return page;
+    }
+
+    /**
+     * Immutable pre-rendered document for one content version.
+     */
+    @Getter
+    public static final class PrerenderedPage {
+        private final String version;
+        private final byte[] html;
+        private final Instant generatedAt;
+
+        private PrerenderedPage(String version, byte[] html, Instant generatedAt) {
+            this.version = version;
+            this.html = html;
+            this.generatedAt = generatedAt;
+        }
+    }
+}
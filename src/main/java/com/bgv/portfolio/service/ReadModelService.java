@@ -0,0 +1,249 @@
+package com.bgv.portfolio.service;
+
+import com.bgv.portfolio.datasource.ReadRouting;
+import com.bgv.portfolio.event.ClusterInvalidationEvent;
+import com.bgv.portfolio.event.PortfolioChangeEvent;
+import com.bgv.portfolio.event.ReadModelUpdatedEvent;
+import com.bgv.portfolio.exception.ResourceNotFoundException;
+import com.bgv.portfolio.export.ResumeData;
+import com.bgv.portfolio.service.ReadModelSnapshotStore.StoredSnapshot;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Maintains the public read model (everything the public GET endpoints return)
+ * as one immutable snapshot keyed by a content hash.
+ * The snapshot is rebuilt on a background thread after changes commit, with bursts
+ * coalesced; derived artifacts (resume downloads, pre-rendered HTML) listen for
+ * {@link ReadModelUpdatedEvent} instead of each re-querying the database.
+ * <p>
+ * With {@code snapshot.enabled}, the last snapshot written by {@link ReadModelSnapshotStore} is
+ * served from boot until the database is up; the first rebuild then verifies it by version.
+ */
+@Service
+@Slf4j
+public class ReadModelService {
+
+    private final PortfolioService portfolioService;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long debounceMs;
+
+    private final AtomicReference<ReadModel> current = new AtomicReference<>();
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+    // Set while current holds a snapshot loaded from disk that the database has not confirmed yet
+    private volatile boolean servingSnapshot;
+    private final ScheduledExecutorService refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "read-model-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ReadModelService(PortfolioService portfolioService,
+                            ObjectMapper objectMapper,
+                            ApplicationEventPublisher eventPublisher,
+                            ReadModelSnapshotStore snapshotStore,
+                            @Value("${read-model.debounce-ms:500}") long debounceMs) {
+        this.portfolioService = portfolioService;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.debounceMs = debounceMs;
+        restore(snapshotStore.load());
+    }
+
+    /**
+     * Returns the current snapshot, building it synchronously only if none exists yet.
+     *
+     * @return the current read model, or null when there is no profile yet
+     */
+    public ReadModel getCurrent() {
+        ReadModel model = current.get();
+        return model != null ? model : refresh();
+    }
+
+    /**
+     * Returns the snapshot restored from disk while it is still unconfirmed by the database.
+     * Public reads are answered from it so they need not wait for the database layer.
+     *
+     * @return the restored snapshot, or null once the read model comes from the database
+     */
+    public ReadModel getUnverifiedSnapshot() {
+        return servingSnapshot ? current.get() : null;
+    }
+
+    /**
+     * The context has refreshed, so the database layer is up: verify a restored snapshot
+     * before runners (bootstrap import, warm-up) and readiness.
+     */
+    @EventListener(ApplicationStartedEvent.class)
+    public void onApplicationStarted() {
+        if (servingSnapshot) {
+            try {
+                refresh();
+            } catch (Exception e) {
+                log.error("Could not verify read model snapshot: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        scheduleRefresh(0);
+    }
+
+    /**
+     * Coalesces bursts of changes (e.g. batch writes, resume reloads) into one rebuild.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onChange(PortfolioChangeEvent event) {
+        scheduleRefresh(debounceMs);
+    }
+
+    /**
+     * Another instance committed a change, or this one may have missed some: rebuild from the database.
+     */
+    @EventListener
+    public void onClusterInvalidation(ClusterInvalidationEvent event) {
+        scheduleRefresh(event.isResync() ? 0 : debounceMs);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    private void scheduleRefresh(long delayMs) {
+        if (refreshScheduled.compareAndSet(false, true)) {
+            refresher.schedule(() -> {
+                refreshScheduled.set(false);
+                try {
+                    refresh();
+                } catch (Exception e) {
+                    log.error("Read model refresh failed: {}", e.getMessage(), e);
+                }
+            }, delayMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private synchronized ReadModel refresh() {
+        ResumeData data;
+        // Read from the primary: the rebuild follows a commit a replica may not have replayed yet
+        try {
+            data = ReadRouting.onPrimary(() -> ResumeData.builder()
+                    .profile(portfolioService.getProfile())
+                    .skills(portfolioService.getSkills())
+                    .projects(portfolioService.getProjects())
+                    .experiences(portfolioService.getExperiences())
+                    .education(portfolioService.getEducation())
+                    .build());
+        } catch (ResourceNotFoundException e) {
+            log.debug("No profile yet, read model is empty");
+            current.set(null);
+            servingSnapshot = false;
+            return null;
+        }
+
+        byte[] json = toJson(data);
+        String version = contentHash(json);
+        ReadModel existing = current.get();
+        if (servingSnapshot) {
+            if (existing.getVersion().equals(version)) {
+                log.info("Read model snapshot {} matches the database, switching over", version);
+            } else {
+                log.warn("Read model snapshot {} does not match the database (version {}), discarding it",
+                        existing.getVersion(), version);
+            }
+        }
+        if (existing != null && existing.getVersion().equals(version)) {
+            log.debug("Read model unchanged (version {})", version);
+            servingSnapshot = false;
+            return existing;
+        }
+
+        ReadModel model = new ReadModel(version, data, json, Instant.now());
+        current.set(model);
+        servingSnapshot = false;
+        log.info("Read model rebuilt, version {}", version);
+        eventPublisher.publishEvent(new ReadModelUpdatedEvent(model));
+        return model;
+    }
+
+    private void restore(StoredSnapshot snapshot) {
+        if (snapshot == null) {
+            return;
+        }
+        byte[] json = new byte[snapshot.payload().remaining()];
+        snapshot.payload().get(json);
+        // The stamp is the content hash, so this also rejects a damaged file
+        if (!contentHash(json).equals(snapshot.version())) {
+            log.warn("Ignoring read model snapshot {}: content does not match its version", snapshot.version());
+            return;
+        }
+        try {
+            ResumeData data = objectMapper.readValue(json, ResumeData.class);
+            current.set(new ReadModel(snapshot.version(), data, json, snapshot.builtAt()));
+            servingSnapshot = true;
+            log.info("Serving public reads from read model snapshot {} (built {}) until the database is up",
+                    snapshot.version(), snapshot.builtAt());
+        } catch (IOException e) {
+            log.warn("Ignoring read model snapshot {}: {}", snapshot.version(), e.getMessage());
+        }
+    }
+
+    private byte[] toJson(ResumeData data) {
+        try {
+            return objectMapper.writeValueAsBytes(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize read model", e);
+        }
+    }
+
+    private String contentHash(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return HexFormat.of().formatHex(digest, 0, 12);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Immutable snapshot of the public read model.
+     */
+    @Getter
+    public static final class ReadModel {
+        private final String version;
+        private final ResumeData data;
+        private final byte[] json;
+        private final Instant builtAt;
+
+        private ReadModel(String version, ResumeData data, byte[] json, Instant builtAt) {
+            this.version = version;
+            this.data = data;
+            this.json = json;
+            this.builtAt = builtAt;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.bgv.portfolio.service;
+
+import com.bgv.portfolio.event.ReadModelUpdatedEvent;
+import com.bgv.portfolio.service.ReadModelService.ReadModel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+
+/**
+ * Keeps the last public read model in a local file, so a restarting instance can answer
+ * public reads before its database layer is up.
+ * <p>
+ * The file is rewritten (write to a temp file, then atomic rename) whenever the read model
+ * changes, and memory-mapped at boot. Layout: magic, format, build time, the read model's
+ * content-hash version as the stamp, then the JSON payload. The stamp lets the reader reject
+ * a torn or corrupted file, and lets {@link ReadModelService} detect a snapshot that no longer
+ * matches the database (e.g. after a restore) once it can compare.
+ * <p>
+ * The path must be on a persistent volume, and the snapshot only serves requests that reach the
+ * instance before it reports ready: a platform that routes traffic only after
+ * {@code /api/health/ready} (i.e. after warm-up) never sends any.
+ */
+@Component
+@Slf4j
+public class ReadModelSnapshotStore {
+
+    private static final int MAGIC = 0x50524D53; // "PRMS"
+    private static final int FORMAT = 1;
+    private static final int MAX_STAMP_BYTES = 64;
+
+    private final boolean enabled;
+    private final Path path;
+
+    public ReadModelSnapshotStore(@Value("${snapshot.enabled:false}") boolean enabled,
+                                  @Value("${snapshot.path:}") String path) {
+        // No default location: a snapshot is only worth keeping on storage that outlives the instance
+        if (enabled && path.isBlank()) {
+            throw new IllegalArgumentException("snapshot.path must be set when snapshot.enabled is true");
+        }
+        this.enabled = enabled;
+        this.path = enabled ? Path.of(path) : null;
+    }
+
+    /**
+     * Maps the snapshot file, if there is a usable one.
+     *
+     * @return the stored snapshot, or null when disabled, missing or unreadable
+     */
+    public StoredSnapshot load() {
+        if (!enabled || !Files.isRegularFile(path)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < 18 || buffer.getInt() != MAGIC || buffer.getInt() != FORMAT) {
+                log.warn("Ignoring read model snapshot {}: not a snapshot file of this version", path);
+                return null;
+            }
+            Instant builtAt = Instant.ofEpochMilli(buffer.getLong());
+            int stampLength = buffer.getShort();
+            if (stampLength <= 0 || stampLength > MAX_STAMP_BYTES || buffer.remaining() < stampLength + 4) {
+                log.warn("Ignoring read model snapshot {}: truncated header", path);
+                return null;
+            }
+            byte[] stamp = new byte[stampLength];
+            buffer.get(stamp);
+            int payloadLength = buffer.getInt();
+            if (payloadLength != buffer.remaining()) {
+                log.warn("Ignoring read model snapshot {}: payload is {} bytes, header says {}",
+                        path, buffer.remaining(), payloadLength);
+                return null;
+            }
+            return new StoredSnapshot(new String(stamp, StandardCharsets.US_ASCII), builtAt, buffer.slice());
+        } catch (IOException e) {
+            log.warn("Could not read read model snapshot {}: {}", path, e.getMessage());
+            return null;
+        }
+    }
+
+    @EventListener
+    public void onReadModelUpdated(ReadModelUpdatedEvent event) {
+        if (enabled) {
+            write(event.getReadModel());
+        }
+    }
+
+    private void write(ReadModel model) {
+        byte[] stamp = model.getVersion().getBytes(StandardCharsets.US_ASCII);
+        byte[] json = model.getJson();
+        ByteBuffer header = ByteBuffer.allocate(4 + 4 + 8 + 2 + stamp.length + 4)
+                .putInt(MAGIC)
+                .putInt(FORMAT)
+                .putLong(model.getBuiltAt().toEpochMilli())
+                .putShort((short) stamp.length)
+                .put(stamp)
+                .putInt(json.length)
+                .flip();
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                ByteBuffer payload = ByteBuffer.wrap(json);
+                while (header.hasRemaining() || payload.hasRemaining()) {
+                    channel.write(new ByteBuffer[]{header, payload});
+                }
+                channel.force(true);
+            }
+            // Readers see either the old file or the new one, never a partial write
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("Wrote read model snapshot {} ({} bytes)", model.getVersion(), json.length);
+        } catch (IOException e) {
+            log.warn("Could not write read model snapshot {}: {}", path, e.getMessage());
+        }
+    }
+
+    /**
+     * A snapshot as found on disk; {@code payload} is a view of the mapped file.
+     */
+    public record StoredSnapshot(String version, Instant builtAt, ByteBuffer payload) {
+    }
+}
@@ -0,0 +1,86 @@
+package com.bgv.portfolio.service;
+
+import com.bgv.portfolio.event.ReadModelUpdatedEvent;
+import com.bgv.portfolio.exception.ResourceNotFoundException;
+import com.bgv.portfolio.export.ResumeMarkdownRenderer;
+import com.bgv.portfolio.export.ResumePdfRenderer;
+import com.bgv.portfolio.service.ReadModelService.ReadModel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Keeps pre-rendered resume artifacts (PDF and Markdown) in memory.
+ * Artifacts are keyed by the read model version and re-rendered on the read model
+ * refresh thread, so downloads never render on the request path.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ResumeExportService {
+
+    private final ReadModelService readModelService;
+    private final ResumePdfRenderer pdfRenderer;
+    private final ResumeMarkdownRenderer markdownRenderer;
+
+    private final AtomicReference<RenderedResume> current = new AtomicReference<>();
+
+    /**
+     * Returns the artifacts for the current read model, rendering synchronously only
+     * if the background render has not caught up yet (e.g. first request after startup).
+     *
+     * @return the rendered resume
+     */
+    public RenderedResume getResume() {
+        ReadModel model = readModelService.getCurrent();
+        if (model == null) {
+            throw new ResourceNotFoundException("Profile not found");
+        }
+        RenderedResume resume = current.get();
+        return resume != null && resume.getVersion().equals(model.getVersion()) ? resume : render(model);
+    }
+
+    @EventListener
+    public void onReadModelUpdated(ReadModelUpdatedEvent event) {
+        render(event.getReadModel());
+    }
+
+    private synchronized RenderedResume render(ReadModel model) {
+        RenderedResume existing = current.get();
+        if (existing != null && existing.getVersion().equals(model.getVersion())) {
+            return existing;
+        }
+        long start = System.nanoTime();
+        RenderedResume rendered = new RenderedResume(model.getVersion(),
+                pdfRenderer.render(model.getData()),
+                markdownRenderer.render(model.getData()).getBytes(StandardCharsets.UTF_8),
+                Instant.now());
+        current.set(rendered);
+        log.info("Rendered resume artifacts version {} in {} ms", model.getVersion(), (System.nanoTime() - start) / 1_000_000);
+        return rendered;
+    }
+
+    /**
+     * Immutable set of rendered artifacts for one content version.
+     */
+    @Getter
+    public static final class RenderedResume {
+        private final String version;
+        private final byte[] pdf;
+        private final byte[] markdown;
+        private final Instant generatedAt;
+
+        private RenderedResume(String version, byte[] pdf, byte[] markdown, Instant generatedAt) {
+            this.version = version;
+            this.pdf = pdf;
+            this.markdown = markdown;
+            this.generatedAt = generatedAt;
+        }
+    }
+}
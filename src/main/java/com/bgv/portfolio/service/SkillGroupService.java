@@ -0,0 +1,299 @@
+package com.bgv.portfolio.service;
+
+import com.bgv.portfolio.constants.AppConstants;
+import com.bgv.portfolio.datasource.ReadRouting;
+import com.bgv.portfolio.dto.SkillCategoryDTO;
+import com.bgv.portfolio.dto.SkillDTO;
+import com.bgv.portfolio.enums.ApiStatus;
+import com.bgv.portfolio.enums.EntityType;
+import com.bgv.portfolio.event.ClusterInvalidationEvent;
+import com.bgv.portfolio.event.PortfolioChangeEvent;
+import com.bgv.portfolio.exception.ResourceNotFoundException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Maintains the grouped skills view (category -> skills with counts and level distribution)
+ * served by {@code /api/skills/grouped}, so clients need not regroup the flat list.
+ * <p>
+ * The view is built once, then patched per committed skill change: the changed skill is
+ * re-read by id and moved between categories as needed, and only the categories it touched
+ * are re-encoded. Bulk changes (imports) and cluster resyncs rebuild it. All updates run on
+ * one background thread, so the view trails a commit by one primary-key read; requests get
+ * the pre-encoded response body and never touch the database.
+ */
+@Service
+@Slf4j
+public class SkillGroupService {
+
+    private final PortfolioService portfolioService;
+    private final ObjectMapper objectMapper;
+
+    // Only touched on the updater thread
+    private final Map<String, Group> groups = new HashMap<>();
+    private final Map<Long, String> categoryOf = new HashMap<>();
+
+    private volatile GroupedSkills current;
+    private final ExecutorService updater = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "skill-groups");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SkillGroupService(PortfolioService portfolioService, ObjectMapper objectMapper) {
+        this.portfolioService = portfolioService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Returns the current view, building it synchronously only if it does not exist yet.
+     *
+     * @return the grouped skills view
+     */
+    public GroupedSkills getGroupedSkills() {
+        GroupedSkills view = current;
+        if (view != null) {
+            return view;
+        }
+        try {
+            updater.submit(() -> {
+                if (current == null) {
+                    rebuild();
+                }
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while building grouped skills", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to build grouped skills", e.getCause());
+        }
+        return current;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        updater.execute(this::rebuild);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onChange(PortfolioChangeEvent event) {
+        apply(event);
+    }
+
+    @EventListener
+    public void onClusterInvalidation(ClusterInvalidationEvent event) {
+        if (event.isResync()) {
+            updater.execute(this::rebuild);
+        } else {
+            apply(event.getChange());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        updater.shutdownNow();
+    }
+
+    private void apply(PortfolioChangeEvent change) {
+        if (change.getEntityType() != EntityType.SKILL) {
+            return;
+        }
+        // Bulk changes carry no id
+        updater.execute(change.getId() != null ? () -> reload(change.getId()) : this::rebuild);
+    }
+
+    private void rebuild() {
+        try {
+            List<SkillDTO> skills = ReadRouting.onPrimary(portfolioService::getSkills);
+            groups.clear();
+            categoryOf.clear();
+            for (SkillDTO skill : skills) {
+                categoryOf.put(skill.getId(), skill.getCategory());
+                groups.computeIfAbsent(skill.getCategory(), Group::new).put(skill);
+            }
+            publish();
+            log.info("Grouped skills built: {} skills in {} categories", skills.size(), groups.size());
+        } catch (Exception e) {
+            log.error("Grouped skills rebuild failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Re-reads one skill and moves it into place; a skill that no longer exists is removed.
+     */
+    private void reload(Long id) {
+        if (current == null) {
+            // Not built yet; the first build reads every skill anyway
+            return;
+        }
+        try {
+            SkillDTO skill;
+            try {
+                skill = ReadRouting.onPrimary(() -> portfolioService.getSkillById(id));
+            } catch (ResourceNotFoundException e) {
+                skill = null;
+            }
+            String previous = skill != null ? categoryOf.put(id, skill.getCategory()) : categoryOf.remove(id);
+            Group old = previous != null ? groups.get(previous) : null;
+            if (old != null && (skill == null || !previous.equals(skill.getCategory()))) {
+                old.remove(id);
+                if (old.isEmpty()) {
+                    groups.remove(previous);
+                }
+            }
+            if (skill != null) {
+                groups.computeIfAbsent(skill.getCategory(), Group::new).put(skill);
+            }
+            publish();
+        } catch (Exception e) {
+            log.error("Grouped skills update for skill {} failed, rebuilding: {}", id, e.getMessage(), e);
+            rebuild();
+        }
+    }
+
+    /**
+     * Joins the categories' encoded JSON, re-encoding only those changed since the last publish.
+     * Categories are ordered by their first skill, which keeps the order of the resume document.
+     */
+    private void publish() {
+        List<Group> ordered = new ArrayList<>(groups.values());
+        ordered.sort(Comparator.comparing(Group::firstId));
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        data.write('[');
+        for (int i = 0; i < ordered.size(); i++) {
+            if (i > 0) {
+                data.write(',');
+            }
+            data.writeBytes(ordered.get(i).encoded());
+        }
+        data.write(']');
+        byte[] json = data.toByteArray();
+        current = new GroupedSkills(contentHash(json), json, Instant.now());
+    }
+
+    private String contentHash(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return HexFormat.of().formatHex(digest, 0, 12);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * The skills of one category, with its JSON cached until the category changes.
+     */
+    private final class Group {
+        private final String category;
+        private final TreeMap<Long, SkillDTO> skills = new TreeMap<>();
+        private byte[] encoded;
+
+        private Group(String category) {
+            this.category = category;
+        }
+
+        void put(SkillDTO skill) {
+            skills.put(skill.getId(), skill);
+            encoded = null;
+        }
+
+        void remove(Long id) {
+            skills.remove(id);
+            encoded = null;
+        }
+
+        boolean isEmpty() {
+            return skills.isEmpty();
+        }
+
+        Long firstId() {
+            return skills.firstKey();
+        }
+
+        byte[] encoded() {
+            if (encoded == null) {
+                Map<String, Integer> levels = new TreeMap<>();
+                for (SkillDTO skill : skills.values()) {
+                    String level = skill.getLevel() != null ? skill.getLevel() : AppConstants.SKILL_LEVEL_UNSPECIFIED;
+                    levels.merge(level, 1, Integer::sum);
+                }
+                SkillCategoryDTO dto = SkillCategoryDTO.builder()
+                        .category(category)
+                        .count(skills.size())
+                        .levels(levels)
+                        .skills(new ArrayList<>(skills.values()))
+                        .build();
+                try {
+                    encoded = objectMapper.writeValueAsBytes(dto);
+                } catch (JsonProcessingException e) {
+                    throw new IllegalStateException("Failed to serialize skill category " + category, e);
+                }
+            }
+            return encoded;
+        }
+    }
+
+    /**
+     * Immutable grouped skills view for one content version.
+     * The response envelope is pre-encoded up to its timestamp, which is added per request.
+     */
+    @Getter
+    public static final class GroupedSkills {
+        private final String version;
+        private final Instant builtAt;
+        @Getter(AccessLevel.NONE)
+        private final byte[] head;
+
+        private GroupedSkills(String version, byte[] data, Instant builtAt) {
+            this.version = version;
+            this.builtAt = builtAt;
+            byte[] open = ("{\"status\":\"" + ApiStatus.SUCCESS.getValue() + "\",\"data\":").getBytes(StandardCharsets.UTF_8);
+            byte[] close = ",\"timestamp\":\"".getBytes(StandardCharsets.UTF_8);
+            this.head = new byte[open.length + data.length + close.length];
+            System.arraycopy(open, 0, head, 0, open.length);
+            System.arraycopy(data, 0, head, open.length, data.length);
+            System.arraycopy(close, 0, head, open.length + data.length, close.length);
+        }
+
+        /**
+         * Completes the envelope, as {@code ApiResponse.success(data)} would serialize it.
+         *
+         * @return the full response body
+         */
+        public byte[] toResponseBody() {
+            byte[] tail = (DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(LocalDateTime.now()) + "\"}")
+                    .getBytes(StandardCharsets.UTF_8);
+            byte[] body = Arrays.copyOf(head, head.length + tail.length);
+            System.arraycopy(tail, 0, body, head.length, tail.length);
+            return body;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.bgv.portfolio.service;
+
+import com.bgv.portfolio.dto.StartupReportDTO;
+import com.bgv.portfolio.dto.StartupReportDTO.StartupStep;
+import com.bgv.portfolio.dto.StartupReportDTO.WarmupReport;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aot.AotDetector;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline.TimelineEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Measures startup: JVM start to ready, time to first served request, the warm-up
+ * phase, and (with startup.profiling=true) the slowest steps of the startup timeline.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StartupReportService {
+
+    private static final String BEAN_INSTANTIATE_STEP = "spring.beans.instantiate";
+    private static final int SLOWEST_STEP_COUNT = 25;
+
+    private final ApplicationStartup applicationStartup;
+
+    private final AtomicBoolean firstRequestSeen = new AtomicBoolean();
+    private volatile Long jvmToReadyMs;
+    private volatile Long contextStartupMs;
+    private volatile Long timeToFirstRequestMs;
+    private volatile String firstRequestPath;
+    private volatile boolean warmingUp;
+    private volatile WarmupReport warmupReport;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        jvmToReadyMs = sinceJvmStart();
+        contextStartupMs = event.getTimeTaken() != null ? event.getTimeTaken().toMillis() : null;
+        log.info("Startup: ready {} ms after JVM start (context {} ms, AOT {}, CDS {})",
+                jvmToReadyMs, contextStartupMs, AotDetector.useGeneratedArtifacts(), isCdsEnabled());
+    }
+
+    /**
+     * Records the first completed request. Later calls are a single volatile read.
+     *
+     * @param path the request path
+     */
+    public void recordRequest(String path) {
+        if (!firstRequestSeen.get() && firstRequestSeen.compareAndSet(false, true)) {
+            timeToFirstRequestMs = sinceJvmStart();
+            firstRequestPath = path;
+            log.info("Startup: first request ({}) served {} ms after JVM start", path, timeToFirstRequestMs);
+        }
+    }
+
+    public boolean isFirstRequestSeen() {
+        return firstRequestSeen.get();
+    }
+
+    /**
+     * Marks the start of the warm-up phase; its synthetic requests do not count as the first request.
+     */
+    public void warmupStarted() {
+        warmingUp = true;
+    }
+
+    public void warmupFinished(WarmupReport report) {
+        warmupReport = report;
+        warmingUp = false;
+    }
+
+    public boolean isWarmingUp() {
+        return warmingUp;
+    }
+
+    public StartupReportDTO getReport() {
+        StartupReportDTO.StartupReportDTOBuilder report = StartupReportDTO.builder()
+                .aotEnabled(AotDetector.useGeneratedArtifacts())
+                .cdsEnabled(isCdsEnabled())
+                .jvmToReadyMs(jvmToReadyMs)
+                .contextStartupMs(contextStartupMs)
+                .timeToFirstRequestMs(timeToFirstRequestMs)
+                .firstRequestPath(firstRequestPath)
+                .timelineRecorded(applicationStartup instanceof BufferingApplicationStartup)
+                .warmup(warmupReport);
+
+        if (applicationStartup instanceof BufferingApplicationStartup buffering) {
+            List<TimelineEvent> events = buffering.getBufferedTimeline().getEvents();
+            Map<String, Long> totals = new TreeMap<>();
+            for (TimelineEvent event : events) {
+                // Nested steps are inclusive of their children, so totals overlap by design
+                totals.merge(event.getStartupStep().getName(), event.getDuration().toMillis(), Long::sum);
+                String bean = beanName(event);
+                if (bean != null && event.getStartupStep().getName().equals(BEAN_INSTANTIATE_STEP)) {
+                    totals.merge("beans:" + beanCategory(bean), event.getDuration().toMillis(), Long::sum);
+                }
+            }
+            List<StartupStep> slowest = events.stream()
+                    .sorted(Comparator.comparing(TimelineEvent::getDuration).reversed())
+                    .limit(SLOWEST_STEP_COUNT)
+                    .map(event -> StartupStep.builder()
+                            .name(event.getStartupStep().getName())
+                            .bean(beanName(event))
+                            .durationMs(event.getDuration().toMillis())
+                            .build())
+                    .toList();
+            report.stepTotalsMs(new LinkedHashMap<>(totals)).slowestSteps(slowest);
+        }
+        return report.build();
+    }
+
+    private String beanName(TimelineEvent event) {
+        for (var tag : event.getStartupStep().getTags()) {
+            if ("beanName".equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return null;
+    }
+
+    private String beanCategory(String beanName) {
+        String name = beanName.toLowerCase();
+        if (name.contains("entitymanager") || name.contains("jpa") || name.contains("hibernate")
+                || name.contains("repository") || name.contains("datasource")) {
+            return "jpa";
+        }
+        if (name.contains("springdoc") || name.contains("openapi") || name.contains("swagger")) {
+            return "springdoc";
+        }
+        if (name.contains("security") || name.contains("filterchain") || name.contains("jwt")) {
+            return "security";
+        }
+        return "other";
+    }
+
+    private static long sinceJvmStart() {
+        return System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+    }
+
+    private static boolean isCdsEnabled() {
+        return ManagementFactory.getRuntimeMXBean().getInputArguments().stream()
+                .anyMatch(arg -> arg.startsWith("-XX:SharedArchiveFile"));
+    }
+}
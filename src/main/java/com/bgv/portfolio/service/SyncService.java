@@ -0,0 +1,142 @@
+package com.bgv.portfolio.service;
+
+import com.bgv.portfolio.dto.SyncResponseDTO;
+import com.bgv.portfolio.enums.ChangeOperation;
+import com.bgv.portfolio.event.PortfolioChangeEvent;
+import com.bgv.portfolio.mapper.PortfolioMapper;
+import com.bgv.portfolio.model.Tombstone;
+import com.bgv.portfolio.repository.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Delta sync for clients and edge caches that keep a copy of the portfolio.
+ * A sync token encodes a point in time; a sync returns the entities whose updated_at is
+ * after it, plus tombstones for entities deleted after it. The next token is set a little
+ * before "now" ({@code sync.overlap-ms}) so rows written by transactions that were still
+ * in flight, or not yet replayed on a read replica, are picked up by the next sync; clients
+ * apply results by id and version, so seeing a row twice is harmless.
+ */
+@Service
+@Slf4j
+public class SyncService {
+
+    private static final int TOKEN_RADIX = 36;
+
+    private final ProfileRepository profileRepository;
+    private final SkillRepository skillRepository;
+    private final ProjectRepository projectRepository;
+    private final ExperienceRepository experienceRepository;
+    private final EducationRepository educationRepository;
+    private final TombstoneRepository tombstoneRepository;
+    private final PortfolioMapper mapper;
+    private final Duration overlap;
+    private final Duration tombstoneRetention;
+
+    public SyncService(ProfileRepository profileRepository,
+                       SkillRepository skillRepository,
+                       ProjectRepository projectRepository,
+                       ExperienceRepository experienceRepository,
+                       EducationRepository educationRepository,
+                       TombstoneRepository tombstoneRepository,
+                       PortfolioMapper mapper,
+                       @Value("${sync.overlap-ms:30000}") long overlapMs,
+                       @Value("${sync.tombstone-retention-days:30}") long tombstoneRetentionDays) {
+        this.profileRepository = profileRepository;
+        this.skillRepository = skillRepository;
+        this.projectRepository = projectRepository;
+        this.experienceRepository = experienceRepository;
+        this.educationRepository = educationRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.mapper = mapper;
+        this.overlap = Duration.ofMillis(overlapMs);
+        this.tombstoneRetention = Duration.ofDays(tombstoneRetentionDays);
+    }
+
+    /**
+     * Returns the changes since a point in time, or the full dataset when {@code since} is
+     * null or older than the tombstone retention (deletions before that are no longer known).
+     */
+    @Transactional(readOnly = true)
+    public SyncResponseDTO sync(Instant since) {
+        Instant now = Instant.now();
+        String token = encodeToken(now.minus(overlap));
+        if (since == null || since.isBefore(now.minus(tombstoneRetention))) {
+            log.debug("Full sync (since={})", since);
+            return SyncResponseDTO.builder()
+                    .token(token)
+                    .full(true)
+                    .profiles(profileRepository.findAll().stream().map(mapper::toSummaryDto).toList())
+                    .skills(skillRepository.findAll().stream().map(mapper::toDto).toList())
+                    .projects(projectRepository.findAll().stream().map(mapper::toDto).toList())
+                    .experiences(experienceRepository.findAllWithEagerProjects().stream().map(mapper::toDto).toList())
+                    .education(educationRepository.findAll().stream().map(mapper::toDto).toList())
+                    .deleted(List.of())
+                    .build();
+        }
+
+        log.debug("Delta sync since {}", since);
+        return SyncResponseDTO.builder()
+                .token(token)
+                .full(false)
+                .profiles(profileRepository.findByUpdatedAtAfter(since).stream().map(mapper::toSummaryDto).toList())
+                .skills(skillRepository.findByUpdatedAtAfter(since).stream().map(mapper::toDto).toList())
+                .projects(projectRepository.findByUpdatedAtAfter(since).stream().map(mapper::toDto).toList())
+                .experiences(experienceRepository.findUpdatedAfterWithEagerProjects(since).stream().map(mapper::toDto).toList())
+                .education(educationRepository.findByUpdatedAtAfter(since).stream().map(mapper::toDto).toList())
+                .deleted(tombstoneRepository.findByDeletedAtAfter(since).stream().map(mapper::toDto).toList())
+                .build();
+    }
+
+    /**
+     * Decodes a sync token.
+     *
+     * @return the instant it stands for, or null if the token is malformed
+     */
+    public Instant decodeToken(String token) {
+        try {
+            return Instant.ofEpochMilli(Long.parseLong(token, TOKEN_RADIX));
+        } catch (NumberFormatException | DateTimeException e) {
+            return null;
+        }
+    }
+
+    private String encodeToken(Instant instant) {
+        return Long.toString(instant.toEpochMilli(), TOKEN_RADIX);
+    }
+
+    /**
+     * Records a tombstone in the deleting transaction, so it commits or rolls back with the delete.
+     * A deletion without an id (a whole table cleared) leaves one tombstone without an id for the type.
+     */
+    @EventListener
+    public void onChange(PortfolioChangeEvent event) {
+        if (event.getOperation() != ChangeOperation.DELETED) {
+            return;
+        }
+        tombstoneRepository.save(Tombstone.builder()
+                .entityType(event.getEntityType())
+                .entityId(event.getId())
+                .entityVersion(event.getVersion())
+                .deletedAt(event.getTimestamp())
+                .build());
+    }
+
+    @Scheduled(cron = "${sync.tombstone-purge-cron:0 30 3 * * *}")
+    @Transactional
+    public void purgeTombstones() {
+        int purged = tombstoneRepository.deleteByDeletedAtBefore(Instant.now().minus(tombstoneRetention));
+        if (purged > 0) {
+            log.info("Purged {} tombstones older than {} days", purged, tombstoneRetention.toDays());
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.bgv.portfolio.service;
+
+import com.bgv.portfolio.dto.EducationDTO;
+import com.bgv.portfolio.dto.ExperienceDTO;
+import com.bgv.portfolio.dto.ProjectDTO;
+import com.bgv.portfolio.dto.TimelineDTO;
+import com.bgv.portfolio.dto.TimelineEntryDTO;
+import com.bgv.portfolio.enums.EntityType;
+import com.bgv.portfolio.event.ReadModelUpdatedEvent;
+import com.bgv.portfolio.exception.ResourceNotFoundException;
+import com.bgv.portfolio.export.ResumeData;
+import com.bgv.portfolio.service.ReadModelService.ReadModel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Keeps the timeline (experience and education by date) and its derived metrics in memory.
+ * Built from the read model when it changes, and again when the date rolls over since
+ * ongoing entries count up to today; requests never parse durations or aggregate.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TimelineService {
+
+    private static final Comparator<TimelineEntryDTO> NEWEST_FIRST = Comparator
+            .comparing(TimelineEntryDTO::getStartDate, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(TimelineEntryDTO::getType)
+            .thenComparing(TimelineEntryDTO::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final ReadModelService readModelService;
+
+    private final AtomicReference<Timeline> current = new AtomicReference<>();
+
+    /**
+     * Returns the timeline for the current read model and today's date,
+     * building it synchronously only if the background build has not caught up yet.
+     *
+     * @return the timeline
+     */
+    public Timeline getTimeline() {
+        ReadModel model = readModelService.getCurrent();
+        if (model == null) {
+            throw new ResourceNotFoundException("Profile not found");
+        }
+        Timeline timeline = current.get();
+        return timeline != null && timeline.isFor(model, LocalDate.now()) ? timeline : build(model);
+    }
+
+    @EventListener
+    public void onReadModelUpdated(ReadModelUpdatedEvent event) {
+        build(event.getReadModel());
+    }
+
+    private synchronized Timeline build(ReadModel model) {
+        LocalDate today = LocalDate.now();
+        Timeline existing = current.get();
+        if (existing != null && existing.isFor(model, today)) {
+            return existing;
+        }
+        ResumeData data = model.getData();
+        List<TimelineEntryDTO> entries = new ArrayList<>();
+        for (ExperienceDTO experience : orEmpty(data.getExperiences())) {
+            entries.add(TimelineEntryDTO.builder()
+                    .type(EntityType.EXPERIENCE)
+                    .id(experience.getId())
+                    .title(experience.getRole())
+                    .organization(experience.getCompany())
+                    .duration(experience.getDuration())
+                    .startDate(experience.getStartDate())
+                    .endDate(experience.getEndDate())
+                    .build());
+        }
+        for (EducationDTO education : orEmpty(data.getEducation())) {
+            entries.add(TimelineEntryDTO.builder()
+                    .type(EntityType.EDUCATION)
+                    .id(education.getId())
+                    .title(education.getDegree())
+                    .organization(education.getInstitute())
+                    .duration(education.getDuration())
+                    .startDate(education.getStartDate())
+                    .endDate(education.getEndDate())
+                    .build());
+        }
+        entries.sort(NEWEST_FIRST);
+
+        YearMonth asOf = YearMonth.from(today);
+        List<int[]> experiencePeriods = new ArrayList<>();
+        Map<String, String> technologyNames = new LinkedHashMap<>();
+        Map<String, List<int[]>> technologyPeriods = new HashMap<>();
+        for (ExperienceDTO experience : orEmpty(data.getExperiences())) {
+            int[] period = period(experience.getStartDate(), experience.getEndDate(), asOf);
+            if (period == null) {
+                continue;
+            }
+            experiencePeriods.add(period);
+            for (ProjectDTO project : orEmpty(experience.getProjects())) {
+                for (String technology : technologies(project.getTechStack())) {
+                    String key = technology.toLowerCase(Locale.ROOT);
+                    technologyNames.putIfAbsent(key, technology);
+                    technologyPeriods.computeIfAbsent(key, k -> new ArrayList<>()).add(period);
+                }
+            }
+        }
+        Map<String, Integer> technologyMonths = new HashMap<>();
+        technologyPeriods.forEach((key, periods) -> technologyMonths.put(key, months(periods)));
+        Map<String, Double> technologyYears = new LinkedHashMap<>();
+        technologyNames.keySet().stream()
+                .sorted(Comparator.comparing((String key) -> -technologyMonths.get(key))
+                        .thenComparing(technologyNames::get, String.CASE_INSENSITIVE_ORDER))
+                .forEach(key -> technologyYears.put(technologyNames.get(key), years(technologyMonths.get(key))));
+
+        TimelineDTO dto = TimelineDTO.builder()
+                .entries(entries)
+                .experienceYears(years(months(experiencePeriods)))
+                .technologyYears(technologyYears)
+                .asOf(today)
+                .build();
+        Timeline timeline = new Timeline(model.getVersion(), today, dto);
+        current.set(timeline);
+        log.info("Timeline built for read model {}: {} entries, {} technologies",
+                model.getVersion(), entries.size(), technologyYears.size());
+        return timeline;
+    }
+
+    private static <T> Collection<T> orEmpty(Collection<T> items) {
+        return items != null ? items : List.of();
+    }
+
+    /**
+     * A date range as inclusive month indices, with an ongoing range ending at {@code asOf}.
+     *
+     * @return the period, or null when the start is unknown or in the future
+     */
+    static int[] period(LocalDate start, LocalDate end, YearMonth asOf) {
+        if (start == null) {
+            return null;
+        }
+        int from = monthIndex(YearMonth.from(start));
+        int to = monthIndex(end != null && YearMonth.from(end).isBefore(asOf) ? YearMonth.from(end) : asOf);
+        return to >= from ? new int[]{from, to} : null;
+    }
+
+    private static int monthIndex(YearMonth month) {
+        return month.getYear() * 12 + month.getMonthValue() - 1;
+    }
+
+    /**
+     * Months covered by the union of the periods, so overlapping roles are not counted twice.
+     */
+    static int months(List<int[]> periods) {
+        List<int[]> sorted = new ArrayList<>(periods);
+        sorted.sort(Comparator.comparingInt(period -> period[0]));
+        int total = 0;
+        int coveredUntil = Integer.MIN_VALUE;
+        for (int[] period : sorted) {
+            int from = Math.max(period[0], coveredUntil + 1);
+            if (period[1] >= from) {
+                total += period[1] - from + 1;
+                coveredUntil = period[1];
+            }
+        }
+        return total;
+    }
+
+    private static double years(int months) {
+        return Math.round(months / 12.0 * 10) / 10.0;
+    }
+
+    private static List<String> technologies(String techStack) {
+        if (techStack == null) {
+            return List.of();
+        }
+        List<String> technologies = new ArrayList<>();
+        for (String part : techStack.split(",")) {
+            String technology = part.trim();
+            if (!technology.isEmpty()) {
+                technologies.add(technology);
+            }
+        }
+        return technologies;
+    }
+
+    /**
+     * Immutable timeline for one read model version and date.
+     */
+    @Getter
+    public static final class Timeline {
+        private final String version;
+        private final String readModelVersion;
+        private final LocalDate asOf;
+        private final TimelineDTO timeline;
+
+        private Timeline(String readModelVersion, LocalDate asOf, TimelineDTO timeline) {
+            this.version = readModelVersion + "-" + asOf.format(DateTimeFormatter.BASIC_ISO_DATE);
+            this.readModelVersion = readModelVersion;
+            this.asOf = asOf;
+            this.timeline = timeline;
+        }
+
+        boolean isFor(ReadModel model, LocalDate date) {
+            return readModelVersion.equals(model.getVersion()) && asOf.equals(date);
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.bgv.portfolio.service;
+
+import com.bgv.portfolio.constants.AppConstants;
+import com.bgv.portfolio.dto.EventIngestResultDTO;
+import com.bgv.portfolio.dto.VisitorEventDTO;
+import com.bgv.portfolio.dto.VisitorEventStatsDTO;
+import com.bgv.portfolio.enums.EntityType;
+import com.bgv.portfolio.exception.TooManyRequestsException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Ingests client events (page views, opened projects) without a database write on the request path.
+ * <p>
+ * Requests only put events on a bounded lock-free ring ({@link EventRingBuffer}); when it is full
+ * the events are dropped and counted instead of slowing the request down. One writer thread drains
+ * the ring and inserts with multi-row INSERT statements of up to {@code events.flush-batch-size}
+ * rows, so sustained load costs one statement and one pooled connection per batch.
+ * <p>
+ * Events are checked here rather than by cascaded bean validation, which took most of a
+ * request's CPU time on a full batch; invalid events are skipped and counted.
+ * <p>
+ * The endpoint is public, so each client address gets a token bucket ({@link EventRateLimiter}) of
+ * {@code events.client-burst} events refilled at {@code events.client-rate-per-second}; a beacon
+ * over it is refused with 429. Events older than {@code events.retention-days} are purged nightly.
+ */
+@Service
+@Slf4j
+public class VisitorEventService {
+
+    private static final String INSERT_PREFIX = "INSERT INTO visitor_event "
+            + "(event_type, entity_type, entity_id, path, occurred_at, received_at) VALUES ";
+    private static final String ROW = "(?, ?, ?, ?, ?, ?)";
+    // The PostgreSQL protocol allows 32767 bind parameters per statement, six per row
+    private static final int MAX_FLUSH_BATCH_SIZE = 5000;
+    // visitor_event has no index on received_at, so the purge finds the first id to keep and deletes by id range
+    private static final String FIRST_KEPT_ID_SQL =
+            "SELECT id FROM visitor_event WHERE received_at >= ? ORDER BY id LIMIT 1";
+    private static final int PURGE_CHUNK_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EventRingBuffer<PendingEvent> buffer;
+    private final int flushBatchSize;
+    private final long flushIntervalNanos;
+    private final String fullBatchSql;
+    private final EventRateLimiter rateLimiter;
+    private final Duration retention;
+
+    private final LongAdder received = new LongAdder();
+    private final LongAdder invalid = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+
+    private volatile boolean running = true;
+    private Thread writer;
+
+    public VisitorEventService(JdbcTemplate jdbcTemplate,
+                               @Value("${events.buffer-size:65536}") int bufferSize,
+                               @Value("${events.flush-batch-size:1000}") int flushBatchSize,
+                               @Value("${events.flush-interval-ms:100}") long flushIntervalMs,
+                               @Value("${events.client-rate-per-second:20}") double clientRatePerSecond,
+                               @Value("${events.client-burst:1000}") int clientBurst,
+                               @Value("${events.client-max-tracked:100000}") int clientMaxTracked,
+                               @Value("${events.retention-days:90}") int retentionDays) {
+        if (flushBatchSize < 1 || flushBatchSize > MAX_FLUSH_BATCH_SIZE) {
+            throw new IllegalArgumentException("events.flush-batch-size must be between 1 and "
+                    + MAX_FLUSH_BATCH_SIZE + ", got " + flushBatchSize);
+        }
+        if (clientBurst < AppConstants.EVENTS_MAX_BATCH) {
+            throw new IllegalArgumentException("events.client-burst must be at least one full beacon ("
+                    + AppConstants.EVENTS_MAX_BATCH + " events), got " + clientBurst);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.buffer = new EventRingBuffer<>(bufferSize);
+        this.flushBatchSize = flushBatchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.fullBatchSql = insertSql(flushBatchSize);
+        this.rateLimiter = new EventRateLimiter(clientRatePerSecond, clientBurst, clientMaxTracked, System::nanoTime);
+        this.retention = Duration.ofDays(retentionDays);
+    }
+
+    @PostConstruct
+    public void start() {
+        writer = new Thread(this::drainLoop, "visitor-event-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Queues a beacon's events without blocking; invalid events are skipped
+     * and events that do not fit are dropped.
+     *
+     * @param client the sending client's address
+     * @param events the events
+     * @return how many were queued, skipped and dropped
+     * @throws TooManyRequestsException if the client is over its rate
+     */
+    public EventIngestResultDTO accept(String client, List<VisitorEventDTO> events) {
+        long waitNanos = rateLimiter.tryAcquire(client, events.size());
+        if (waitNanos > 0) {
+            received.add(events.size());
+            throttled.add(events.size());
+            throw new TooManyRequestsException(AppConstants.ERR_TOO_MANY_EVENTS,
+                    Math.max(1, (long) Math.ceil(waitNanos / (double) TimeUnit.SECONDS.toNanos(1))));
+        }
+        Instant now = Instant.now();
+        int accepted = 0;
+        int skipped = 0;
+        for (VisitorEventDTO event : events) {
+            if (!isValid(event)) {
+                skipped++;
+                continue;
+            }
+            PendingEvent pending = new PendingEvent(event.getType(), event.getEntityType(), event.getEntityId(),
+                    event.getPath(), event.getOccurredAt() != null ? event.getOccurredAt() : now, now);
+            if (buffer.offer(pending)) {
+                accepted++;
+            }
+        }
+        int rejected = events.size() - skipped - accepted;
+        received.add(events.size());
+        if (skipped > 0) {
+            invalid.add(skipped);
+        }
+        if (rejected > 0) {
+            dropped.add(rejected);
+        }
+        return EventIngestResultDTO.builder().accepted(accepted).invalid(skipped).dropped(rejected).build();
+    }
+
+    public VisitorEventStatsDTO getStats() {
+        return VisitorEventStatsDTO.builder()
+                .received(received.sum())
+                .invalid(invalid.sum())
+                .dropped(dropped.sum())
+                .written(written.sum())
+                .failed(failed.sum())
+                .throttled(throttled.sum())
+                .pending(buffer.size())
+                .capacity(buffer.capacity())
+                .build();
+    }
+
+    /**
+     * Forgets clients that have been quiet long enough to be back at a full burst.
+     */
+    @Scheduled(fixedDelayString = "${events.client-evict-interval-ms:60000}")
+    public void evictIdleClients() {
+        rateLimiter.evictIdle();
+    }
+
+    /**
+     * Deletes events received more than {@code events.retention-days} ago, a chunk of ids per statement
+     * so the purge never holds a long transaction against the writer.
+     */
+    @Scheduled(cron = "${events.purge-cron:0 45 3 * * *}")
+    public void purgeExpired() {
+        Instant cutoff = Instant.now().minus(retention);
+        List<Long> firstKept = jdbcTemplate.queryForList(FIRST_KEPT_ID_SQL, Long.class,
+                cutoff.atOffset(ZoneOffset.UTC));
+        Long minId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM visitor_event", Long.class);
+        if (minId == null) {
+            return;
+        }
+        // Ids rise with received_at (one writer, in arrival order), so every id before the first kept one is expired
+        long end = firstKept.isEmpty()
+                ? jdbcTemplate.queryForObject("SELECT MAX(id) FROM visitor_event", Long.class) + 1
+                : firstKept.get(0);
+        long purged = 0;
+        for (long from = minId; from < end; from += PURGE_CHUNK_SIZE) {
+            purged += jdbcTemplate.update("DELETE FROM visitor_event WHERE id >= ? AND id < ?",
+                    from, Math.min(from + PURGE_CHUNK_SIZE, end));
+        }
+        if (purged > 0) {
+            log.info("Purged {} visitor events older than {} days", purged, retention.toDays());
+        }
+    }
+
+    /**
+     * Stops the writer after it has written what is still queued.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    private void drainLoop() {
+        List<PendingEvent> batch = new ArrayList<>(flushBatchSize);
+        while (true) {
+            buffer.drainTo(batch, flushBatchSize);
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+            if (buffer.size() >= flushBatchSize) {
+                // Keep up under load: the next full batch is already waiting
+                continue;
+            }
+            if (!running) {
+                if (buffer.size() == 0) {
+                    return;
+                }
+                continue;
+            }
+            // Let a few more events gather rather than inserting them one statement each
+            LockSupport.parkNanos(flushIntervalNanos);
+        }
+    }
+
+    private void write(List<PendingEvent> batch) {
+        String sql = batch.size() == flushBatchSize ? fullBatchSql : insertSql(batch.size());
+        try {
+            jdbcTemplate.update(sql, ps -> {
+                int parameter = 1;
+                for (PendingEvent event : batch) {
+                    parameter = event.bind(ps, parameter);
+                }
+            });
+            written.add(batch.size());
+        } catch (Exception e) {
+            failed.add(batch.size());
+            log.error("Failed to write {} visitor events: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    private static boolean isValid(VisitorEventDTO event) {
+        if (event == null || event.getType() == null || event.getType().isBlank()) {
+            return false;
+        }
+        return event.getType().length() <= AppConstants.EVENT_TYPE_MAX_LENGTH
+                && (event.getPath() == null || event.getPath().length() <= AppConstants.EVENT_PATH_MAX_LENGTH);
+    }
+
+    private static String insertSql(int rows) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rows * (ROW.length() + 2)).append(INSERT_PREFIX);
+        for (int i = 0; i < rows; i++) {
+            sql.append(i > 0 ? ", " : "").append(ROW);
+        }
+        return sql.toString();
+    }
+
+    private record PendingEvent(String type, EntityType entityType, Long entityId, String path,
+                                Instant occurredAt, Instant receivedAt) {
+
+        int bind(PreparedStatement ps, int parameter) throws SQLException {
+            ps.setString(parameter++, type);
+            if (entityType != null) {
+                ps.setString(parameter++, entityType.name());
+            } else {
+                ps.setNull(parameter++, Types.VARCHAR);
+            }
+            if (entityId != null) {
+                ps.setLong(parameter++, entityId);
+            } else {
+                ps.setNull(parameter++, Types.BIGINT);
+            }
+            ps.setString(parameter++, path);
+            // Bound as OffsetDateTime, which the driver formats directly; setTimestamp builds a Calendar per value
+            ps.setObject(parameter++, occurredAt.atOffset(ZoneOffset.UTC), Types.TIMESTAMP_WITH_TIMEZONE);
+            ps.setObject(parameter++, receivedAt.atOffset(ZoneOffset.UTC), Types.TIMESTAMP_WITH_TIMEZONE);
+            return parameter;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+-- Baseline: the schema as previously created by Hibernate auto-DDL.
+-- Existing databases are baselined at this version and skip it (see FlywayConfig).
+
+CREATE TABLE IF NOT EXISTS admin_user (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username     VARCHAR(255) NOT NULL UNIQUE,
+    password     VARCHAR(255) NOT NULL,
+    email        VARCHAR(255) UNIQUE,
+    phone_number VARCHAR(255),
+    role         VARCHAR(255) NOT NULL CHECK (role IN ('ADMIN', 'EDITOR', 'VIEW'))
+);
+
+CREATE TABLE IF NOT EXISTS profile (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name       VARCHAR(255),
+    title      VARCHAR(255),
+    email      VARCHAR(255),
+    phone      VARCHAR(255),
+    location   VARCHAR(255),
+    github     VARCHAR(255),
+    linkedin   VARCHAR(255),
+    summary    VARCHAR(2000),
+    created_at TIMESTAMP(6) WITH TIME ZONE,
+    updated_at TIMESTAMP(6) WITH TIME ZONE,
+    created_by VARCHAR(255),
+    updated_by VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS skill (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name       VARCHAR(255),
+    level      VARCHAR(255),
+    category   VARCHAR(255),
+    created_at TIMESTAMP(6) WITH TIME ZONE,
+    updated_at TIMESTAMP(6) WITH TIME ZONE,
+    created_by VARCHAR(255),
+    updated_by VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS project (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name          VARCHAR(255),
+    description   VARCHAR(2000),
+    company_id    INTEGER,
+    github_url    VARCHAR(255),
+    live_demo_url VARCHAR(255),
+    tech_stack    VARCHAR(255),
+    highlight     VARCHAR(255) ARRAY,
+    created_at    TIMESTAMP(6) WITH TIME ZONE,
+    updated_at    TIMESTAMP(6) WITH TIME ZONE,
+    created_by    VARCHAR(255),
+    updated_by    VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS experience (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    company     VARCHAR(255),
+    role        VARCHAR(255),
+    duration    VARCHAR(255),
+    description VARCHAR(2000),
+    profile_id  BIGINT CONSTRAINT fk_experience_profile REFERENCES profile,
+    created_at  TIMESTAMP(6) WITH TIME ZONE,
+    updated_at  TIMESTAMP(6) WITH TIME ZONE,
+    created_by  VARCHAR(255),
+    updated_by  VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS experience_project (
+    experience_id BIGINT NOT NULL CONSTRAINT fk_experience_project_experience REFERENCES experience,
+    project_id    BIGINT NOT NULL CONSTRAINT fk_experience_project_project REFERENCES project,
+    PRIMARY KEY (experience_id, project_id)
+);
+
+CREATE TABLE IF NOT EXISTS education (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    institute  VARCHAR(255),
+    degree     VARCHAR(255),
+    cgpa       FLOAT(53),
+    percentage VARCHAR(255),
+    board      VARCHAR(255),
+    duration   VARCHAR(255),
+    profile_id BIGINT CONSTRAINT fk_education_profile REFERENCES profile,
+    created_at TIMESTAMP(6) WITH TIME ZONE,
+    updated_at TIMESTAMP(6) WITH TIME ZONE,
+    created_by VARCHAR(255),
+    updated_by VARCHAR(255)
+);
@@ -0,0 +1,20 @@
+-- Optimistic locking versions (AuditFields.version) and the change journal (ChangeJournalEntry),
+-- added to the baseline schema. IF NOT EXISTS: databases created by Hibernate auto-DDL after
+-- these entities were introduced already have them.
+
+ALTER TABLE profile ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE skill ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE project ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE experience ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE education ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
+
+CREATE TABLE IF NOT EXISTS change_journal (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    entity_type    VARCHAR(255) NOT NULL CHECK (entity_type IN ('PROFILE', 'SKILL', 'PROJECT', 'EXPERIENCE', 'EDUCATION')),
+    entity_id      BIGINT,
+    operation      VARCHAR(255) NOT NULL CHECK (operation IN ('CREATED', 'UPDATED', 'DELETED')),
+    entity_version BIGINT,
+    principal      VARCHAR(255) NOT NULL,
+    changes        TEXT,
+    recorded_at    TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
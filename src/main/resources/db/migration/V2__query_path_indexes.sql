@@ -0,0 +1,17 @@
+-- One index per repository query path. QueryPlanTest runs EXPLAIN for each of these paths.
+
+-- ProfileRepository.findByIdWithEagerLoading: LEFT JOIN FETCH experiences / educationList on profile_id
+CREATE INDEX IF NOT EXISTS idx_experience_profile_id ON experience (profile_id);
+CREATE INDEX IF NOT EXISTS idx_education_profile_id ON education (profile_id);
+
+-- ExperienceRepository.find*WithEagerProjects joins on experience_id (primary key prefix);
+-- project_id covers the reverse side, including FK checks when a project is deleted
+CREATE INDEX IF NOT EXISTS idx_experience_project_project_id ON experience_project (project_id);
+
+-- Projects are linked to experiences by company_id
+CREATE INDEX IF NOT EXISTS idx_project_company_id ON project (company_id);
+
+-- ChangeJournalRepository: by entity, by type, or by time range, newest first
+CREATE INDEX IF NOT EXISTS idx_change_journal_entity ON change_journal (entity_type, entity_id, recorded_at);
+CREATE INDEX IF NOT EXISTS idx_change_journal_type_recorded_at ON change_journal (entity_type, recorded_at);
+CREATE INDEX IF NOT EXISTS idx_change_journal_recorded_at ON change_journal (recorded_at);
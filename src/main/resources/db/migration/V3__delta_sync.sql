@@ -0,0 +1,18 @@
+-- Delta sync (GET /api/sync): range scans on updated_at, and tombstones for deleted entities
+
+CREATE INDEX IF NOT EXISTS idx_profile_updated_at ON profile (updated_at);
+CREATE INDEX IF NOT EXISTS idx_skill_updated_at ON skill (updated_at);
+CREATE INDEX IF NOT EXISTS idx_project_updated_at ON project (updated_at);
+CREATE INDEX IF NOT EXISTS idx_experience_updated_at ON experience (updated_at);
+CREATE INDEX IF NOT EXISTS idx_education_updated_at ON education (updated_at);
+
+-- One row per deleted entity, written in the deleting transaction and purged after the retention period
+CREATE TABLE IF NOT EXISTS tombstone (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    entity_type    VARCHAR(255) NOT NULL CHECK (entity_type IN ('PROFILE', 'SKILL', 'PROJECT', 'EXPERIENCE', 'EDUCATION')),
+    entity_id      BIGINT NOT NULL,
+    entity_version BIGINT,
+    deleted_at     TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_tombstone_deleted_at ON tombstone (deleted_at);
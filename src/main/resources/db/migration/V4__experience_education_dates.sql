@@ -0,0 +1,14 @@
+-- Structured date ranges for experience and education, derived from the free-text duration
+-- (Experience/Education.deriveDates on every write). end_date is NULL while a range is ongoing.
+
+ALTER TABLE experience ADD COLUMN IF NOT EXISTS start_date DATE;
+ALTER TABLE experience ADD COLUMN IF NOT EXISTS end_date DATE;
+ALTER TABLE education ADD COLUMN IF NOT EXISTS start_date DATE;
+ALTER TABLE education ADD COLUMN IF NOT EXISTS end_date DATE;
+
+-- Existing rows are backfilled from duration by the V4_1 Java migration (DateRange.parse)
+
+-- ExperienceRepository.findAllWithEagerProjects / EducationRepository.findAllNewestFirst:
+-- most recent first, undated last, read in index order instead of sorted per request
+CREATE INDEX IF NOT EXISTS idx_experience_start_date ON experience (start_date DESC NULLS LAST, id);
+CREATE INDEX IF NOT EXISTS idx_education_start_date ON education (start_date DESC NULLS LAST, id);
@@ -0,0 +1,13 @@
+-- Client events from POST /api/events, written in multi-row batches by VisitorEventService.
+-- Append-only with no secondary indexes, so each insert only touches the heap and the key;
+-- add indexes together with the queries that read this table
+
+CREATE TABLE IF NOT EXISTS visitor_event (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    event_type  VARCHAR(32) NOT NULL,
+    entity_type VARCHAR(255) CHECK (entity_type IN ('PROFILE', 'SKILL', 'PROJECT', 'EXPERIENCE', 'EDUCATION')),
+    entity_id   BIGINT,
+    path        VARCHAR(512),
+    occurred_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    received_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
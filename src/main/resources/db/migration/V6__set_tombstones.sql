@@ -0,0 +1,3 @@
+-- A tombstone without entity_id stands for every entity of its type as of deleted_at, left by
+-- POST /api/admin/import when it clears a table with one statement instead of row by row
+ALTER TABLE tombstone ALTER COLUMN entity_id DROP NOT NULL;
@@ -1,4 +0,0 @@
--- Admin user table is no longer needed
--- Credentials are hardcoded in AdminUserService.java
--- username: admin
--- password: admin
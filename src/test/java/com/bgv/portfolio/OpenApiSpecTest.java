@@ -0,0 +1,57 @@
+package com.bgv.portfolio;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Fails when src/main/resources/openapi/openapi.json no longer matches the controllers.
+ * Regenerate with gradle generateOpenApiSpec.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:openapi;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false",
+        "spring.sql.init.mode=never",
+        "springdoc.api-docs.enabled=true",
+        "jwt.secret=0000000000000000000000000000000000000000000000000000000000000000",
+        "jwt.expiration=60000"
+})
+@AutoConfigureMockMvc
+class OpenApiSpecTest {
+
+    private static final Path SPEC = Path.of("src/main/resources/openapi/openapi.json");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void checkedInSpecMatchesControllers() throws Exception {
+        String body = mockMvc.perform(get("/v3/api-docs")).andReturn().getResponse().getContentAsString();
+        ObjectNode generated = (ObjectNode) objectMapper.readTree(body);
+        // The server URL reflects the request host, not the API
+        generated.remove("servers");
+
+        if (Boolean.getBoolean("openapi.update")) {
+            Files.writeString(SPEC, objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(generated) + "\n");
+            return;
+        }
+
+        JsonNode checkedIn = objectMapper.readTree(SPEC.toFile());
+        assertEquals(checkedIn, generated, "OpenAPI spec is out of date; run gradle generateOpenApiSpec");
+    }
+}
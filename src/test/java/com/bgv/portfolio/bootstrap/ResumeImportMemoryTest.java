@@ -0,0 +1,186 @@
+package com.bgv.portfolio.bootstrap;
+
+import com.bgv.portfolio.service.SkillGroupService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Imports a generated resume document of several hundred thousand records over an existing
+ * dataset of the same size, and checks that retained heap grows neither with the rows cleared
+ * nor with the document. Runs in its own JVM with a small heap (gradle importMemoryTest), where
+ * an import that loaded the old rows, kept the document or its entities, or held per-record
+ * notifications until commit would fail with OutOfMemoryError.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = {
+        "warmup.enabled=false",
+        "cluster.invalidation.enabled=false",
+        "jwt.secret=0000000000000000000000000000000000000000000000000000000000000000",
+        "jwt.expiration=60000",
+        // The read model holds the whole portfolio by design; keep its rebuild after the first import out of the measurement
+        "read-model.debounce-ms=3600000"
+})
+class ResumeImportMemoryTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final int SKILL_CATEGORIES = 100;
+    private static final int SKILLS_PER_CATEGORY = 1_000;
+    private static final int EXPERIENCES = 100;
+    private static final int PROJECTS = 300_000;
+
+    // Retained heap may wobble by a few batches' worth, but must not track the record count
+    private static final long MAX_RETAINED_GROWTH_BYTES = 16L * 1024 * 1024;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private ResumeDataService resumeDataService;
+
+    // Likewise the grouped skills view, which would rebuild over 100k skills after each import
+    @MockitoBean
+    private SkillGroupService skillGroupService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void replacingLargeDatasetKeepsHeapFlat() throws Exception {
+        // The dataset to replace
+        resumeDataService.importUpload(new GeneratedDocument(), resumeDataService.startUpload(null));
+        assertEquals(PROJECTS, count("project"));
+        jdbcTemplate.update("DELETE FROM tombstone");
+
+        GeneratedDocument document = new GeneratedDocument();
+        ImportProgress progress = resumeDataService.startUpload(null);
+        long retainedBeforeClear = retainedHeap();
+        resumeDataService.importUpload(document, progress);
+
+        assertEquals(1, count("profile"));
+        assertEquals(PROJECTS, count("project"));
+        assertEquals(SKILL_CATEGORIES * SKILLS_PER_CATEGORY, count("skill"));
+        assertEquals(EXPERIENCES, count("experience WHERE profile_id IS NOT NULL"));
+        assertEquals(PROJECTS, count("experience_project"));
+        assertEquals(1L + SKILL_CATEGORIES * SKILLS_PER_CATEGORY + EXPERIENCES + PROJECTS, progress.getRecordCount());
+        assertEquals(document.bytes, progress.getBytesRead());
+        // One tombstone per cleared type (the document has no education) rather than one per row
+        assertEquals(4, count("tombstone WHERE entity_id IS NULL"));
+        assertEquals(0, count("tombstone WHERE entity_id IS NOT NULL"));
+
+        long clearGrowth = document.retainedAfterClear - retainedBeforeClear;
+        assertTrue(clearGrowth < MAX_RETAINED_GROWTH_BYTES, "retained heap grew by " + clearGrowth / 1024
+                + " KiB while clearing " + PROJECTS + " projects (" + retainedBeforeClear / 1024 + " KiB -> "
+                + document.retainedAfterClear / 1024 + " KiB)");
+        long growth = document.retainedAtEnd - document.retainedAtStart;
+        assertTrue(growth < MAX_RETAINED_GROWTH_BYTES, "retained heap grew by " + growth / 1024 + " KiB over "
+                + PROJECTS + " projects (" + document.retainedAtStart / 1024 + " KiB -> "
+                + document.retainedAtEnd / 1024 + " KiB)");
+    }
+
+    private long count(String from) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM " + from, Long.class);
+    }
+
+    private static long retainedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        memory.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * Produces the document piece by piece as it is read, measuring heap after a full GC when the
+     * first piece is read (the old data has been cleared by then) and when 10% and 90% of the
+     * projects have been handed to the importer.
+     */
+    private static final class GeneratedDocument extends InputStream {
+
+        private byte[] piece = new byte[0];
+        private int position;
+        private int next;
+        private long bytes;
+        private long retainedAfterClear;
+        private long retainedAtStart;
+        private long retainedAtEnd;
+
+        @Override
+        public int read() {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) < 0 ? -1 : one[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (position == piece.length) {
+                String text = nextPiece();
+                if (text == null) {
+                    return -1;
+                }
+                piece = text.getBytes(StandardCharsets.UTF_8);
+                position = 0;
+            }
+            int n = Math.min(length, piece.length - position);
+            System.arraycopy(piece, position, buffer, offset, n);
+            position += n;
+            bytes += n;
+            return n;
+        }
+
+        private String nextPiece() {
+            int index = next++;
+            if (index == 0) {
+                retainedAfterClear = retainedHeap();
+                return "{\"profile\":{\"name\":\"Seed Profile\",\"title\":\"Engineer\"},\"skills\":{";
+            }
+            index -= 1;
+            if (index < SKILL_CATEGORIES) {
+                StringBuilder category = new StringBuilder(index > 0 ? "," : "")
+                        .append("\"category ").append(index).append("\":[");
+                for (int i = 0; i < SKILLS_PER_CATEGORY; i++) {
+                    category.append(i > 0 ? "," : "").append("\"skill ").append(index).append('-').append(i).append('"');
+                }
+                return category.append(']').toString();
+            }
+            index -= SKILL_CATEGORIES;
+            if (index < EXPERIENCES) {
+                return (index == 0 ? "},\"experiences\":[" : ",")
+                        + "{\"id\":" + index + ",\"company\":\"company " + index + "\",\"role\":\"Engineer\","
+                        + "\"duration\":\"2020 - 2024\",\"description\":\"" + "Shipped things. ".repeat(10) + "\"}";
+            }
+            index -= EXPERIENCES;
+            if (index < PROJECTS) {
+                if (index == PROJECTS / 10) {
+                    retainedAtStart = retainedHeap();
+                } else if (index == PROJECTS * 9 / 10) {
+                    retainedAtEnd = retainedHeap();
+                }
+                return (index == 0 ? "],\"projects\":[" : ",")
+                        + "{\"name\":\"project " + index + "\",\"description\":\"" + "Built things. ".repeat(10) + "\","
+                        + "\"techStack\":\"Java, Postgres\",\"highlights\":[\"fast\",\"small\"],"
+                        + "\"companyId\":" + index % EXPERIENCES + "}";
+            }
+            return index == PROJECTS ? "]}" : null;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.bgv.portfolio.bootstrap;
+
+import com.bgv.portfolio.dto.ReloadSummaryDTO;
+import com.bgv.portfolio.enums.ChangeOperation;
+import com.bgv.portfolio.enums.EntityType;
+import com.bgv.portfolio.event.PortfolioChangeEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Reconciling the bundled resume.json with the database writes only what differs.
+ */
+@SpringBootTest(properties = {
+        "warmup.enabled=false",
+        "cluster.invalidation.enabled=false",
+        "jwt.secret=0000000000000000000000000000000000000000000000000000000000000000",
+        "jwt.expiration=60000"
+})
+@RecordApplicationEvents
+class ResumeReconcilerTest {
+
+    @Autowired
+    private ResumeDataService resumeDataService;
+
+    @Autowired
+    private ResumeImporter resumeImporter;
+
+    @Autowired
+    private ResumeReconciler resumeReconciler;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @Test
+    void secondReloadWritesNothing() throws Exception {
+        // The first reload undoes whatever other tests changed
+        resumeDataService.reloadFromClasspath();
+        events.clear();
+
+        ReloadSummaryDTO summary = resumeDataService.reloadFromClasspath();
+
+        assertEquals(Map.of(), summary.getInserted());
+        assertEquals(Map.of(), summary.getUpdated());
+        assertEquals(Map.of(), summary.getDeleted());
+        assertTrue(summary.getUnchanged() > 0);
+        assertEquals(0, events.stream(PortfolioChangeEvent.class).count());
+    }
+
+    @Test
+    void changedFieldUpdatesOnlyItsRow() throws Exception {
+        resumeDataService.reloadFromClasspath();
+        events.clear();
+
+        ResumeDocument document = bundledDocument();
+        document.getProfile().setTitle(document.getProfile().getTitle() + " (edited)");
+        ReloadSummaryDTO summary = transactionTemplate.execute(status -> resumeReconciler.reconcile(document));
+
+        assertEquals(Map.of(), summary.getInserted());
+        assertEquals(Map.of(EntityType.PROFILE.getValue(), 1), summary.getUpdated());
+        assertEquals(Map.of(), summary.getDeleted());
+        List<PortfolioChangeEvent> changes = events.stream(PortfolioChangeEvent.class).toList();
+        assertEquals(1, changes.size());
+        assertEquals(EntityType.PROFILE, changes.get(0).getEntityType());
+        assertEquals(ChangeOperation.UPDATED, changes.get(0).getOperation());
+
+        // Back to the bundled document: again one update
+        events.clear();
+        assertEquals(Map.of(EntityType.PROFILE.getValue(), 1), resumeDataService.reloadFromClasspath().getUpdated());
+        assertEquals(1, events.stream(PortfolioChangeEvent.class).count());
+    }
+
+    private ResumeDocument bundledDocument() throws Exception {
+        try (InputStream in = new ClassPathResource("resume.json").getInputStream()) {
+            return resumeImporter.readDocument(in);
+        }
+    }
+}
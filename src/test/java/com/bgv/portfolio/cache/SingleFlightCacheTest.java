@@ -0,0 +1,132 @@
+package com.bgv.portfolio.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SingleFlightCacheTest {
+
+    private static final int CALLERS = 16;
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<Runnable> scheduledRefreshes = new ArrayList<>();
+    private final SingleFlightCache<String, String> cache =
+            new SingleFlightCache<>("test", 1_000, 10_000, scheduledRefreshes::add, clock::get);
+
+    @Test
+    void concurrentMissesRunOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        CyclicBarrier start = new CyclicBarrier(CALLERS);
+        AtomicInteger calling = new AtomicInteger();
+        ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Thread> threads = new ArrayList<>();
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(callers.submit(() -> {
+                    synchronized (threads) {
+                        threads.add(Thread.currentThread());
+                    }
+                    start.await();
+                    calling.incrementAndGet();
+                    return cache.get("profile", () -> {
+                        loads.incrementAndGet();
+                        awaitQuietly(release);
+                        return "loaded";
+                    });
+                }));
+            }
+            // Release the loader only once every caller is parked: one in the loader, the rest waiting on it
+            awaitAllWaiting(threads, calling);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertEquals("loaded", result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, loads.get());
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void staleValueIsServedWhileOneRefreshRuns() {
+        AtomicInteger loads = new AtomicInteger();
+        assertEquals("v1", cache.get("skills", () -> "v" + loads.incrementAndGet()));
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1_500));
+        assertEquals("v1", cache.get("skills", () -> "v" + loads.incrementAndGet()));
+        assertEquals("v1", cache.get("skills", () -> "v" + loads.incrementAndGet()));
+        assertEquals(1, loads.get(), "stale reads must not load in the caller");
+
+        scheduledRefreshes.remove(0).run();
+        assertEquals(2, loads.get());
+        assertEquals("v2", cache.get("skills", () -> "v" + loads.incrementAndGet()));
+    }
+
+    @Test
+    void valueOlderThanStaleWindowIsLoadedInCaller() {
+        cache.get("projects", () -> "old");
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(11_001));
+
+        assertEquals("new", cache.get("projects", () -> "new"));
+        assertTrue(scheduledRefreshes.isEmpty());
+    }
+
+    @Test
+    void failedLoadIsNotCached() {
+        assertThrows(IllegalStateException.class, () -> cache.get("education", () -> {
+            throw new IllegalStateException("database down");
+        }));
+        assertEquals("ok", cache.get("education", () -> "ok"));
+    }
+
+    @Test
+    void invalidationMarksValueStale() {
+        cache.get("experience", () -> "before");
+        cache.invalidateAll();
+
+        assertEquals("before", cache.get("experience", () -> "after"));
+        scheduledRefreshes.remove(0).run();
+        assertEquals("after", cache.get("experience", () -> "unused"));
+    }
+
+    private static void awaitAllWaiting(List<Thread> threads, AtomicInteger calling) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            boolean allParked = calling.get() == CALLERS;
+            synchronized (threads) {
+                for (Thread thread : threads) {
+                    allParked &= thread.getState() == Thread.State.WAITING;
+                }
+            }
+            if (allParked) {
+                return;
+            }
+            Thread.sleep(5);
+        }
+        throw new AssertionError("callers did not all reach the cache");
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
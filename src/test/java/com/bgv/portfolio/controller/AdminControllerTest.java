@@ -0,0 +1,44 @@
+package com.bgv.portfolio.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Resume reload rewrites portfolio data, so only admins may trigger it.
+ */
+@SpringBootTest(properties = {
+        "warmup.enabled=false",
+        "cluster.invalidation.enabled=false",
+        "jwt.secret=0000000000000000000000000000000000000000000000000000000000000000",
+        "jwt.expiration=60000"
+})
+@AutoConfigureMockMvc
+class AdminControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void anonymousReloadIsForbidden() throws Exception {
+        mockMvc.perform(post("/api/admin/reload-resume")).andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "EDITOR")
+    void editorReloadIsForbidden() throws Exception {
+        mockMvc.perform(post("/api/admin/reload-resume")).andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void adminCanReload() throws Exception {
+        mockMvc.perform(post("/api/admin/reload-resume")).andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,165 @@
+package com.bgv.portfolio.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Conditional requests on the portfolio endpoints: ETags that follow nested records,
+ * and If-Match on writes. Runs as an admin, which bypasses the public read cache.
+ */
+@SpringBootTest(properties = {
+        "warmup.enabled=false",
+        "cluster.invalidation.enabled=false",
+        "jwt.secret=0000000000000000000000000000000000000000000000000000000000000000",
+        "jwt.expiration=60000"
+})
+@AutoConfigureMockMvc
+@WithMockUser(roles = "ADMIN")
+class PortfolioControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void unchangedProfileIsNotModified() throws Exception {
+        String eTag = mockMvc.perform(get("/api/profile")).andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/profile").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void nestedEditChangesProfileETag() throws Exception {
+        MvcResult profile = mockMvc.perform(get("/api/profile")).andExpect(status().isOk()).andReturn();
+        String eTag = profile.getResponse().getHeader(HttpHeaders.ETAG);
+        JsonNode experience = data(profile).path("experiences").get(0);
+
+        updateExperience(experience, "\"" + experience.get("version").asLong() + "\"")
+                .andExpect(status().isOk());
+
+        String newETag = mockMvc.perform(get("/api/profile").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(eTag, newETag);
+    }
+
+    @Test
+    void nestedEditChangesExperienceETag() throws Exception {
+        JsonNode withProjects = null;
+        for (JsonNode experience : data(mockMvc.perform(get("/api/experience")).andReturn())) {
+            if (!experience.path("projects").isEmpty()) {
+                withProjects = experience;
+                break;
+            }
+        }
+        assertTrue(withProjects != null, "seed data has an experience with projects");
+        String path = "/api/experience/" + withProjects.get("id").asLong();
+        String eTag = mockMvc.perform(get(path)).andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        ObjectNode project = (ObjectNode) withProjects.get("projects").get(0);
+        project.put("description", project.get("description").asText() + " Updated.");
+        mockMvc.perform(put("/api/projects/" + project.get("id").asLong())
+                        .header(HttpHeaders.IF_MATCH, "\"" + project.get("version").asLong() + "\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(project)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, eTag)).andExpect(status().isOk());
+    }
+
+    @Test
+    void aggregateETagIsAcceptedAsIfMatch() throws Exception {
+        JsonNode experience = firstExperience();
+        String eTag = mockMvc.perform(get("/api/experience/" + experience.get("id").asLong()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        updateExperience(experience, eTag).andExpect(status().isOk());
+    }
+
+    @Test
+    void writesWithoutIfMatchArePreconditionRequired() throws Exception {
+        JsonNode experience = firstExperience();
+        updateExperience(experience, null).andExpect(status().isPreconditionRequired());
+        mockMvc.perform(delete("/api/experience/" + experience.get("id").asLong()))
+                .andExpect(status().isPreconditionRequired());
+    }
+
+    @Test
+    void staleOrWeakIfMatchFails() throws Exception {
+        JsonNode experience = firstExperience();
+        long id = experience.get("id").asLong();
+        long version = experience.get("version").asLong();
+        String stale = "\"" + (version + 1) + "\"";
+
+        updateExperience(experience, stale).andExpect(status().isPreconditionFailed());
+        updateExperience(experience, "W/\"" + version + "\"").andExpect(status().isPreconditionFailed());
+        mockMvc.perform(delete("/api/experience/" + id).header(HttpHeaders.IF_MATCH, stale))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(delete("/api/experience/" + id).header(HttpHeaders.IF_MATCH, "W/\"" + version + "\""))
+                .andExpect(status().isPreconditionFailed());
+
+        // Nothing was written or deleted
+        assertEquals(version, data(mockMvc.perform(get("/api/experience/" + id)).andExpect(status().isOk())
+                .andReturn()).get("version").asLong());
+    }
+
+    @Test
+    void deleteWithCurrentVersionSucceeds() throws Exception {
+        JsonNode created = data(mockMvc.perform(post("/api/experience")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"company\":\"Acme\",\"role\":\"Engineer\",\"duration\":\"2020 - 2021\"}"))
+                .andExpect(status().isCreated()).andReturn());
+        String path = "/api/experience/" + created.get("id").asLong();
+
+        mockMvc.perform(delete(path).header(HttpHeaders.IF_MATCH, "\"" + created.get("version").asLong() + "\""))
+                .andExpect(status().isOk());
+        mockMvc.perform(get(path)).andExpect(status().isNotFound());
+    }
+
+    private JsonNode firstExperience() throws Exception {
+        return data(mockMvc.perform(get("/api/experience")).andReturn()).get(0);
+    }
+
+    private ResultActions updateExperience(JsonNode experience, String ifMatch)
+            throws Exception {
+        ObjectNode body = experience.deepCopy();
+        body.put("description", experience.path("description").asText() + " Updated.");
+        MockHttpServletRequestBuilder request = put("/api/experience/" + experience.get("id").asLong())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsBytes(body));
+        if (ifMatch != null) {
+            request.header(HttpHeaders.IF_MATCH, ifMatch);
+        }
+        return mockMvc.perform(request);
+    }
+
+    private JsonNode data(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsByteArray()).get("data");
+    }
+}
@@ -0,0 +1,57 @@
+package com.bgv.portfolio.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * GET /api/sync as an anonymous client: the token round trip and malformed tokens.
+ */
+@SpringBootTest(properties = {
+        "warmup.enabled=false",
+        "cluster.invalidation.enabled=false",
+        "jwt.secret=0000000000000000000000000000000000000000000000000000000000000000",
+        "jwt.expiration=60000"
+})
+@AutoConfigureMockMvc
+class SyncControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void tokenFromFullSyncGetsDelta() throws Exception {
+        JsonNode full = sync("/api/sync");
+        assertTrue(full.get("full").asBoolean());
+        String token = full.get("token").asText();
+        assertNotNull(token);
+
+        JsonNode delta = sync("/api/sync?since=" + token);
+        assertFalse(delta.get("full").asBoolean());
+        assertTrue(delta.has("deleted"));
+    }
+
+    @Test
+    void malformedTokenIsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/sync").param("since", "not a token")).andExpect(status().isBadRequest());
+    }
+
+    private JsonNode sync(String path) throws Exception {
+        byte[] body = mockMvc.perform(get(path)).andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        return objectMapper.readTree(body).get("data");
+    }
+}
@@ -0,0 +1,49 @@
+package com.bgv.portfolio.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DateRangeTest {
+
+    @ParameterizedTest(name = "\"{0}\" -> {1} .. {2}")
+    @CsvSource(nullValues = "null", delimiter = '|', textBlock = """
+            # numeric months
+            11/2022 - 10/2025        | 2022-11-01 | 2025-10-31
+            2/2024 - 2/2024          | 2024-02-01 | 2024-02-29
+            ' 06/2021   -  09/2022 ' | 2021-06-01 | 2022-09-30
+            01/2020 – 03/2021        | 2020-01-01 | 2021-03-31
+            01/2020 to 03/2021       | 2020-01-01 | 2021-03-31
+            # named months
+            Jan 2020 - Mar 2021      | 2020-01-01 | 2021-03-31
+            Sept 2019 - September 2020 | 2019-09-01 | 2020-09-30
+            feb. 2023 - DEC 2023     | 2023-02-01 | 2023-12-31
+            # years
+            2014 - 2015              | 2014-01-01 | 2015-12-31
+            2016 - 05/2017           | 2016-01-01 | 2017-05-31
+            # ongoing
+            02/2026 - Present        | 2026-02-01 | null
+            Mar 2024 - current       | 2024-03-01 | null
+            2021 - Now               | 2021-01-01 | null
+            # reversed ranges are not dates
+            10/2025 - 11/2022        | null       | null
+            2015 - 2014              | null       | null
+            # not a range
+            2014                     | null       | null
+            13/2020 - 01/2021        | null       | null
+            Foo 2020 - Mar 2021      | null       | null
+            ''                       | null       | null
+            """)
+    void parse(String duration, LocalDate start, LocalDate end) {
+        assertEquals(new DateRange(start, end), DateRange.parse(duration));
+    }
+
+    @Test
+    void nullIsUnknown() {
+        assertEquals(DateRange.UNKNOWN, DateRange.parse(null));
+    }
+}
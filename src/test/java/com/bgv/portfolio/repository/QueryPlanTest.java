@@ -0,0 +1,357 @@
+package com.bgv.portfolio.repository;
+
+import com.bgv.portfolio.enums.EntityType;
+import com.bgv.portfolio.model.Profile;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs every repository query path against the migrated schema with production-like row counts
+ * and EXPLAINs each statement it executes, with the SQL Hibernate generated and the values it bound.
+ * Fails if a path scans a table it filters sequentially, or if a full read the schema keeps an
+ * index for (idx_experience_start_date, idx_education_start_date) sorts instead of reading in index order.
+ * Tables a path only joins may be scanned when the planner finds that cheaper.
+ * <p>
+ * Plain findAll()/findById() and the export streams are left out: a full scan or a primary key lookup
+ * is the right plan there. Foreign key checks (experience_project.project_id when a project is deleted)
+ * run inside the server and cannot be EXPLAINed.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "warmup.enabled=false",
+        "cluster.invalidation.enabled=false",
+        "jwt.secret=0000000000000000000000000000000000000000000000000000000000000000",
+        "jwt.expiration=60000"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    // Every table's rows are spread evenly over 30 days of changes, from 2026-01-01
+    private static final String SPREAD = "TIMESTAMPTZ '2026-01-01' + interval '30 days' * i / ";
+    // A client that last synced a day ago
+    private static final Instant SYNC_SINCE = Instant.parse("2026-01-30T00:00:00Z");
+    private static final Instant TOMBSTONE_CUTOFF = Instant.parse("2026-01-02T00:00:00Z");
+    private static final Instant JOURNAL_FROM = Instant.parse("2026-01-20T00:00:00Z");
+    private static final Instant JOURNAL_TO = Instant.parse("2026-01-21T00:00:00Z");
+    private static final PageRequest JOURNAL_PAGE = PageRequest.of(0, 50, Sort.by(Sort.Order.desc("recordedAt"), Sort.Order.desc("id")));
+
+    private static final String[] SEED = {
+            "INSERT INTO profile (name, version, updated_at) SELECT 'profile ' || i, 0, " + SPREAD + "2000"
+                    + " FROM generate_series(1, 2000) i",
+            "INSERT INTO experience (company, profile_id, start_date, version, updated_at) "
+                    + "SELECT 'company ' || i, 1 + (i % 2000), CASE WHEN i % 50 = 0 THEN NULL "
+                    + "ELSE DATE '2000-01-01' + i % 9000 END, 0, " + SPREAD + "40000 FROM generate_series(1, 40000) i",
+            "INSERT INTO education (institute, profile_id, start_date, version, updated_at) "
+                    + "SELECT 'institute ' || i, 1 + (i % 2000), CASE WHEN i % 50 = 0 THEN NULL "
+                    + "ELSE DATE '1990-01-01' + i % 9000 END, 0, " + SPREAD + "20000 FROM generate_series(1, 20000) i",
+            "INSERT INTO project (name, company_id, version, updated_at) "
+                    + "SELECT 'project ' || i, 1 + (i % 40000), 0, " + SPREAD + "100000 FROM generate_series(1, 100000) i",
+            "INSERT INTO skill (name, version, updated_at) SELECT 'skill ' || i, 0, " + SPREAD + "20000"
+                    + " FROM generate_series(1, 20000) i",
+            "INSERT INTO experience_project (experience_id, project_id) "
+                    + "SELECT 1 + (i % 40000), i FROM generate_series(1, 100000) i ON CONFLICT DO NOTHING",
+            "INSERT INTO admin_user (username, password, role) "
+                    + "SELECT 'user' || i, 'x', 'VIEW' FROM generate_series(1, 5000) i",
+            "INSERT INTO change_journal (entity_type, entity_id, operation, principal, recorded_at) "
+                    + "SELECT (ARRAY['PROFILE','SKILL','PROJECT','EXPERIENCE','EDUCATION'])[1 + i % 5], i % 10000, "
+                    + "'UPDATED', 'admin', " + SPREAD + "300000 FROM generate_series(1, 300000) i",
+            "INSERT INTO tombstone (entity_type, entity_id, deleted_at) "
+                    + "SELECT 'SKILL', i, " + SPREAD + "50000 FROM generate_series(1, 50000) i",
+            "ANALYZE"
+    };
+
+    private static final List<JsonNode> PLANS = new ArrayList<>();
+    private static volatile boolean explaining;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private ExperienceRepository experienceRepository;
+
+    @Autowired
+    private EducationRepository educationRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private SkillRepository skillRepository;
+
+    @Autowired
+    private AdminUserRepository adminUserRepository;
+
+    @Autowired
+    private ChangeJournalRepository changeJournalRepository;
+
+    @Autowired
+    private TombstoneRepository tombstoneRepository;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        // Started here rather than by the extension: with one test instance per class the
+        // application context is created before the extension's beforeAll
+        POSTGRES.start();
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @BeforeAll
+    void seed() {
+        for (String sql : SEED) {
+            jdbcTemplate.execute(sql);
+        }
+    }
+
+    Stream<Arguments> queryPaths() {
+        return Stream.of(
+                indexed("ProfileRepository.findByIdWithEagerLoading",
+                        () -> profileRepository.findByIdWithEagerLoading(42L).orElseThrow().getEducationList().size(),
+                        "profile", "experience", "education"),
+                indexed("Profile.experiences and educationList (lazy load)", () -> {
+                    Profile profile = profileRepository.findById(42L).orElseThrow();
+                    profile.getExperiences().size();
+                    profile.getEducationList().size();
+                }, "profile", "experience", "education"),
+                indexed("ExperienceRepository.findByIdWithEagerProjects",
+                        () -> experienceRepository.findByIdWithEagerProjects(42L),
+                        "experience", "experience_project", "project"),
+                indexed("ExperienceRepository.linkProjectsByCompanyId",
+                        () -> experienceRepository.linkProjectsByCompanyId(42L, 4242, 0L), "project"),
+                indexed("AdminUserRepository.findByUsername",
+                        () -> adminUserRepository.findByUsername("user42"), "admin_user"),
+                indexed("AdminUserRepository.existsByUsername",
+                        () -> adminUserRepository.existsByUsername("user42"), "admin_user"),
+                indexed("ChangeJournalRepository.findByEntityTypeAndEntityIdAndRecordedAtBetween",
+                        () -> changeJournalRepository.findByEntityTypeAndEntityIdAndRecordedAtBetween(
+                                EntityType.SKILL, 42L, JOURNAL_FROM, JOURNAL_TO, JOURNAL_PAGE), "change_journal"),
+                indexed("ChangeJournalRepository.findByEntityTypeAndRecordedAtBetween",
+                        () -> changeJournalRepository.findByEntityTypeAndRecordedAtBetween(
+                                EntityType.SKILL, JOURNAL_FROM, JOURNAL_TO, JOURNAL_PAGE), "change_journal"),
+                indexed("ChangeJournalRepository.findByRecordedAtBetween",
+                        () -> changeJournalRepository.findByRecordedAtBetween(JOURNAL_FROM, JOURNAL_TO, JOURNAL_PAGE),
+                        "change_journal"),
+                indexed("ProfileRepository.findByUpdatedAtAfter",
+                        () -> profileRepository.findByUpdatedAtAfter(SYNC_SINCE), "profile"),
+                indexed("SkillRepository.findByUpdatedAtAfter",
+                        () -> skillRepository.findByUpdatedAtAfter(SYNC_SINCE), "skill"),
+                indexed("ProjectRepository.findByUpdatedAtAfter",
+                        () -> projectRepository.findByUpdatedAtAfter(SYNC_SINCE), "project"),
+                // A day of changes links thousands of projects: hashing experience_project and project
+                // is cheaper than probing them per experience, so only the delta itself must use an index
+                indexed("ExperienceRepository.findUpdatedAfterWithEagerProjects",
+                        () -> experienceRepository.findUpdatedAfterWithEagerProjects(SYNC_SINCE), "experience"),
+                // Education.profile is loaded by primary key in batches, which may scan the small profile table
+                indexed("EducationRepository.findByUpdatedAtAfter",
+                        () -> educationRepository.findByUpdatedAtAfter(SYNC_SINCE), "education"),
+                indexed("TombstoneRepository.findByDeletedAtAfter",
+                        () -> tombstoneRepository.findByDeletedAtAfter(SYNC_SINCE), "tombstone"),
+                indexed("TombstoneRepository.deleteByDeletedAtBefore",
+                        () -> tombstoneRepository.deleteByDeletedAtBefore(TOMBSTONE_CUTOFF), "tombstone"),
+                indexOrdered("ExperienceRepository.findAllWithEagerProjects", "experience",
+                        () -> experienceRepository.findAllWithEagerProjects()),
+                indexOrdered("EducationRepository.findAllNewestFirst", "education",
+                        () -> educationRepository.findAllNewestFirst())
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("queryPaths")
+    void queryPathUsesIndexes(String name, Runnable queryPath, Consumer<JsonNode> check) {
+        List<JsonNode> plans = explain(queryPath);
+        assertFalse(plans.isEmpty(), name + " ran no statements");
+        for (JsonNode plan : plans) {
+            check.accept(plan);
+        }
+    }
+
+    /**
+     * A path that selects some rows of the given tables: none of them may be scanned sequentially.
+     */
+    private static Arguments indexed(String name, Runnable queryPath, String... tables) {
+        return Arguments.of(name, queryPath, (Consumer<JsonNode>) plan -> {
+            List<String> seqScans = new ArrayList<>();
+            collect(plan, "Seq Scan", seqScans);
+            seqScans.retainAll(List.of(tables));
+            assertTrue(seqScans.isEmpty(), name + " scans " + seqScans + " sequentially:\n" + plan.toPrettyString());
+        });
+    }
+
+    /**
+     * A path that reads a whole table in an order an index provides: the table is read through that index
+     * and nothing is sorted.
+     */
+    private static Arguments indexOrdered(String name, String table, Runnable queryPath) {
+        return Arguments.of(name, queryPath, (Consumer<JsonNode>) plan -> {
+            List<String> sorts = new ArrayList<>();
+            collect(plan, "Sort", sorts);
+            List<String> seqScans = new ArrayList<>();
+            collect(plan, "Seq Scan", seqScans);
+            assertTrue(sorts.isEmpty() && !seqScans.contains(table),
+                    name + " does not read " + table + " in index order:\n" + plan.toPrettyString());
+        });
+    }
+
+    /**
+     * Runs the query path in a transaction that is rolled back, and returns the plans of its statements.
+     */
+    private List<JsonNode> explain(Runnable queryPath) {
+        synchronized (PLANS) {
+            PLANS.clear();
+        }
+        explaining = true;
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                queryPath.run();
+                status.setRollbackOnly();
+            });
+        } finally {
+            explaining = false;
+        }
+        synchronized (PLANS) {
+            return new ArrayList<>(PLANS);
+        }
+    }
+
+    private static void collect(JsonNode node, String nodeType, List<String> found) {
+        if (nodeType.equals(node.path("Node Type").asText())) {
+            found.add(node.path("Relation Name").asText(node.path("Sort Key").toString()));
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collect(child, nodeType, found);
+        }
+    }
+
+    @TestConfiguration
+    static class ExplainConfig {
+
+        /**
+         * Wraps the DataSource so that, while a query path runs, every prepared statement is first
+         * EXPLAINed on the same connection with the same parameters.
+         */
+        @Bean
+        static BeanPostProcessor explainingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? wrap(DataSource.class, dataSource, (method, args, result) ->
+                            "getConnection".equals(method.getName())
+                                    ? wrap(Connection.class, (Connection) result, QueryPlanTest::onConnectionCall)
+                                    : result) : bean;
+                }
+            };
+        }
+    }
+
+    private static Object onConnectionCall(Method method, Object[] args, Object result) {
+        if (!"prepareStatement".equals(method.getName())) {
+            return result;
+        }
+        PreparedStatement statement = (PreparedStatement) result;
+        String sql = (String) args[0];
+        List<Object[]> bindings = new ArrayList<>();
+        return wrap(PreparedStatement.class, statement, (Method call, Object[] callArgs, Object callResult) -> callResult,
+                (call, callArgs) -> {
+                    if (call.getName().startsWith("set") && callArgs != null && callArgs.length >= 2
+                            && callArgs[0] instanceof Integer) {
+                        bindings.add(new Object[]{call, callArgs});
+                    } else if ("clearParameters".equals(call.getName())) {
+                        bindings.clear();
+                    } else if (explaining && EXECUTE_METHODS.contains(call.getName())
+                            && (callArgs == null || callArgs.length == 0)) {
+                        explainStatement(statement.getConnection(), sql, bindings);
+                    }
+                });
+    }
+
+    private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery", "executeUpdate", "executeLargeUpdate");
+
+    private static void explainStatement(Connection connection, String sql, List<Object[]> bindings) throws Exception {
+        try (PreparedStatement explain = connection.prepareStatement("EXPLAIN (FORMAT JSON) " + sql)) {
+            for (Object[] binding : bindings) {
+                ((Method) binding[0]).invoke(explain, (Object[]) binding[1]);
+            }
+            try (ResultSet rs = explain.executeQuery()) {
+                rs.next();
+                JsonNode plan = MAPPER.readTree(rs.getString(1)).get(0).get("Plan");
+                synchronized (PLANS) {
+                    PLANS.add(plan);
+                }
+            }
+        }
+    }
+
+    private interface AfterCall {
+        Object apply(Method method, Object[] args, Object result) throws Exception;
+    }
+
+    private interface BeforeCall {
+        void accept(Method method, Object[] args) throws Exception;
+    }
+
+    private static <T> T wrap(Class<T> type, T target, AfterCall after) {
+        return wrap(type, target, after, (method, args) -> {
+        });
+    }
+
+    private static <T> T wrap(Class<T> type, T target, AfterCall after, BeforeCall before) {
+        return type.cast(Proxy.newProxyInstance(QueryPlanTest.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    before.accept(method, args);
+                    try {
+                        return after.apply(method, args, method.invoke(target, args));
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                }));
+    }
+}
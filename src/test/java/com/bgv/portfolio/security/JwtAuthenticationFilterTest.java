@@ -0,0 +1,49 @@
+package com.bgv.portfolio.security;
+
+import com.bgv.portfolio.constants.AppConstants;
+import com.bgv.portfolio.enums.Role;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Roles granted for bearer tokens, including the read-only token the warm-up runner mints.
+ */
+@SpringBootTest(properties = {
+        "warmup.enabled=false",
+        "cluster.invalidation.enabled=false",
+        "jwt.secret=0000000000000000000000000000000000000000000000000000000000000000",
+        "jwt.expiration=60000"
+})
+@AutoConfigureMockMvc
+class JwtAuthenticationFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Test
+    void viewTokenReadsButIsNotAdmin() throws Exception {
+        String token = jwtUtil.generateToken("warmup", Role.VIEW);
+
+        mockMvc.perform(get("/api/skills").header(AppConstants.AUTH_HEADER, AppConstants.BEARER_PREFIX + token))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/admin/startup").header(AppConstants.AUTH_HEADER, AppConstants.BEARER_PREFIX + token))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void tokenWithoutRoleIsAdmin() throws Exception {
+        String token = jwtUtil.generateToken("admin");
+
+        mockMvc.perform(get("/api/admin/startup").header(AppConstants.AUTH_HEADER, AppConstants.BEARER_PREFIX + token))
+                .andExpect(status().isOk());
+    }
+}
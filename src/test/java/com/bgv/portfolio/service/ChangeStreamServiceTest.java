@@ -0,0 +1,146 @@
+package com.bgv.portfolio.service;
+
+import com.bgv.portfolio.enums.ChangeOperation;
+import com.bgv.portfolio.enums.EntityType;
+import com.bgv.portfolio.event.PortfolioChangeEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChangeStreamServiceTest {
+
+    private static final int BUFFER_SIZE = 4;
+    private static final long TIMEOUT_MS = 5_000;
+
+    private final List<TestEmitter> nextEmitters = new ArrayList<>();
+    private final ChangeStreamService service = new ChangeStreamService(BUFFER_SIZE, 60_000, 2) {
+        @Override
+        SseEmitter newEmitter(long timeoutMs) {
+            return nextEmitters.remove(0);
+        }
+    };
+
+    @AfterEach
+    void shutdown() {
+        service.shutdown();
+    }
+
+    @Test
+    void slowSubscriberIsDisconnectedWhileOthersKeepReceiving() {
+        TestEmitter stuck = subscribe(new TestEmitter(new CountDownLatch(1)));
+        TestEmitter client = subscribe(new TestEmitter(null));
+
+        // Published at the pace the client reads, so only the stuck subscriber falls behind
+        List<PortfolioChangeEvent> published = new ArrayList<>();
+        for (long id = 1; id <= 20; id++) {
+            PortfolioChangeEvent event = PortfolioChangeEvent.of(EntityType.SKILL, id, ChangeOperation.UPDATED, 0L);
+            published.add(event);
+            service.onChange(event);
+            await(() -> client.events().size() == published.size());
+        }
+
+        // The stuck subscriber holds one event in send and a full buffer, then overflows
+        assertInstanceOf(IllegalStateException.class, stuck.failure);
+        assertEquals(1, service.getSubscriberCount());
+        assertEquals(published, client.events());
+    }
+
+    @Test
+    void heartbeatReachesIdleSubscriber() {
+        TestEmitter client = subscribe(new TestEmitter(null));
+
+        service.heartbeat();
+
+        await(() -> client.sent.stream().anyMatch(data -> data.toString().contains("heartbeat")));
+        assertEquals(1, service.getSubscriberCount());
+    }
+
+    @Test
+    void heartbeatDisconnectsDeadSubscriber() {
+        TestEmitter dead = subscribe(new TestEmitter(null));
+        dead.broken = true;
+        TestEmitter client = subscribe(new TestEmitter(null));
+
+        service.heartbeat();
+
+        await(() -> dead.completed);
+        await(() -> service.getSubscriberCount() == 1);
+        await(() -> client.sent.stream().anyMatch(data -> data.toString().contains("heartbeat")));
+    }
+
+    private TestEmitter subscribe(TestEmitter emitter) {
+        nextEmitters.add(emitter);
+        service.subscribe();
+        return emitter;
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "condition not met within " + TIMEOUT_MS + " ms");
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Stands in for a client connection: records what is sent, optionally blocking each send
+     * until released (a client that never reads) or failing it (a dropped connection).
+     */
+    private static final class TestEmitter extends SseEmitter {
+
+        private final CountDownLatch release;
+        private final List<Object> sent = new CopyOnWriteArrayList<>();
+        private volatile boolean broken;
+        private volatile boolean completed;
+        private volatile Throwable failure;
+
+        private TestEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (broken) {
+                throw new IOException("Broken pipe");
+            }
+            if (release != null) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            builder.build().forEach(data -> sent.add(data.getData()));
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            failure = ex;
+            completed = true;
+        }
+
+        List<PortfolioChangeEvent> events() {
+            return sent.stream()
+                    .filter(PortfolioChangeEvent.class::isInstance)
+                    .map(PortfolioChangeEvent.class::cast)
+                    .toList();
+        }
+    }
+}
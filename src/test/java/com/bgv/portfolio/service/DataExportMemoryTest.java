@@ -0,0 +1,165 @@
+package com.bgv.portfolio.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Exports one million rows and checks that retained heap does not grow while doing so.
+ * Runs in its own JVM with a small heap (gradle exportMemoryTest), where an export that
+ * buffered rows or kept entities in the persistence context would fail with OutOfMemoryError.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = {
+        "warmup.enabled=false",
+        "cluster.invalidation.enabled=false",
+        "jwt.secret=0000000000000000000000000000000000000000000000000000000000000000",
+        "jwt.expiration=60000"
+})
+class DataExportMemoryTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final String UPDATED_AT = "TIMESTAMPTZ '2026-01-01' + (i || ' minutes')::interval";
+
+    // Seeded rows get contiguous ids, so each table's first seeded id plus an offset addresses them
+    private static final String FIRST_PROFILE = "(SELECT min(id) FROM profile WHERE name LIKE 'seed %')";
+    private static final String FIRST_EXPERIENCE = "(SELECT min(id) FROM experience WHERE company LIKE 'seed %')";
+    private static final String FIRST_PROJECT = "(SELECT min(id) FROM project WHERE name LIKE 'seed %')";
+
+    private static final String[] SEED = {
+            "INSERT INTO profile (name, version, updated_at) SELECT 'seed profile ' || i, 0, " + UPDATED_AT
+                    + " FROM generate_series(1, 1000) i",
+            "INSERT INTO skill (name, level, category, version, updated_at) "
+                    + "SELECT 'seed skill ' || i, 'Advanced', 'category ' || (i % 50), 0, " + UPDATED_AT
+                    + " FROM generate_series(1, 300000) i",
+            "INSERT INTO experience (company, role, duration, description, profile_id, version, updated_at) "
+                    + "SELECT 'seed company ' || i, 'Engineer', '2020 - 2024', repeat('Shipped things. ', 10), "
+                    + FIRST_PROFILE + " + i % 1000, 0, " + UPDATED_AT + " FROM generate_series(1, 100000) i",
+            "INSERT INTO project (name, description, tech_stack, version, updated_at) "
+                    + "SELECT 'seed project ' || i, repeat('Built things. ', 10), 'Java, Postgres', 0, " + UPDATED_AT
+                    + " FROM generate_series(1, 300000) i",
+            "INSERT INTO experience_project (experience_id, project_id) "
+                    + "SELECT " + FIRST_EXPERIENCE + " + i % 100000, " + FIRST_PROJECT + " + i - 1"
+                    + " FROM generate_series(1, 300000) i",
+            "INSERT INTO education (institute, degree, profile_id, version, updated_at) "
+                    + "SELECT 'seed institute ' || i, 'B.Tech', " + FIRST_PROFILE + " + i % 1000, 0, " + UPDATED_AT
+                    + " FROM generate_series(1, 100000) i",
+            "ANALYZE"
+    };
+
+    private static final long SEEDED_ROWS = 1_000L + 300_000 + 100_000 + 300_000 + 300_000 + 100_000;
+
+    // Retained heap may wobble by a few chunks' worth, but must not track the row count
+    private static final long MAX_RETAINED_GROWTH_BYTES = 16L * 1024 * 1024;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private DataExportService dataExportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void exportOfMillionRowsKeepsHeapFlat() throws Exception {
+        for (String sql : SEED) {
+            jdbcTemplate.execute(sql);
+        }
+        long expected = count("profile") + count("skill") + count("project") + count("experience")
+                + count("experience_project") + count("education");
+        assertTrue(expected >= SEEDED_ROWS, "seed produced " + expected + " rows");
+
+        HeapSamplingOutputStream out = new HeapSamplingOutputStream(expected);
+        long written = dataExportService.export(out);
+
+        assertEquals(expected, written);
+        assertEquals(expected, out.lines);
+        JsonNode lastLine = objectMapper.readTree(out.lastLine.toString(StandardCharsets.UTF_8));
+        assertEquals("education", lastLine.get("type").asText());
+        long growth = out.retainedAtEnd - out.retainedAtStart;
+        assertTrue(growth < MAX_RETAINED_GROWTH_BYTES, "retained heap grew by " + growth / 1024 + " KiB over "
+                + expected + " rows (" + out.retainedAtStart / 1024 + " KiB -> " + out.retainedAtEnd / 1024 + " KiB)");
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM " + table, Long.class);
+    }
+
+    /**
+     * Discards the export, counting lines and measuring heap after a full GC at
+     * 10% and 90% of the expected lines.
+     */
+    private static final class HeapSamplingOutputStream extends OutputStream {
+
+        private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        private final long startSample;
+        private final long endSample;
+        private final ByteArrayOutputStream lastLine = new ByteArrayOutputStream();
+        private final ByteArrayOutputStream currentLine = new ByteArrayOutputStream();
+        private long lines;
+        private long retainedAtStart;
+        private long retainedAtEnd;
+
+        private HeapSamplingOutputStream(long expectedLines) {
+            this.startSample = expectedLines / 10;
+            this.endSample = expectedLines * 9 / 10;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (b != '\n') {
+                currentLine.write(b);
+                return;
+            }
+            lines++;
+            lastLine.reset();
+            currentLine.writeTo(lastLine);
+            currentLine.reset();
+            if (lines == startSample) {
+                retainedAtStart = retainedHeap();
+            } else if (lines == endSample) {
+                retainedAtEnd = retainedHeap();
+            }
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            for (int i = offset; i < offset + length; i++) {
+                write(bytes[i]);
+            }
+        }
+
+        private long retainedHeap() {
+            memory.gc();
+            return memory.getHeapMemoryUsage().getUsed();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.bgv.portfolio.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void burstThenRate() {
+        EventRateLimiter limiter = new EventRateLimiter(10, 100, 10, clock::get);
+        assertEquals(0, limiter.tryAcquire("a", 100));
+
+        // Empty: 10 events take a second to come back
+        assertEquals(TimeUnit.SECONDS.toNanos(1), limiter.tryAcquire("a", 10));
+        advanceMillis(500);
+        assertEquals(0, limiter.tryAcquire("a", 5));
+        assertTrue(limiter.tryAcquire("a", 1) > 0);
+    }
+
+    @Test
+    void refusedRequestTakesNothing() {
+        EventRateLimiter limiter = new EventRateLimiter(10, 100, 10, clock::get);
+        assertEquals(0, limiter.tryAcquire("a", 60));
+        assertTrue(limiter.tryAcquire("a", 50) > 0);
+        assertEquals(0, limiter.tryAcquire("a", 40));
+    }
+
+    @Test
+    void refillStopsAtBurst() {
+        EventRateLimiter limiter = new EventRateLimiter(10, 100, 10, clock::get);
+        assertEquals(0, limiter.tryAcquire("a", 100));
+        advanceMillis(60_000);
+        assertEquals(0, limiter.tryAcquire("a", 100));
+        assertTrue(limiter.tryAcquire("a", 1) > 0);
+    }
+
+    @Test
+    void clientsHaveTheirOwnBuckets() {
+        EventRateLimiter limiter = new EventRateLimiter(10, 100, 10, clock::get);
+        assertEquals(0, limiter.tryAcquire("a", 100));
+        assertTrue(limiter.tryAcquire("a", 1) > 0);
+        assertEquals(0, limiter.tryAcquire("b", 100));
+    }
+
+    @Test
+    void newClientsAreRefusedWhileTableIsFull() {
+        EventRateLimiter limiter = new EventRateLimiter(10, 100, 2, clock::get);
+        assertEquals(0, limiter.tryAcquire("a", 1));
+        assertEquals(0, limiter.tryAcquire("b", 100));
+        assertTrue(limiter.tryAcquire("c", 1) > 0);
+        assertEquals(0, limiter.tryAcquire("a", 1));
+
+        // a refills within a second and is forgotten; b is still short
+        advanceMillis(1_000);
+        assertEquals(1, limiter.evictIdle());
+        assertEquals(1, limiter.trackedClients());
+        assertEquals(0, limiter.tryAcquire("c", 1));
+        assertTrue(limiter.tryAcquire("b", 100) > 0);
+    }
+
+    @Test
+    void rejectsNonPositiveLimits() {
+        assertThrows(IllegalArgumentException.class, () -> new EventRateLimiter(0, 100, 10, clock::get));
+        assertThrows(IllegalArgumentException.class, () -> new EventRateLimiter(10, 0, 10, clock::get));
+        assertThrows(IllegalArgumentException.class, () -> new EventRateLimiter(10, 100, 0, clock::get));
+    }
+
+    private void advanceMillis(long millis) {
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+}
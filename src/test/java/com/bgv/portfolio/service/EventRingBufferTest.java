@@ -0,0 +1,91 @@
+package com.bgv.portfolio.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventRingBufferTest {
+
+    private static final int PRODUCERS = 8;
+    private static final int PER_PRODUCER = 100_000;
+
+    @Test
+    void fullRingRejectsUntilDrained() {
+        EventRingBuffer<Integer> ring = new EventRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(ring.offer(i));
+        }
+        assertFalse(ring.offer(4));
+        assertEquals(4, ring.size());
+
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(2, ring.drainTo(drained, 2));
+        assertTrue(ring.offer(4));
+        assertTrue(ring.offer(5));
+        assertFalse(ring.offer(6));
+
+        assertEquals(4, ring.drainTo(drained, 10));
+        assertEquals(List.of(0, 1, 2, 3, 4, 5), drained);
+        assertEquals(0, ring.size());
+    }
+
+    @Test
+    void rejectsCapacityThatIsNotAPowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new EventRingBuffer<>(1000));
+    }
+
+    @Test
+    void concurrentProducersLoseNothingAndKeepTheirOrder() throws Exception {
+        EventRingBuffer<long[]> ring = new EventRingBuffer<>(1024);
+        CyclicBarrier start = new CyclicBarrier(PRODUCERS);
+        ExecutorService producers = Executors.newFixedThreadPool(PRODUCERS);
+        try {
+            List<Future<?>> done = new ArrayList<>();
+            for (int p = 0; p < PRODUCERS; p++) {
+                long producer = p;
+                done.add(producers.submit(() -> {
+                    start.await();
+                    for (long i = 0; i < PER_PRODUCER; i++) {
+                        // Spin on a full ring so every element eventually gets through
+                        while (!ring.offer(new long[]{producer, i})) {
+                            Thread.onSpinWait();
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            long[] next = new long[PRODUCERS];
+            List<long[]> batch = new ArrayList<>();
+            long received = 0;
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (received < (long) PRODUCERS * PER_PRODUCER) {
+                assertTrue(System.nanoTime() < deadline, "timed out after " + received + " elements");
+                batch.clear();
+                ring.drainTo(batch, 256);
+                for (long[] element : batch) {
+                    int producer = (int) element[0];
+                    assertEquals(next[producer]++, element[1], "out of order for producer " + producer);
+                }
+                received += batch.size();
+            }
+            for (Future<?> producer : done) {
+                producer.get(5, TimeUnit.SECONDS);
+            }
+            assertEquals(0, ring.size());
+        } finally {
+            producers.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.bgv.portfolio.service;
+
+import com.bgv.portfolio.constants.AppConstants;
+import com.bgv.portfolio.dto.BatchDeleteDTO;
+import com.bgv.portfolio.dto.BatchItemResult;
+import com.bgv.portfolio.dto.BatchRequest;
+import com.bgv.portfolio.dto.SkillDTO;
+import com.bgv.portfolio.enums.ApiStatus;
+import com.bgv.portfolio.enums.ChangeOperation;
+import com.bgv.portfolio.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Batch writes through {@link PortfolioService}: per-item failures, result order, and rollback
+ * of the whole batch. Each test writes its own skills, committed, so outcomes are read back as
+ * the next request would see them.
+ */
+@SpringBootTest(properties = {
+        "warmup.enabled=false",
+        "cluster.invalidation.enabled=false",
+        "jwt.secret=0000000000000000000000000000000000000000000000000000000000000000",
+        "jwt.expiration=60000"
+})
+class PortfolioServiceBatchTest {
+
+    @Autowired
+    private PortfolioService portfolioService;
+
+    @Test
+    void idNamedTwiceIsRejectedEverywhere() {
+        SkillDTO skill = addSkill("Duplicate");
+        List<BatchItemResult<SkillDTO>> results = portfolioService.batchSkills(BatchRequest.<SkillDTO>builder()
+                .update(List.of(renamed(skill, "Duplicate 1")))
+                .delete(List.of(new BatchDeleteDTO(skill.getId(), skill.getVersion())))
+                .build(), false);
+
+        assertEquals(2, results.size());
+        results.forEach(result -> assertError(result, AppConstants.ERR_DUPLICATE_BATCH_ID));
+        assertEquals("Duplicate", portfolioService.getSkillById(skill.getId()).getName());
+    }
+
+    @Test
+    void staleVersionFailsOnlyThatItem() {
+        SkillDTO stale = addSkill("Stale");
+        SkillDTO staleDelete = addSkill("Stale delete");
+        SkillDTO current = addSkill("Current");
+        SkillDTO staleCopy = renamed(stale, "Stale 1");
+        staleCopy.setVersion(stale.getVersion() + 1);
+
+        List<BatchItemResult<SkillDTO>> results = portfolioService.batchSkills(BatchRequest.<SkillDTO>builder()
+                .update(List.of(staleCopy, renamed(current, "Current 1")))
+                .delete(List.of(new BatchDeleteDTO(staleDelete.getId(), staleDelete.getVersion() + 1)))
+                .build(), false);
+
+        assertError(results.get(0), AppConstants.ERR_VERSION_CONFLICT + " (current " + stale.getVersion() + ")");
+        assertSuccess(results.get(1));
+        assertError(results.get(2), AppConstants.ERR_VERSION_CONFLICT + " (current " + staleDelete.getVersion() + ")");
+        assertEquals("Stale", portfolioService.getSkillById(stale.getId()).getName());
+        assertEquals("Current 1", portfolioService.getSkillById(current.getId()).getName());
+        portfolioService.getSkillById(staleDelete.getId());
+    }
+
+    @Test
+    void unversionedItemsAreRejectedWhenVersionIsRequired() {
+        SkillDTO updated = addSkill("Unversioned");
+        SkillDTO deleted = addSkill("Unversioned delete");
+        SkillDTO update = renamed(updated, "Unversioned 1");
+        update.setVersion(null);
+        BatchRequest<SkillDTO> request = BatchRequest.<SkillDTO>builder()
+                .update(List.of(update))
+                .delete(List.of(new BatchDeleteDTO(deleted.getId(), null)))
+                .build();
+
+        List<BatchItemResult<SkillDTO>> results = portfolioService.batchSkills(request, true);
+        results.forEach(result -> assertError(result, AppConstants.ERR_VERSION_REQUIRED));
+        assertEquals("Unversioned", portfolioService.getSkillById(updated.getId()).getName());
+        portfolioService.getSkillById(deleted.getId());
+
+        // The same items are applied when versions are optional
+        portfolioService.batchSkills(request, false).forEach(PortfolioServiceBatchTest::assertSuccess);
+        assertEquals("Unversioned 1", portfolioService.getSkillById(updated.getId()).getName());
+        assertThrows(ResourceNotFoundException.class, () -> portfolioService.getSkillById(deleted.getId()));
+    }
+
+    @Test
+    void resultsFollowRequestOrder() {
+        SkillDTO first = addSkill("Order 1");
+        SkillDTO second = addSkill("Order 2");
+        SkillDTO third = addSkill("Order 3");
+
+        List<BatchItemResult<SkillDTO>> results = portfolioService.batchSkills(BatchRequest.<SkillDTO>builder()
+                .create(List.of(skill("Order new 1"), skill("Order new 2")))
+                .update(List.of(renamed(second, "Order 2b"), renamed(first, "Order 1b")))
+                .delete(List.of(new BatchDeleteDTO(-1L, null), new BatchDeleteDTO(third.getId(), third.getVersion())))
+                .build(), false);
+
+        List<ChangeOperation> operations = results.stream().map(BatchItemResult::getOperation).toList();
+        assertEquals(List.of(ChangeOperation.CREATED, ChangeOperation.CREATED, ChangeOperation.UPDATED,
+                ChangeOperation.UPDATED, ChangeOperation.DELETED, ChangeOperation.DELETED), operations);
+        assertEquals(List.of(0, 1, 0, 1, 0, 1), results.stream().map(BatchItemResult::getIndex).toList());
+        assertEquals("Order new 1", results.get(0).getData().getName());
+        assertEquals("Order new 2", results.get(1).getData().getName());
+        assertEquals(second.getId(), results.get(2).getId());
+        assertEquals(first.getId(), results.get(3).getId());
+        assertError(results.get(4), "Skill not found with id: -1");
+        assertSuccess(results.get(5));
+    }
+
+    @Test
+    void failingWriteRollsBackWholeBatch() {
+        SkillDTO updated = addSkill("Rollback");
+        SkillDTO deleted = addSkill("Rollback delete");
+        long skillsBefore = portfolioService.getSkills().size();
+
+        // skill.name is VARCHAR(255): the update fails when the batch is flushed, after the create and the delete
+        BatchRequest<SkillDTO> request = BatchRequest.<SkillDTO>builder()
+                .create(List.of(skill("Rollback new")))
+                .update(List.of(renamed(updated, "x".repeat(300))))
+                .delete(List.of(new BatchDeleteDTO(deleted.getId(), deleted.getVersion())))
+                .build();
+        assertThrows(RuntimeException.class, () -> portfolioService.batchSkills(request, false));
+
+        assertEquals(skillsBefore, portfolioService.getSkills().size());
+        assertTrue(portfolioService.getSkills().stream().noneMatch(skill -> "Rollback new".equals(skill.getName())));
+        SkillDTO unchanged = portfolioService.getSkillById(updated.getId());
+        assertEquals("Rollback", unchanged.getName());
+        assertEquals(updated.getVersion(), unchanged.getVersion());
+        portfolioService.getSkillById(deleted.getId());
+    }
+
+    private SkillDTO addSkill(String name) {
+        return portfolioService.addSkill(skill(name));
+    }
+
+    private static SkillDTO skill(String name) {
+        return SkillDTO.builder().name(name).level("Advanced").category("Batch").build();
+    }
+
+    private static SkillDTO renamed(SkillDTO skill, String name) {
+        return SkillDTO.builder().id(skill.getId()).version(skill.getVersion())
+                .name(name).level(skill.getLevel()).category(skill.getCategory()).build();
+    }
+
+    private static void assertSuccess(BatchItemResult<SkillDTO> result) {
+        assertEquals(ApiStatus.SUCCESS.getValue(), result.getStatus(), result.getMessage());
+    }
+
+    private static void assertError(BatchItemResult<SkillDTO> result, String message) {
+        assertEquals(ApiStatus.ERROR.getValue(), result.getStatus());
+        assertEquals(message, result.getMessage());
+    }
+}
@@ -0,0 +1,107 @@
+package com.bgv.portfolio.service;
+
+import com.bgv.portfolio.dto.SkillDTO;
+import com.bgv.portfolio.dto.SyncResponseDTO;
+import com.bgv.portfolio.dto.TombstoneDTO;
+import com.bgv.portfolio.enums.EntityType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Delta sync against the seeded H2 database, with the default overlap (30 s) and tombstone
+ * retention (30 days).
+ */
+@SpringBootTest(properties = {
+        "warmup.enabled=false",
+        "cluster.invalidation.enabled=false",
+        "jwt.secret=0000000000000000000000000000000000000000000000000000000000000000",
+        "jwt.expiration=60000"
+})
+class SyncServiceTest {
+
+    private static final Duration OVERLAP = Duration.ofSeconds(30);
+
+    @Autowired
+    private SyncService syncService;
+
+    @Autowired
+    private PortfolioService portfolioService;
+
+    @Test
+    void tokenIsNowMinusOverlap() {
+        Instant before = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        String token = syncService.sync(null).getToken();
+        Instant after = Instant.now();
+
+        Instant decoded = syncService.decodeToken(token);
+        assertFalse(decoded.isBefore(before.minus(OVERLAP)), decoded + " before " + before.minus(OVERLAP));
+        assertFalse(decoded.isAfter(after.minus(OVERLAP)), decoded + " after " + after.minus(OVERLAP));
+        assertEquals(token, Long.toString(decoded.toEpochMilli(), 36));
+    }
+
+    @Test
+    void malformedTokenDecodesToNull() {
+        assertNull(syncService.decodeToken("not a token"));
+        assertNull(syncService.decodeToken(""));
+        // Too large for a long
+        assertNull(syncService.decodeToken("zzzzzzzzzzzzzzzzzz"));
+    }
+
+    @Test
+    void missingTokenGetsFullDataset() {
+        SyncResponseDTO full = syncService.sync(null);
+
+        assertTrue(full.isFull());
+        assertEquals(portfolioService.getSkills().size(), full.getSkills().size());
+        assertFalse(full.getProfiles().isEmpty());
+        assertTrue(full.getDeleted().isEmpty());
+    }
+
+    @Test
+    void tokenOlderThanRetentionGetsFullDataset() {
+        assertTrue(syncService.sync(Instant.now().minus(Duration.ofDays(31))).isFull());
+        assertFalse(syncService.sync(Instant.now().minus(Duration.ofDays(29))).isFull());
+    }
+
+    @Test
+    void deltaHasChangesAndTombstonesSinceToken() {
+        SkillDTO kept = addSkill("Sync kept");
+        SkillDTO deleted = addSkill("Sync deleted");
+        Instant since = Instant.now();
+        SkillDTO updated = portfolioService.updateSkill(kept.getId(),
+                SkillDTO.builder().name("Sync kept 1").level("Expert").category("Sync").build(), kept.getVersion());
+        portfolioService.deleteSkill(deleted.getId(), deleted.getVersion());
+
+        SyncResponseDTO delta = syncService.sync(since);
+
+        assertFalse(delta.isFull());
+        assertTrue(delta.getSkills().stream().anyMatch(skill -> skill.getId().equals(kept.getId())
+                && skill.getVersion().equals(updated.getVersion())));
+        assertTrue(delta.getSkills().stream().noneMatch(skill -> skill.getId().equals(deleted.getId())));
+        TombstoneDTO tombstone = delta.getDeleted().stream()
+                .filter(item -> deleted.getId().equals(item.getId()))
+                .findFirst().orElseThrow();
+        assertEquals(EntityType.SKILL, tombstone.getEntityType());
+        assertEquals(deleted.getVersion(), tombstone.getVersion());
+        assertFalse(tombstone.getDeletedAt().isBefore(since));
+
+        // Neither shows up once the client has synced past them
+        SyncResponseDTO later = syncService.sync(Instant.now());
+        assertTrue(later.getSkills().stream().noneMatch(skill -> skill.getId().equals(kept.getId())));
+        assertTrue(later.getDeleted().stream().noneMatch(item -> deleted.getId().equals(item.getId())));
+    }
+
+    private SkillDTO addSkill(String name) {
+        return portfolioService.addSkill(SkillDTO.builder().name(name).level("Advanced").category("Sync").build());
+    }
+}
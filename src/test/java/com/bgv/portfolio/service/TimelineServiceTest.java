@@ -0,0 +1,78 @@
+package com.bgv.portfolio.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class TimelineServiceTest {
+
+    private static final YearMonth AS_OF = YearMonth.of(2026, 3);
+
+    @Test
+    void periodCoversStartAndEndMonths() {
+        int[] period = period("2022-11-01", "2025-10-31");
+        assertEquals(36, period[1] - period[0] + 1);
+    }
+
+    @Test
+    void ongoingPeriodRunsToAsOf() {
+        assertArrayEquals(period("2026-02-01", "2026-03-31"), period("2026-02-01", null));
+    }
+
+    @Test
+    void periodEndingAfterAsOfIsCutAtAsOf() {
+        assertArrayEquals(period("2025-01-01", "2026-03-31"), period("2025-01-01", "2027-06-30"));
+    }
+
+    @Test
+    void unknownOrFutureStartHasNoPeriod() {
+        assertNull(period(null, "2025-10-31"));
+        assertNull(period("2026-04-01", null));
+    }
+
+    @Test
+    void overlappingPeriodsCountOnce() {
+        // Jan-Dec 2020 and Jul 2020-Jun 2021 cover Jan 2020-Jun 2021
+        assertEquals(18, TimelineService.months(List.of(
+                period("2020-01-01", "2020-12-31"),
+                period("2020-07-01", "2021-06-30"))));
+    }
+
+    @Test
+    void containedPeriodAddsNothing() {
+        assertEquals(24, TimelineService.months(List.of(
+                period("2019-01-01", "2020-12-31"),
+                period("2019-06-01", "2019-08-31"))));
+    }
+
+    @Test
+    void disjointPeriodsAddUpInAnyOrder() {
+        assertEquals(9, TimelineService.months(List.of(
+                period("2024-01-01", "2024-03-31"),
+                period("2021-06-01", "2021-11-30"))));
+    }
+
+    @Test
+    void ongoingPeriodOverlappingAnEndedOne() {
+        // Jun 2025-Oct 2025 ended, Sep 2025-now ongoing: Jun 2025-Mar 2026
+        assertEquals(10, TimelineService.months(List.of(
+                period("2025-09-01", null),
+                period("2025-06-01", "2025-10-31"))));
+    }
+
+    @Test
+    void noPeriodsIsZero() {
+        assertEquals(0, TimelineService.months(List.of()));
+    }
+
+    private static int[] period(String start, String end) {
+        return TimelineService.period(start != null ? LocalDate.parse(start) : null,
+                end != null ? LocalDate.parse(end) : null, AS_OF);
+    }
+}